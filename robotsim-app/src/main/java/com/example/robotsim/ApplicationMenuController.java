@@ -2,10 +2,9 @@ package com.example.robotsim;
 
 import javafx.application.Platform;
 import javafx.fxml.FXML;
-import javafx.scene.control.Alert;
 import javafx.scene.layout.AnchorPane;
 import javafx.stage.Stage;
-import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * The ApplicationMenuController class handles the logic for the application menu,
@@ -52,36 +51,23 @@ public class ApplicationMenuController {
     }
 
     /**
-     * Shows an alert for loading a file, retrieves the ArenaController, and loads arena configuration.
-     * In case of an error, an error alert is shown.
+     * Switches to the arena, retrieves the ArenaController, and loads the arena configuration in the background.
+     * The arena shows the progress, and an error alert if loading fails.
      */
     @FXML
     private void showFileAlert() {
-        try {
-            // Switch to the Arena scene
-            SceneSwitcher.switchToArenaScene(mainPane.getScene());
-
-            // Retrieve the ArenaController to access the arena configuration and elements
-            ArenaController arenaController = SceneSwitcher.getArenaController();
-
-            if (arenaController != null) {
-                // Initialize the ArenaFileHandler with robots, obstacles, and arena pane
-                ArenaFileHandler fileHandler = new ArenaFileHandler(arenaController.getRobots(), arenaController.getObstacles(), arenaController.getArenaPane(), arenaController);
+        // Switch to the Arena scene
+        SceneSwitcher.switchToArenaScene(mainPane.getScene());
 
-                // Load the arena configuration from the file
-                fileHandler.loadArena();
-            } else {
-                // Throw an error if ArenaController is not initialized
-                throw new NullPointerException("ArenaController is not initialized.");
-            }
+        // Retrieve the ArenaController to access the arena configuration and elements
+        ArenaController arenaController = SceneSwitcher.getArenaController();
 
-        } catch (IOException e) {
-            // Show an error dialog if loading the arena fails
-            Alert alert = new Alert(Alert.AlertType.ERROR);
-            alert.setTitle("Load Error");
-            alert.setHeaderText("Failed to Load Arena");
-            alert.setContentText("An error occurred while loading the arena: " + e.getMessage());
-            alert.showAndWait();  // Show the error alert
+        if (arenaController != null) {
+            // Load the arena configuration from the file in the background; the arena reports the outcome
+            arenaController.loadArena(Path.of(ArenaFileHandler.DEFAULT_FILE_PATH));
+        } else {
+            // Throw an error if ArenaController is not initialized
+            throw new NullPointerException("ArenaController is not initialized.");
         }
     }
 
@@ -0,0 +1,1330 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.ArenaSaver;
+import com.example.robotsim.core.ArenaSnapshotFormat;
+import com.example.robotsim.core.ArenaTextLoader;
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.ObstacleEntity;
+import com.example.robotsim.core.PhaseEvent;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.SimulationClock;
+import com.example.robotsim.core.SimulationEvents;
+import com.example.robotsim.core.SimulationMetrics;
+import com.example.robotsim.core.SimulationRecorder;
+import com.example.robotsim.core.SimulationReplay;
+import com.example.robotsim.core.TickProfiler;
+import com.example.robotsim.core.World;
+import com.example.robotsim.core.WorldListener;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.*;
+import javafx.scene.layout.GridPane;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.FileChooser;
+import javafx.stage.Stage;
+import javafx.util.Pair;
+
+import javax.management.JMException;
+
+import java.io.*;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The ArenaController class manages the arena in which robots and obstacles are placed.
+ * It provides functionality to add robots, control their animations, and manage obstacles.
+ */
+public class ArenaController {
+
+    private static final long TICK_MILLIS = 50;  // Length of one simulation tick
+    private static final int MAX_CATCH_UP_TICKS = 5;  // Ticks executed per frame at most before dropping backlog
+    private static final String SEED_PROPERTY = "robotsim.seed";  // System property fixing the master seed of a run
+    private static final int MAX_REPORTED_LINE_ERRORS = 10;  // Malformed lines listed after loading a file at most
+    private static final String AUTOSAVE_FILE_PATH = "autosave" + ArenaSnapshotFormat.EXTENSION;  // File the arena is autosaved to
+    private static final long AUTOSAVE_INTERVAL_MILLIS = 60_000;  // Simulated time between two autosaves
+    private static final String WORLD_SIZE_PROPERTY = "robotsim.worldSize";  // System property setting the world size, e.g. 5000x3000
+    private static final double ZOOM_STEP = 1.1;  // Zoom factor per notch of the mouse wheel
+    private static final long OVERRUN_REPORT_INTERVAL_NANOS = 10_000_000_000L;  // Time between two overrun reports at least
+
+    // Central fixed-timestep clock stepping the world once per tick
+    private final SimulationClock simulationClock = new SimulationClock(TICK_MILLIS, MAX_CATCH_UP_TICKS, this::stepSimulation);
+    // Drives the simulation clock from the JavaFX pulse, and draws the world once per pulse if it was stepped
+    private final AnimationTimer simulationTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (simulationClock.advance(now) > 0) {
+                updateView();
+            }
+        }
+    };
+    private boolean isPlaying = false;  // Flag to check if robots are currently playing
+    private int robotCount = 0;  // Counter for the number of robots
+    private final World world = createWorld();  // Simulation model stepped by the clock
+    private final Viewport viewport = new Viewport();  // Part of the world shown in the arena, panned and zoomed by the user
+    private final LevelOfDetail levelOfDetail = LevelOfDetail.fromSystemProperties();  // Hides labels and sensors when they would clutter
+    private final CanvasRenderer canvasRenderer = new CanvasRenderer(world, viewport, levelOfDetail);  // Draws the whole world in canvas mode
+    private final double[] worldSize = parseWorldSize(System.getProperty(WORLD_SIZE_PROPERTY));  // Minimum world size, 0 to fit the arena
+    private boolean namesShown = true;  // Whether the views currently show their name labels
+    private boolean sensorsShown = true;  // Whether the views currently show their sensor visuals
+    private double panX;  // Last mouse position while panning
+    private double panY;
+    private boolean canvasMode = false;  // Whether the world is drawn on the canvas instead of with one node per entity
+    private final ArenaSaver arenaSaver = new ArenaSaver();  // Writes autosaves and saves in the background
+    private final TickProfiler tickProfiler = new TickProfiler();  // Measures the phases of sampled ticks
+    // Publishes the simulation internals over JMX
+    private final SimulationMetrics simulationMetrics = new SimulationMetrics(world, tickProfiler, simulationClock, arenaSaver);
+    private final Map<Entity, Node> views = new HashMap<>();  // Scene-graph view of every entity in the world
+    private final Set<Node> removedViews = new HashSet<>();  // Views of removed entities still in the scene graph
+    private int obstacleCount = 0;  // Counter for the number of obstacles
+    private Path arenaFilePath = Path.of(ArenaFileHandler.DEFAULT_FILE_PATH);  // Last file the arena was saved to or loaded from
+    private Path recordingFilePath = Path.of("recording" + SimulationRecorder.EXTENSION);  // Last recording file used
+    private SimulationRecorder recorder;  // Records every tick while set
+    private ReplayPlayer replayPlayer;  // Plays a recording instead of the live world while set
+    private long lastOverrunReportNanos;  // When overruns were last reported
+    private int unreportedOverruns = 0;  // Overruns since the last report
+
+    @FXML
+    private RobotInfoTable robotInfoTable;  // Table displaying information about robots
+
+    @FXML
+    private Pane arenaPane;  // Pane where robots and obstacles are displayed
+
+    @FXML
+    private Pane worldLayer;  // Layer of the arena pane holding the views, transformed by the viewport
+
+    /**
+     * Initializes the arena with default robots and obstacles.
+     * This method is called automatically when the controller is initialized.
+     */
+    @FXML
+    public void initialize() {
+        // Print the master seed so that a run can be reproduced with -Drobotsim.seed=<seed>
+        System.out.println("Simulation seed: " + world.getSeed());
+
+        // Report ticks that exceed their time budget, at most every few seconds; JMX has the full counts
+        lastOverrunReportNanos = System.nanoTime() - OVERRUN_REPORT_INTERVAL_NANOS;
+        simulationClock.setOverrunHandler(this::reportOverrun);
+
+        // Autosave periodically; saves are written in the background, so only failures are reported
+        arenaSaver.setAutosave(Path.of(AUTOSAVE_FILE_PATH), AUTOSAVE_INTERVAL_MILLIS / TICK_MILLIS);
+        arenaSaver.setListener(new ArenaSaver.SaveListener() {
+            @Override
+            public void saveFailed(Path path, IOException error) {
+                System.err.println("Saving the arena to " + path + " failed: " + error.getMessage());
+            }
+        });
+
+        // Profile sampled ticks and publish the metrics for JMX clients
+        world.setProfiler(tickProfiler);
+        try {
+            simulationMetrics.register();
+            simulationMetrics.register("SpriteCache", SpriteCache.getShared());
+        } catch (JMException e) {
+            System.err.println("Registering the simulation MBeans failed: " + e.getMessage());
+        }
+
+        // Show the robots of the world in the info table
+        robotInfoTable.setWorld(world);
+
+        // The canvas covers the whole arena in canvas mode
+        canvasRenderer.widthProperty().bind(arenaPane.widthProperty());
+        canvasRenderer.heightProperty().bind(arenaPane.heightProperty());
+
+        // Show the part of the world selected by the viewport, and nothing outside the arena
+        worldLayer.getTransforms().add(viewport.getTransform());
+        Rectangle clip = new Rectangle();
+        clip.widthProperty().bind(arenaPane.widthProperty());
+        clip.heightProperty().bind(arenaPane.heightProperty());
+        arenaPane.setClip(clip);
+        enablePanAndZoom();
+
+        // Remove the views of entities removed from the world, e.g. consumed by a PredatorRobot
+        world.addListener(new WorldListener() {
+            @Override
+            public void entityRemoved(Entity entity) {
+                removeView(entity);
+            }
+        });
+
+        // Create and add one robot of each type to the arena
+        Robot defaultRobot = new DefaultRobot("Default Robot", 1000, 100, 90);
+        Robot sensorRobot = new SensorRobot("Sensor Robot", 1000, 300, 80);
+        Robot userControlledRobot = new UserControlledRobot("User Controlled", 1000, 500, 100);
+        Robot predatorRobot = new PredatorRobot("Predator Robot", 1000, 700, 70);
+        Robot whiskerRobot = new WhiskerRobot("Whisker Robot", 400, 500, 75);
+
+        addRobotToArena(defaultRobot);
+        addRobotToArena(sensorRobot);
+        addRobotToArena(userControlledRobot);
+        addRobotToArena(predatorRobot);
+        addRobotToArena(whiskerRobot);
+
+        // Create and add one obstacle of each type to the arena
+        Obstacle lamp = new LampObstacle(550, 650, 75);
+        Obstacle rock = new RockObstacle(250, 250, 75);
+        Obstacle lake = new LakeObstacle(750, 150, 75);
+
+        addObstacleToArena(lamp);
+        addObstacleToArena(rock);
+        addObstacleToArena(lake);
+    }
+
+    /**
+     * Reports a tick that exceeded its time budget. While ticks keep overrunning, only one line is printed
+     * per report interval, counting the overruns since the previous one.
+     *
+     * @param tick          the number of the tick
+     * @param durationNanos the time the tick took
+     * @param budgetNanos   the time budget of a tick
+     */
+    private void reportOverrun(long tick, long durationNanos, long budgetNanos) {
+        unreportedOverruns++;
+        long now = System.nanoTime();
+        if (now - lastOverrunReportNanos < OVERRUN_REPORT_INTERVAL_NANOS) {
+            return;
+        }
+        System.err.printf("Simulation tick %d overran: %.2f ms (budget %.2f ms); %d overruns since the last report%n",
+                tick, durationNanos / 1e6, budgetNanos / 1e6, unreportedOverruns);
+        lastOverrunReportNanos = now;
+        unreportedOverruns = 0;
+    }
+
+    /**
+     * Lets the user zoom the arena with the mouse wheel and pan it by dragging with the right or middle mouse button.
+     * Double-clicking with the right mouse button resets the view. The primary button is left to dragging entities.
+     */
+    private void enablePanAndZoom() {
+        arenaPane.setOnScroll(event -> {
+            if (event.getDeltaY() == 0) {
+                return;
+            }
+            viewport.zoomAt(event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP, event.getX(), event.getY());
+            refreshView();
+            event.consume();
+        });
+
+        arenaPane.addEventFilter(MouseEvent.MOUSE_PRESSED, event -> {
+            if (event.getButton() == MouseButton.SECONDARY || event.getButton() == MouseButton.MIDDLE) {
+                panX = event.getX();
+                panY = event.getY();
+                event.consume();  // Keep the views from starting a drag
+            }
+        });
+        arenaPane.addEventFilter(MouseEvent.MOUSE_DRAGGED, event -> {
+            if (event.isSecondaryButtonDown() || event.isMiddleButtonDown()) {
+                viewport.pan(event.getX() - panX, event.getY() - panY);
+                panX = event.getX();
+                panY = event.getY();
+                refreshView();
+                event.consume();
+            }
+        });
+        arenaPane.addEventFilter(MouseEvent.MOUSE_CLICKED, event -> {
+            if (event.getButton() == MouseButton.SECONDARY && event.getClickCount() == 2) {
+                viewport.reset();
+                refreshView();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Redraws the live world after the viewport changed, so that panning and zooming also work while paused.
+     */
+    private void refreshView() {
+        if (replayPlayer != null) {
+            return;  // The replay shows its own views, which follow the viewport transform
+        }
+        if (canvasMode) {
+            canvasRenderer.render();
+        } else {
+            syncViews();
+        }
+    }
+
+    /**
+     * Parses the world size given with the {@code robotsim.worldSize} system property.
+     *
+     * @param value The property value, e.g. "5000x3000", or null if the property is not set.
+     * @return The width and height, both 0 if the world is sized to the arena.
+     * @throws IllegalArgumentException If the value is not of the form WIDTHxHEIGHT.
+     */
+    private static double[] parseWorldSize(String value) {
+        if (value == null) {
+            return new double[]{0, 0};
+        }
+        String[] parts = value.toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid " + WORLD_SIZE_PROPERTY + ", expected WIDTHxHEIGHT: " + value);
+        }
+        return new double[]{Double.parseDouble(parts[0].trim()), Double.parseDouble(parts[1].trim())};
+    }
+
+    /**
+     * Creates the simulated world, using the master seed from the {@code robotsim.seed} system property if set.
+     *
+     * @return The new world.
+     */
+    private static World createWorld() {
+        Long seed = Long.getLong(SEED_PROPERTY);
+        return seed != null ? new World(0, 0, TICK_MILLIS, seed) : new World(0, 0, TICK_MILLIS);
+    }
+
+    /**
+     * Adds a robot to the arena and the simulated world.
+     * @param robot The robot to add.
+     */
+    public void addRobotToArena(Robot robot) {
+        robot.setDetailVisible(namesShown, sensorsShown);
+        if (isShowingViews()) {
+            worldLayer.getChildren().add(robot);  // Add the robot to the display
+        }
+        views.put(robot.getEntity(), robot);
+        world.addRobot(robot.getEntity());  // Add the robot to the simulation
+        robotCount++;  // Increment the robot count
+        redrawCanvas();
+    }
+
+    /**
+     * Adds an obstacle to the arena and the simulated world.
+     * @param obstacle The obstacle to add.
+     */
+    public void addObstacleToArena(Obstacle obstacle) {
+        if (isShowingViews()) {
+            worldLayer.getChildren().add(obstacle);  // Add the obstacle to the display
+        }
+        views.put(obstacle.getEntity(), obstacle);
+        world.addObstacle(obstacle.getEntity());  // Add the obstacle to the simulation
+        redrawCanvas();
+    }
+
+    /**
+     * Adds a batch of robots and obstacles to the arena and the simulated world.
+     * The scene graph and the world are each updated once for the whole batch, which is much cheaper
+     * than adding the views one by one, e.g. after loading a large arena file.
+     *
+     * @param newRobots    The robots to add.
+     * @param newObstacles The obstacles to add.
+     */
+    public void addAllToArena(List<Robot> newRobots, List<Obstacle> newObstacles) {
+        List<Node> nodes = new ArrayList<>(newRobots.size() + newObstacles.size());
+        List<Entity> entities = new ArrayList<>(newRobots.size() + newObstacles.size());
+        for (Robot robot : newRobots) {
+            robot.setDetailVisible(namesShown, sensorsShown);
+            nodes.add(robot);
+            entities.add(robot.getEntity());
+            views.put(robot.getEntity(), robot);
+        }
+        for (Obstacle obstacle : newObstacles) {
+            nodes.add(obstacle);
+            entities.add(obstacle.getEntity());
+            views.put(obstacle.getEntity(), obstacle);
+        }
+
+        if (isShowingViews()) {
+            worldLayer.getChildren().addAll(nodes);  // A single scene-graph change for the whole batch
+        }
+        world.addAll(entities);
+        robotCount += newRobots.size();
+        obstacleCount += newObstacles.size();
+        redrawCanvas();
+    }
+
+    /**
+     * Forgets the view of an entity that has left the world. The view is taken out of the arena with the
+     * other views removed in the same tick by {@link #flushRemovedViews()}, as removing nodes one by one
+     * scans the children of the world layer every time.
+     *
+     * @param entity The removed entity.
+     */
+    private void removeView(Entity entity) {
+        Node view = views.remove(entity);
+        if (view != null) {
+            removedViews.add(view);
+        }
+    }
+
+    /**
+     * Takes the views of the entities removed since the last call out of the arena, in a single scene-graph change.
+     */
+    private void flushRemovedViews() {
+        if (!removedViews.isEmpty()) {
+            worldLayer.getChildren().removeAll(removedViews);
+            removedViews.clear();
+        }
+    }
+
+    /**
+     * Returns the view of a robot in the world.
+     *
+     * @param robot The robot.
+     * @return The view, or {@code null} if the robot has none.
+     */
+    private Robot viewOf(RobotEntity robot) {
+        return (Robot) views.get(robot);
+    }
+
+    /**
+     * Returns the view of an obstacle in the world.
+     *
+     * @param obstacle The obstacle.
+     * @return The view, or {@code null} if the obstacle has none.
+     */
+    private Obstacle viewOf(ObstacleEntity obstacle) {
+        return (Obstacle) views.get(obstacle);
+    }
+
+    /**
+     * Displays a dialog to allow the user to add a robot to the arena.
+     * The user can customize the robot's name, type, and size.
+     * @param event The event triggered when the user attempts to add a robot.
+     */
+    @FXML
+    private void addRobot(ActionEvent event) {
+        // List of robot types to choose from
+        List<String> robotOptions = Arrays.asList("Default Robot", "Sensor Robot", "User Controlled", "Predator Robot", "Whisker Robot");
+
+        // Create a dialog to customize the robot
+        Dialog<Pair<String, Double>> dialog = new Dialog<>();
+        dialog.setTitle("Add Robot");
+        dialog.setHeaderText("Customize your robot:");
+
+        // Create and configure fields for the robot's name, type, and size
+        Label nameLabel = new Label("Robot Name:");
+        TextField nameField = new TextField();
+        nameField.setPromptText("Enter robot name");
+
+        Label typeLabel = new Label("Robot Type:");
+        ChoiceBox<String> typeChoiceBox = new ChoiceBox<>();
+        typeChoiceBox.getItems().addAll(robotOptions);
+        typeChoiceBox.setValue(robotOptions.get(0)); // Default to the first option
+
+        Label sizeLabel = new Label("Robot Size:");
+        Slider sizeSlider = new Slider(30, 150, 50); // Min size: 30, Max size: 150, Default: 50
+        sizeSlider.setShowTickMarks(true);
+        sizeSlider.setShowTickLabels(true);
+        sizeSlider.setMajorTickUnit(20);
+        sizeSlider.setBlockIncrement(5);
+
+        // Layout for the dialog's content
+        GridPane gridPane = new GridPane();
+        gridPane.setHgap(10);
+        gridPane.setVgap(10);
+        gridPane.add(nameLabel, 0, 0);
+        gridPane.add(nameField, 1, 0);
+        gridPane.add(typeLabel, 0, 1);
+        gridPane.add(typeChoiceBox, 1, 1);
+        gridPane.add(sizeLabel, 0, 2);
+        gridPane.add(sizeSlider, 1, 2);
+
+        dialog.getDialogPane().setContent(gridPane);
+
+        // Add OK and Cancel buttons to the dialog
+        ButtonType okButtonType = new ButtonType("OK", ButtonBar.ButtonData.OK_DONE);
+        dialog.getDialogPane().getButtonTypes().addAll(okButtonType, ButtonType.CANCEL);
+
+        // Convert the result to a pair containing the robot's name, type, and size
+        dialog.setResultConverter(dialogButton -> {
+            if (dialogButton == okButtonType) {
+                String name = nameField.getText().trim();
+                if (name.isEmpty()) {
+                    name = "Robot " + (robotCount + 1);  // Default name if left blank
+                }
+                String type = typeChoiceBox.getValue();
+                Double size = sizeSlider.getValue();
+                return new Pair<>(name + "|" + type, size);  // Return the customized robot data
+            }
+            return null;
+        });
+
+        // Show the dialog and process the result
+        Optional<Pair<String, Double>> result = dialog.showAndWait();
+        result.ifPresent(robotData -> {
+            String[] parts = robotData.getKey().split("\\|");
+            String name = parts[0];
+            String selectedType = parts[1];
+            double size = robotData.getValue();
+
+            // Create the specific robot based on the selected type
+            Robot robot = switch (selectedType) {
+                case "Default Robot" -> new DefaultRobot(name, 100 + robotCount * 50, 100 + robotCount * 50, size);
+                case "Sensor Robot" -> new SensorRobot(name, 100 + robotCount * 50, 100 + robotCount * 50, size);
+                case "Predator Robot" -> new PredatorRobot(name, 100 + robotCount * 50, 100 + robotCount * 50, size);
+                case "User Controlled" -> new UserControlledRobot(name, 100 + robotCount * 50, 100 + robotCount * 50, size);
+                case "Whisker Robot" -> new WhiskerRobot(name, 100 + robotCount * 50, 100 + robotCount * 50, size);
+                default -> null;
+            };
+
+            if (robot != null) {
+                addRobotToArena(robot);  // Add the newly created robot to the arena
+                robotCount++;  // Increment robot count
+            }
+        });
+    }
+
+    /**
+     * Starts the simulation clock so that all robots in the arena are stepped once per tick.
+     * This method is called when the play button is clicked.
+     */
+    public void play() {
+        if (replayPlayer != null) {
+            replayPlayer.play();  // In replay mode the buttons control the playback
+            return;
+        }
+        if (!isPlaying) {
+            simulationClock.reset();  // Do not replay the time spent paused
+            simulationTimer.start();
+            isPlaying = true;  // Set the playing flag to true
+        }
+    }
+
+    /**
+     * Pauses the simulation clock, freezing all robots in the arena.
+     * This method is called when the pause button is clicked.
+     */
+    public void pause() {
+        if (replayPlayer != null) {
+            replayPlayer.pause();
+            return;
+        }
+        if (isPlaying) {
+            simulationTimer.stop();
+            isPlaying = false;  // Set the playing flag to false
+        }
+    }
+
+    /**
+     * Advances the whole arena by one simulation tick.
+     * The world is sized to the arena pane, or the configured world size if larger, and told where the info table
+     * covers it, and stepped once. The views are updated by {@link #updateView()} once per pulse, however many
+     * ticks the clock ran in it.
+     *
+     * @param tick the number of the tick being executed
+     */
+    private void stepSimulation(long tick) {
+        Bounds textAreaBounds = robotInfoTable.getBoundsInParent();
+        world.setSize(Math.max(arenaPane.getWidth(), worldSize[0]), Math.max(arenaPane.getHeight(), worldSize[1]));
+        world.setReservedArea(viewport.toWorldX(textAreaBounds.getMinX()), viewport.toWorldY(textAreaBounds.getMinY()),
+                viewport.toWorldX(textAreaBounds.getMaxX()), viewport.toWorldY(textAreaBounds.getMaxY()));
+        world.step();
+        flushRemovedViews();
+        arenaSaver.onTick(world);  // Captures an autosave at this tick boundary if one is due
+        recordTick();
+    }
+
+    /**
+     * Draws the current state of the world, either on the canvas or by mirroring it into the scene graph,
+     * and refreshes the info table at its own capped rate. Called once per pulse after the clock ran its ticks,
+     * so ticks caught up or fast-forwarded within one frame are drawn only once.
+     */
+    private void updateView() {
+        long uiStart = System.nanoTime();
+        PhaseEvent uiEvent = SimulationEvents.ENABLED ? PhaseEvent.start(TickProfiler.Phase.UI_UPDATE) : null;
+        if (canvasMode) {
+            canvasRenderer.render();
+        } else {
+            syncViews();
+        }
+
+        // Update the robot details, at most a few times per second
+        robotInfoTable.refreshIfDue(System.nanoTime());
+        tickProfiler.record(TickProfiler.Phase.UI_UPDATE, System.nanoTime() - uiStart);
+        if (uiEvent != null) {
+            uiEvent.finish(world);
+        }
+    }
+
+    /**
+     * Updates every view inside the viewport to mirror its entity. Views outside are hidden, which leaves them
+     * out of rendering, and are only updated once they come into view. Labels and sensor visuals are then
+     * shown or hidden for the number of robots in view and the zoom, as decided by the level of detail.
+     */
+    private void syncViews() {
+        viewport.setViewSize(arenaPane.getWidth(), arenaPane.getHeight());
+        int visibleRobots = 0;
+        for (RobotEntity entity : world.getRobots()) {
+            Robot robot = viewOf(entity);
+            if (robot == null) {
+                continue;
+            }
+            boolean visible = viewport.isVisible(entity);
+            robot.setVisible(visible);
+            if (visible) {
+                robot.syncWithEntity();
+                visibleRobots++;
+            }
+        }
+        for (ObstacleEntity entity : world.getObstacles()) {
+            Obstacle obstacle = viewOf(entity);
+            if (obstacle == null) {
+                continue;
+            }
+            boolean visible = viewport.isVisible(entity);
+            obstacle.setVisible(visible);
+            if (visible) {
+                obstacle.syncWithEntity();
+            }
+        }
+
+        boolean showNames = levelOfDetail.showLabels(visibleRobots, viewport.getZoom());
+        boolean showSensors = levelOfDetail.showSensors(visibleRobots, viewport.getZoom());
+        if (showNames != namesShown || showSensors != sensorsShown) {
+            namesShown = showNames;
+            sensorsShown = showSensors;
+            for (Node view : views.values()) {
+                if (view instanceof Robot robot) {
+                    robot.setDetailVisible(showNames, showSensors);
+                }
+            }
+        }
+    }
+
+    /**
+     * Switches between drawing the world with one scene-graph node per entity and drawing it onto a single canvas.
+     * Canvas mode keeps rendering fast with many thousands of robots; the views are kept but left out of the
+     * scene graph until node mode is selected again. Dragging works in both modes.
+     *
+     * @param enabled true to draw on the canvas, false to use the node views.
+     */
+    public void setCanvasMode(boolean enabled) {
+        if (enabled == canvasMode) {
+            return;
+        }
+        if (replayPlayer != null) {
+            canvasMode = enabled;  // Applied when the replay is left
+            return;
+        }
+        hideLiveWorld();
+        canvasMode = enabled;
+        restoreLiveViews();
+    }
+
+    /**
+     * Returns whether the world is drawn on the canvas.
+     *
+     * @return true in canvas mode, false when the node views are shown.
+     */
+    public boolean isCanvasMode() {
+        return canvasMode;
+    }
+
+    /**
+     * Toggles canvas mode from the check box in the arena view.
+     *
+     * @param event The action event of the check box.
+     */
+    @FXML
+    private void toggleRenderMode(ActionEvent event) {
+        setCanvasMode(((CheckBox) event.getSource()).isSelected());
+    }
+
+    /**
+     * Redraws the canvas in canvas mode, so that entities added or removed while the simulation is paused show up.
+     */
+    private void redrawCanvas() {
+        if (canvasMode && replayPlayer == null) {
+            canvasRenderer.render();
+        }
+    }
+
+    /**
+     * Returns whether the views of the live world are part of the scene graph,
+     * i.e. the arena is in node mode and not showing a replay.
+     *
+     * @return true if new views must be added to the arena pane.
+     */
+    private boolean isShowingViews() {
+        return !canvasMode && replayPlayer == null;
+    }
+
+    /**
+     * Records the tick just simulated if a recording is running. Recording stops if writing fails.
+     */
+    private void recordTick() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.recordTick();
+        } catch (IOException e) {
+            stopRecording();
+            showErrorDialog("Recording failed and was stopped: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts recording every tick of the simulation to a file, replacing a running recording.
+     *
+     * @param path The recording file.
+     * @throws IOException If the file cannot be created.
+     */
+    public void startRecording(Path path) throws IOException {
+        stopRecording();
+        recorder = new SimulationRecorder(world, path, SimulationRecorder.DEFAULT_KEYFRAME_INTERVAL);
+        recordingFilePath = path;
+    }
+
+    /**
+     * Stops the running recording, if any, and closes its file.
+     */
+    public void stopRecording() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            System.err.println("Closing the recording failed: " + e.getMessage());
+        }
+        recorder = null;
+    }
+
+    /**
+     * Switches the arena to replay mode: the simulation is paused, the live views are hidden and the
+     * recording is shown instead, with a control bar to seek and change the playback speed.
+     * The play and pause buttons control the playback until the replay is left.
+     *
+     * @param path The recording file.
+     * @throws IOException If the recording cannot be opened.
+     */
+    public void startReplay(Path path) throws IOException {
+        stopReplay();
+        pause();
+        SimulationReplay replay = new SimulationReplay(path);
+        hideLiveWorld();
+        try {
+            replayPlayer = new ReplayPlayer(worldLayer, replay, this::stopReplay);
+        } catch (IOException e) {
+            replay.close();
+            restoreLiveViews();
+            throw e;
+        }
+        arenaPane.getChildren().add(replayPlayer);
+        robotInfoTable.toFront();
+        recordingFilePath = path;
+        replayPlayer.play();
+    }
+
+    /**
+     * Leaves replay mode and shows the live world again, still paused.
+     */
+    public void stopReplay() {
+        if (replayPlayer == null) {
+            return;
+        }
+        replayPlayer.close();
+        arenaPane.getChildren().remove(replayPlayer);
+        replayPlayer = null;
+        restoreLiveViews();
+    }
+
+    /**
+     * Removes the live world, its views or the canvas, from the arena.
+     */
+    private void hideLiveWorld() {
+        if (canvasMode) {
+            arenaPane.getChildren().remove(canvasRenderer);
+        } else {
+            flushRemovedViews();
+            worldLayer.getChildren().removeAll(new HashSet<>(views.values()));
+        }
+    }
+
+    /**
+     * Shows the live world in the arena again, after a replay or when the render mode changed:
+     * the canvas behind everything else in canvas mode, otherwise the views, updated to their entities.
+     */
+    private void restoreLiveViews() {
+        if (canvasMode) {
+            arenaPane.getChildren().add(0, canvasRenderer);
+            canvasRenderer.render();
+        } else {
+            syncViews();  // The views are not updated while they are hidden
+            List<Node> nodes = new ArrayList<>(views.size());
+            nodes.addAll(getRobots());
+            nodes.addAll(getObstacles());
+            worldLayer.getChildren().addAll(nodes);
+        }
+        robotInfoTable.toFront();
+    }
+
+    /**
+     * Returns the clock driving the simulation, giving access to tick and overrun statistics.
+     *
+     * @return The simulation clock.
+     */
+    public SimulationClock getSimulationClock() {
+        return simulationClock;
+    }
+
+    /**
+     * Returns the metrics published over JMX, e.g. to record load durations.
+     *
+     * @return The simulation metrics.
+     */
+    public SimulationMetrics getSimulationMetrics() {
+        return simulationMetrics;
+    }
+
+    /**
+     * Returns the saver writing the arena in the background, giving access to save metrics.
+     *
+     * @return The arena saver.
+     */
+    public ArenaSaver getArenaSaver() {
+        return arenaSaver;
+    }
+
+    /**
+     * Creates a new arena by clearing all current robots and obstacles, and resets necessary counters.
+     * Displays an information alert to notify the user that a new arena has been created.
+     */
+    public void NewArena() {
+        // Display an information alert to notify the user about the new arena creation
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setContentText("New Arena Created :)");
+        alert.show();
+
+        clearArena();
+    }
+
+    /**
+     * Removes all robots and obstacles from the arena and the simulated world and resets the counters.
+     * The robot info table is kept visible in the top-right corner.
+     */
+    public void clearArena() {
+        stopReplay();
+
+        // Clear all views (robots, obstacles, etc.) from the arena
+        worldLayer.getChildren().clear();
+
+        // reset any relevant counters
+        robotCount = 0;
+        obstacleCount = 0;
+        views.clear();
+        removedViews.clear();
+        world.clear();
+        // Ensure the robotInfoTable remains visible and in the top-right corner
+        if (!arenaPane.getChildren().contains(robotInfoTable)) {
+            arenaPane.getChildren().add(robotInfoTable); // Re-add the table if it's not already added
+        }
+
+        robotInfoTable.toFront(); // Bring the robotInfoTable to the front
+        redrawCanvas();
+
+        // Update the robot information to reflect the new arena state
+        robotInfoTable.reload();
+    }
+
+    /**
+     * Handles the action to return to the main menu.
+     * Loads the ApplicationMenu.fxml scene and sets it as the current scene.
+     *
+     * @param event the action event that triggers this method
+     */
+    public void goBackToMenu(ActionEvent event) {
+        try {
+            Parent menuRoot = FXMLLoader.load(getClass().getResource("ApplicationMenu.fxml"));
+            Stage stage = (Stage) ((javafx.scene.Node) event.getSource()).getScene().getWindow();
+            stage.setScene(new Scene(menuRoot));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Removes an obstacle from the arena.
+     * Displays a prompt for the user to select which obstacle to remove by name or number.
+     * If the input is invalid, an error message is shown.
+     *
+     * @param event the action event that triggers this method
+     */
+    public void removeObstacle(ActionEvent event) {
+        // Create a list of obstacles currently in the arena
+        StringBuilder obstacleList = new StringBuilder("Current obstacles:\n");
+        // The world is used rather than the arena pane, which holds no views in canvas mode
+        List<ObstacleEntity> obstacles = world.getObstacles();
+        for (int i = 0; i < obstacles.size(); i++) {
+            obstacleList.append(i + 1).append(". ").append(obstacles.get(i).getName()).append("\n");
+        }
+
+        // Check if there are any obstacles to remove
+        if (obstacles.isEmpty()) {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("No Obstacles Available");
+            alert.setHeaderText(null);
+            alert.setContentText("There are no obstacles to remove.");
+            alert.showAndWait();
+            return;
+        }
+
+        // Prompt the user to select an obstacle by number or name
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Select Obstacle to Remove");
+        dialog.setHeaderText(null);
+        dialog.setContentText(obstacleList.toString() + "\nEnter the name of the obstacle to remove:");
+
+        Optional<String> result = dialog.showAndWait();
+
+        if (result.isPresent()) {
+            String userInput = result.get();
+            Obstacle obstacleToRemove = null;
+
+            try {
+                // Try parsing the input as an obstacle index (1-based)
+                int obstacleIndex = Integer.parseInt(userInput.trim()) - 1;
+                if (obstacleIndex >= 0 && obstacleIndex < obstacles.size()) {
+                    obstacleToRemove = viewOf(obstacles.get(obstacleIndex));
+                }
+            } catch (NumberFormatException e) {
+                // If the input is not a number, look the obstacle up by name
+                ObstacleEntity named = world.findObstacle(userInput.trim());
+                obstacleToRemove = named != null ? viewOf(named) : null;
+            }
+
+            // If an obstacle was found, remove it
+            if (obstacleToRemove != null) {
+                removeObstacle(obstacleToRemove);
+                obstacleCount--;
+            } else {
+                Alert alert = new Alert(Alert.AlertType.ERROR);
+                alert.setTitle("Obstacle Not Found");
+                alert.setHeaderText(null);
+                alert.setContentText("No obstacle found with the name or number '" + userInput + "'.");
+                alert.showAndWait();
+            }
+        }
+    }
+    /**
+     * Removes a robot from the arena.
+     * If no robots are available, displays an informational alert.
+     * Prompts the user to select a robot by either index or name.
+     * If the robot is found, removes it from the arena and updates the robot info.
+     *
+     * @param event The action event that triggered the removal.
+     */
+    public void removeRobot(ActionEvent event) {
+        List<RobotEntity> robots = world.getRobots();
+        if (robots.isEmpty()) {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("No Robots Available");
+            alert.setHeaderText(null);
+            alert.setContentText("There are no robots to remove.");
+            alert.showAndWait();
+            return;
+        }
+
+        StringBuilder robotList = new StringBuilder("Current robots:\n");
+        for (int i = 0; i < robots.size(); i++) {
+            robotList.append(i + 1).append(". ").append(robots.get(i).getName()).append("\n");
+        }
+
+        TextInputDialog dialog = new TextInputDialog();
+        dialog.setTitle("Select Robot to Remove");
+        dialog.setHeaderText(null);
+        dialog.setContentText(robotList.toString() + "\nEnter the number or name of the robot to remove:");
+
+        Optional<String> result = dialog.showAndWait();
+
+        if (result.isPresent()) {
+            String userInput = result.get();
+            Robot robotToRemove = null;
+
+            try {
+                int robotIndex = Integer.parseInt(userInput.trim()) - 1;
+                if (robotIndex >= 0 && robotIndex < robots.size()) {
+                    robotToRemove = viewOf(robots.get(robotIndex));
+                }
+            } catch (NumberFormatException e) {
+                RobotEntity named = world.findRobot(userInput.trim());
+                robotToRemove = named != null ? viewOf(named) : null;
+            }
+
+            if (robotToRemove != null) {
+                removeRobot(robotToRemove);
+                robotCount--;
+            } else {
+                Alert alert = new Alert(Alert.AlertType.ERROR);
+                alert.setTitle("Robot Not Found");
+                alert.setHeaderText(null);
+                alert.setContentText("No robot found with the name or number '" + userInput + "'.");
+                alert.showAndWait();
+            }
+        }
+    }
+
+    /**
+     * Adds a new obstacle to the arena based on user input.
+     * Prompts the user to choose the obstacle type and size.
+     * Depending on the selection, creates a new obstacle and adds it to the arena.
+     *
+     * @param event The action event that triggered the addition.
+     */
+    public void addObstacle(ActionEvent event) {
+        List<String> obstacleOptions = Arrays.asList("Lamp", "Rock", "Lake");
+
+        Dialog<Pair<String, Double>> dialog = new Dialog<>();
+        dialog.setTitle("Add Obstacle");
+        dialog.setHeaderText("Choose an obstacle type and size:");
+
+        Label typeLabel = new Label("Obstacle Type:");
+        ChoiceBox<String> typeChoiceBox = new ChoiceBox<>();
+        typeChoiceBox.getItems().addAll(obstacleOptions);
+        typeChoiceBox.setValue(obstacleOptions.get(0));
+
+        Label sizeLabel = new Label("Obstacle Size:");
+        Slider sizeSlider = new Slider(50, 200, 100);
+        sizeSlider.setShowTickMarks(true);
+        sizeSlider.setShowTickLabels(true);
+        sizeSlider.setMajorTickUnit(20);
+        sizeSlider.setBlockIncrement(5);
+
+        GridPane gridPane = new GridPane();
+        gridPane.setHgap(10);
+        gridPane.setVgap(10);
+        gridPane.add(typeLabel, 0, 0);
+        gridPane.add(typeChoiceBox, 1, 0);
+        gridPane.add(sizeLabel, 0, 1);
+        gridPane.add(sizeSlider, 1, 1);
+
+        dialog.getDialogPane().setContent(gridPane);
+
+        ButtonType okButtonType = new ButtonType("OK", ButtonBar.ButtonData.OK_DONE);
+        dialog.getDialogPane().getButtonTypes().addAll(okButtonType, ButtonType.CANCEL);
+
+        dialog.setResultConverter(dialogButton -> {
+            if (dialogButton == okButtonType) {
+                return new Pair<>(typeChoiceBox.getValue(), sizeSlider.getValue());
+            }
+            return null;
+        });
+
+        Optional<Pair<String, Double>> result = dialog.showAndWait();
+        result.ifPresent(obstacleData -> {
+            String selectedType = obstacleData.getKey();
+            double size = obstacleData.getValue();
+
+            Obstacle obstacle = switch (selectedType) {
+                case "Lamp" -> new LampObstacle(100 + obstacleCount * 50, 100 + obstacleCount * 50, size);
+                case "Rock" -> new RockObstacle(100 + obstacleCount * 50, 100 + obstacleCount * 50, size);
+                case "Lake" -> new LakeObstacle(100 + obstacleCount * 50, 100 + obstacleCount * 50, size);
+                default -> null;
+            };
+
+            if (obstacle != null) {
+                addObstacleToArena(obstacle);
+                obstacleCount++;
+            }
+        });
+    }
+
+    /**
+     * Displays an alert with options to save or load the arena state.
+     * Depending on the user's choice, a file is chosen and the arena's robots and obstacles are saved to or loaded from it.
+     * Binary snapshots are the default; text files can be chosen for import and export.
+     *
+     * @param event The action event that triggered the file alert.
+     */
+    @FXML
+    private void fileAlert(ActionEvent event) {
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("File Operation");
+        alert.setHeaderText("Would you like to save or load the arena?");
+        alert.setContentText("Choose an option:");
+
+        ButtonType saveButton = new ButtonType("Save");
+        ButtonType loadButton = new ButtonType("Load");
+        ButtonType recordButton = new ButtonType(recorder == null ? "Record" : "Stop Recording");
+        ButtonType replayButton = new ButtonType("Replay");
+        ButtonType cancelButton = new ButtonType("Cancel", ButtonBar.ButtonData.CANCEL_CLOSE);
+
+        alert.getButtonTypes().setAll(saveButton, loadButton, recordButton, replayButton, cancelButton);
+
+        Optional<ButtonType> result = alert.showAndWait();
+
+        if (result.isPresent() && (result.get() == recordButton || result.get() == replayButton)) {
+            handleRecordingChoice(result.get() == recordButton);
+        } else if (result.isPresent() && result.get() != cancelButton) {
+            Path path = chooseArenaFile(result.get() == saveButton);
+            if (path == null) {
+                return;  // File selection cancelled
+            }
+            if (result.get() == saveButton) {
+                arenaFilePath = path;
+                // Capture the arena now and write it in the background
+                arenaSaver.save(world, path).whenComplete((bytes, error) -> Platform.runLater(() -> {
+                    if (error == null) {
+                        showInfoDialog("The arena has been successfully saved.");
+                    } else {
+                        showErrorDialog("Failed to save the arena: " + error.getMessage());
+                    }
+                }));
+            } else if (result.get() == loadButton) {
+                loadArena(path);
+            }
+        }
+    }
+
+    /**
+     * Loads an arena file without blocking the FX thread, replacing the current arena once it has been read.
+     * The outcome is shown in a dialog.
+     *
+     * @param path The file to load; binary snapshot, or text if its name ends in ".txt".
+     */
+    public void loadArena(Path path) {
+        arenaFilePath = path;
+        ArenaFileHandler fileHandler = new ArenaFileHandler(this);
+        fileHandler.setFilePath(path);
+        loadArenaInBackground(fileHandler);
+    }
+
+    /**
+     * Loads an arena file on a background thread while a dialog shows the progress.
+     * The current arena is only replaced once the whole file has been read; cancelling the dialog keeps it.
+     * Malformed lines in text files are skipped and listed afterwards.
+     *
+     * @param fileHandler The file handler set up with the file to load.
+     */
+    private void loadArenaInBackground(ArenaFileHandler fileHandler) {
+        Task<ArenaFileHandler.LoadedArena> task = fileHandler.createLoadTask();
+
+        // Show the progress while the file is read, with the option to cancel
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setPrefWidth(300);
+        progressBar.progressProperty().bind(task.progressProperty());
+        Alert progressAlert = new Alert(Alert.AlertType.NONE);
+        progressAlert.setTitle("Loading Arena");
+        progressAlert.setHeaderText("Loading " + fileHandler.getFilePath().getFileName() + "...");
+        progressAlert.getDialogPane().setContent(progressBar);
+        progressAlert.getButtonTypes().setAll(ButtonType.CANCEL);
+        progressAlert.setOnHidden(e -> task.cancel());  // No effect once the task has finished
+
+        task.setOnSucceeded(e -> {
+            progressAlert.close();
+            ArenaFileHandler.LoadedArena arena = task.getValue();
+            fileHandler.commit(arena);
+            if (arena.errors().isEmpty()) {
+                showInfoDialog("The arena has been successfully loaded.");
+            } else {
+                showLineErrorsDialog(arena.errors());
+            }
+        });
+        task.setOnFailed(e -> {
+            progressAlert.close();
+            showErrorDialog("Failed to load the arena: " + task.getException().getMessage());
+        });
+        task.setOnCancelled(e -> progressAlert.close());
+
+        Thread loader = new Thread(task, "arena-loader");
+        loader.setDaemon(true);
+        loader.start();
+        progressAlert.show();
+    }
+
+    /**
+     * Displays a warning listing the malformed lines skipped while loading an arena file.
+     *
+     * @param errors The skipped lines.
+     */
+    private void showLineErrorsDialog(List<ArenaTextLoader.LineError> errors) {
+        StringBuilder message = new StringBuilder("The arena was loaded, but " + errors.size() + " malformed line(s) were skipped:\n");
+        for (int i = 0; i < Math.min(errors.size(), MAX_REPORTED_LINE_ERRORS); i++) {
+            message.append(errors.get(i)).append("\n");
+        }
+        if (errors.size() > MAX_REPORTED_LINE_ERRORS) {
+            message.append("...");
+        }
+
+        Alert alert = new Alert(Alert.AlertType.WARNING);
+        alert.setTitle("Arena Loaded With Errors");
+        alert.setHeaderText(null);
+        alert.setContentText(message.toString());
+        alert.showAndWait();
+    }
+
+    /**
+     * Starts or stops recording, or starts a replay, after letting the user choose the recording file.
+     *
+     * @param record true to toggle recording, false to start a replay.
+     */
+    private void handleRecordingChoice(boolean record) {
+        if (record && recorder != null) {
+            stopRecording();
+            showInfoDialog("The recording has been stopped.");
+            return;
+        }
+
+        FileChooser.ExtensionFilter filter = new FileChooser.ExtensionFilter("Simulation recording", "*" + SimulationRecorder.EXTENSION);
+        Path path = chooseFile(record ? "Record Simulation" : "Replay Simulation", record, recordingFilePath, filter);
+        if (path == null) {
+            return;  // File selection cancelled
+        }
+        try {
+            if (record) {
+                startRecording(path);
+            } else {
+                startReplay(path);
+            }
+        } catch (IOException e) {
+            showErrorDialog((record ? "Failed to start recording: " : "Failed to open the recording: ") + e.getMessage());
+        }
+    }
+
+    /**
+     * Lets the user choose the file to save the arena to or load it from, starting at the last file used.
+     *
+     * @param save true to choose a file to save to, false to choose a file to load.
+     * @return The chosen file, or null if the selection was cancelled.
+     */
+    private Path chooseArenaFile(boolean save) {
+        return chooseFile(save ? "Save Arena" : "Load Arena", save, arenaFilePath,
+                new FileChooser.ExtensionFilter("Arena snapshot", "*" + ArenaFileHandler.SNAPSHOT_EXTENSION),
+                new FileChooser.ExtensionFilter("Arena text file", "*" + ArenaFileHandler.TEXT_EXTENSION));
+    }
+
+    /**
+     * Lets the user choose a file, starting at the given file.
+     *
+     * @param title       The title of the file chooser.
+     * @param save        true to choose a file to write, false to choose an existing file.
+     * @param initialPath The file selected initially.
+     * @param filters     The extension filters to offer.
+     * @return The chosen file, or null if the selection was cancelled.
+     */
+    private Path chooseFile(String title, boolean save, Path initialPath, FileChooser.ExtensionFilter... filters) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().addAll(filters);
+        File lastFile = initialPath.toAbsolutePath().toFile();
+        if (lastFile.getParentFile() != null && lastFile.getParentFile().isDirectory()) {
+            chooser.setInitialDirectory(lastFile.getParentFile());
+        }
+        chooser.setInitialFileName(lastFile.getName());
+
+        File file = save ? chooser.showSaveDialog(arenaPane.getScene().getWindow())
+                : chooser.showOpenDialog(arenaPane.getScene().getWindow());
+        return file != null ? file.toPath() : null;
+    }
+
+    /**
+     * Displays an error dialog with the specified title and message.
+     *
+     * @param message The error message to display.
+     */
+    private void showErrorDialog(String message) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Error");
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
+    /**
+     * Displays an informational dialog with the specified title and message.
+     *
+     * @param message The informational message to display.
+     */
+    private void showInfoDialog(String message) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Success");
+        alert.setHeaderText(null);
+        alert.setContentText(message);
+        alert.showAndWait();
+    }
+
+    /**
+     * Gets the views of the robots in the world, in the world's order.
+     *
+     * @return A new list of the robots in the arena.
+     */
+    public List<Robot> getRobots() {
+        List<Robot> robots = new ArrayList<>(world.getRobots().size());
+        for (RobotEntity entity : world.getRobots()) {
+            Robot robot = viewOf(entity);
+            if (robot != null) {
+                robots.add(robot);
+            }
+        }
+        return robots;
+    }
+
+    /**
+     * Gets the views of the obstacles in the world, in the world's order.
+     *
+     * @return A new list of the obstacles in the arena.
+     */
+    public List<Obstacle> getObstacles() {
+        List<Obstacle> obstacles = new ArrayList<>(world.getObstacles().size());
+        for (ObstacleEntity entity : world.getObstacles()) {
+            Obstacle obstacle = viewOf(entity);
+            if (obstacle != null) {
+                obstacles.add(obstacle);
+            }
+        }
+        return obstacles;
+    }
+
+    /**
+     * Gets the pane representing the arena.
+     *
+     * @return The pane representing the arena.
+     */
+    public Pane getArenaPane() {
+        return arenaPane;
+    }
+
+    /**
+     * Gets the simulated world behind the arena.
+     *
+     * @return The world.
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Removes an object (either robot or obstacle) from the world and the arena.
+     *
+     * @param object The object to remove (either a robot or an obstacle).
+     */
+    public void removeObject(Node object) {
+        if (object instanceof Robot) {
+            removeRobot((Robot) object);
+        } else if (object instanceof Obstacle) {
+            removeObstacle((Obstacle) object);
+        }
+    }
+
+    /**
+     * Removes a robot from the world; its view is removed from the arena.
+     *
+     * @param robot The robot to remove.
+     */
+    public void removeRobot(Robot robot) {
+        world.remove(robot.getEntity());
+        flushRemovedViews();
+        redrawCanvas();
+    }
+
+    /**
+     * Removes an obstacle from the world; its view is removed from the arena.
+     *
+     * @param obstacle The obstacle to remove.
+     */
+    public void removeObstacle(Obstacle obstacle) {
+        world.remove(obstacle.getEntity());
+        flushRemovedViews();
+        redrawCanvas();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,207 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.*;
+import javafx.concurrent.Task;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class handles the loading of arena configuration from a file, in the background, and creates the
+ * views of the loaded entities, which the arena controller then puts in place of its own;
+ * saves are written in the background by {@link ArenaSaver}.
+ * Arenas are stored as binary snapshots (see {@link ArenaSnapshotFormat}); files ending in ".txt"
+ * are imported and exported in the plain-text format instead (see {@link ArenaTextFormat}).
+ */
+public class ArenaFileHandler {
+
+    /** File used when no other file path has been set. */
+    public static final String DEFAULT_FILE_PATH = "arena_config.rsim";
+
+    /** Extension of files in the binary snapshot format. */
+    public static final String SNAPSHOT_EXTENSION = ArenaSnapshotFormat.EXTENSION;
+
+    /** Extension of files in the plain-text format. */
+    public static final String TEXT_EXTENSION = ArenaTextFormat.EXTENSION;
+
+    private Path filePath = Path.of(DEFAULT_FILE_PATH);  // File to save to and load from
+    private final ArenaController arenaController;  // Reference to ArenaController to access arena functionality
+
+    /**
+     * Constructs an ArenaFileHandler instance for an arena.
+     *
+     * @param arenaController The ArenaController instance.
+     */
+    public ArenaFileHandler(ArenaController arenaController) {
+        this.arenaController = arenaController;
+    }
+
+    /**
+     * Sets the file to save to and load from. The format follows from the file's extension.
+     *
+     * @param filePath The file path.
+     */
+    public void setFilePath(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the file to save to and load from.
+     *
+     * @return The file path.
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * The robot and obstacle views read from an arena file, ready to be added to the arena.
+     *
+     * @param robots    The robot views, in file order.
+     * @param obstacles The obstacle views, in file order.
+     * @param errors    The malformed lines skipped while reading a text file.
+     */
+    public record LoadedArena(List<Robot> robots, List<Obstacle> obstacles, List<ArenaTextLoader.LineError> errors) {
+    }
+
+    /**
+     * Creates a task that reads the file and builds the views in the background, reporting its progress.
+     * Pass the task's value to {@link #commit(LoadedArena)} on the FX thread once it succeeded.
+     * Cancelling the task aborts reading.
+     *
+     * @return The load task.
+     */
+    public Task<LoadedArena> createLoadTask() {
+        return new Task<>() {
+            @Override
+            protected LoadedArena call() throws IOException {
+                return readArena(this::updateProgress);
+            }
+        };
+    }
+
+    /**
+     * Replaces the arena's robots and obstacles with the loaded ones, adding all of them to the
+     * scene graph and the world in one batch. Must be called on the FX thread.
+     *
+     * @param arena The loaded arena.
+     */
+    public void commit(LoadedArena arena) {
+        // Clear the current arena state before adding the loaded entities
+        arenaController.clearArena();
+        arenaController.addAllToArena(arena.robots(), arena.obstacles());
+    }
+
+    /**
+     * Reads the file and builds the views for its entities, without touching the arena.
+     * Text files are parsed in parallel chunks by an {@link ArenaTextLoader}.
+     * The time taken is recorded in the load histogram of the simulation metrics,
+     * and as an {@link ArenaIoEvent} when Flight Recorder events are enabled.
+     *
+     * @param progress The listener receiving the progress, or null.
+     * @return The loaded arena.
+     * @throws IOException           If an I/O error occurs while reading, or reading is interrupted.
+     * @throws FileNotFoundException If the file does not exist.
+     */
+    private LoadedArena readArena(ArenaTextLoader.ProgressListener progress) throws IOException {
+        Path path = filePath;
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException("The file does not exist: " + path);
+        }
+
+        long start = System.nanoTime();
+        ArenaIoEvent event = SimulationEvents.ENABLED ? ArenaIoEvent.start(ArenaIoEvent.LOAD, path) : null;
+        long bytes = event != null ? Files.size(path) : 0;
+        List<Robot> robotViews = new ArrayList<>();
+        List<Obstacle> obstacleViews = new ArrayList<>();
+        List<ArenaTextLoader.LineError> errors = new ArrayList<>();
+        boolean succeeded = false;
+        try {
+            if (isTextFile(path)) {
+                new ArenaTextLoader().stream(path, (entities, batchErrors, bytesRead, totalBytes) -> {
+                    createViews(entities, robotViews, obstacleViews);
+                    errors.addAll(batchErrors);
+                    if (progress != null) {
+                        progress.onProgress(bytesRead, totalBytes);
+                    }
+                });
+            } else {
+                createViews(ArenaSnapshotFormat.read(path), robotViews, obstacleViews);
+                if (progress != null) {
+                    progress.onProgress(1, 1);
+                }
+            }
+            succeeded = true;
+        } finally {
+            if (event != null) {
+                event.finish(bytes, robotViews.size(), obstacleViews.size(), succeeded);
+            }
+        }
+        arenaController.getSimulationMetrics().recordLoad(System.nanoTime() - start);
+        return new LoadedArena(robotViews, obstacleViews, errors);
+    }
+
+    /**
+     * Creates the views for a batch of entities.
+     *
+     * @param entities      The entities.
+     * @param robotViews    The list receiving the robot views.
+     * @param obstacleViews The list receiving the obstacle views.
+     */
+    private static void createViews(List<Entity> entities, List<Robot> robotViews, List<Obstacle> obstacleViews) {
+        for (Entity entity : entities) {
+            if (entity instanceof RobotEntity robot) {
+                robotViews.add(createRobotView(robot));
+            } else if (entity instanceof ObstacleEntity obstacle) {
+                obstacleViews.add(createObstacleView(obstacle));
+            }
+        }
+    }
+
+    /**
+     * Returns whether a file is in the plain-text format, judging by its extension.
+     *
+     * @param path The file path.
+     * @return true for text files, false for binary snapshots.
+     */
+    static boolean isTextFile(Path path) {
+        return path.getFileName().toString().toLowerCase().endsWith(TEXT_EXTENSION);
+    }
+
+    /**
+     * Creates the view for a robot entity based on its type.
+     *
+     * @param robot The robot entity.
+     * @return The created robot view.
+     * @throws IllegalArgumentException If the robot type is unknown.
+     */
+    static Robot createRobotView(RobotEntity robot) {
+        return switch (EntityType.of(robot)) {
+            case SENSOR_ROBOT -> new SensorRobot((SensorRobotEntity) robot);
+            case DEFAULT_ROBOT -> new DefaultRobot((DefaultRobotEntity) robot);
+            case PREDATOR_ROBOT -> new PredatorRobot((PredatorRobotEntity) robot);
+            case USER_CONTROLLED_ROBOT -> new UserControlledRobot((UserControlledRobotEntity) robot);
+            case WHISKER_ROBOT -> new WhiskerRobot((WhiskerRobotEntity) robot);
+            default -> throw new IllegalArgumentException("Unknown robot type: " + robot.getClass().getSimpleName());
+        };
+    }
+
+    /**
+     * Creates the view for an obstacle entity based on its type.
+     *
+     * @param obstacle The obstacle entity.
+     * @return The created obstacle view.
+     * @throws IllegalArgumentException If the obstacle type is unknown.
+     */
+    static Obstacle createObstacleView(ObstacleEntity obstacle) {
+        return switch (EntityType.of(obstacle)) {
+            case LAMP_OBSTACLE -> new LampObstacle((LampObstacleEntity) obstacle);
+            case ROCK_OBSTACLE -> new RockObstacle((RockObstacleEntity) obstacle);
+            case LAKE_OBSTACLE -> new LakeObstacle((LakeObstacleEntity) obstacle);
+            default -> throw new IllegalArgumentException("Unknown obstacle type: " + obstacle.getClass().getSimpleName());
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,296 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.ObstacleEntity;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.SensorRobotEntity;
+import com.example.robotsim.core.UserControlledRobotEntity;
+import com.example.robotsim.core.WhiskerRobotEntity;
+import com.example.robotsim.core.World;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The CanvasRenderer class draws the whole arena onto a single {@link Canvas}, as an alternative to one
+ * scene-graph node per robot and obstacle. Every frame it clears the canvas and draws all entities straight
+ * from their state, using the sprites of the shared {@link SpriteCache}, so the cost of a frame no longer
+ * depends on tens of thousands of nodes being laid out, styled and rendered.
+ * <p>
+ * The drawing is done in batches: obstacles, robot sprites, sensor visuals and finally the name labels,
+ * keeping the graphics state unchanged within each batch. The result looks like the node views, but the
+ * name labels are drawn above all robots rather than each above its own robot.
+ * <p>
+ * The canvas always has the size of the arena and shows the part of the world selected by a {@link Viewport}.
+ * Entities outside the viewport are skipped, and labels and sensor visuals are left out as decided by the
+ * {@link LevelOfDetail}.
+ * <p>
+ * Since there are no nodes to receive mouse events, the canvas does the hit testing itself: robots and
+ * obstacles can be dragged as with the node views, and a clicked user-controlled robot can be moved with
+ * W, A, S and D.
+ */
+public class CanvasRenderer extends Canvas {
+
+    private static final Font NAME_FONT = Font.font(14);  // Font of the name labels, as in the robot views
+    private static final double NAME_OFFSET_Y = -10;  // Baseline of the name label relative to the robot
+    private static final double CONE_OPACITY = 0.7;  // Opacity of the sensor cone
+    private static final double WHISKER_WIDTH = 2;  // Stroke width of the whiskers
+
+    private final World world;  // World whose entities are drawn
+    private final Viewport viewport;  // Part of the world shown
+    private final LevelOfDetail levelOfDetail;  // Decides whether labels and sensors are drawn
+    private final List<RobotEntity> visibleRobots = new ArrayList<>();  // Robots inside the viewport in the current frame
+    private final double[] coneX = new double[SensorRobot.CONE_SEGMENTS + 2];  // Corners of the sensor cone being drawn
+    private final double[] coneY = new double[SensorRobot.CONE_SEGMENTS + 2];
+    private Entity dragged;  // Entity being dragged, null if none
+    private double dragOffsetX;  // Offset between the mouse and the dragged obstacle
+    private double dragOffsetY;
+    private UserControlledRobotEntity controlled;  // User-controlled robot receiving key presses, null if none
+
+    /**
+     * Constructs a CanvasRenderer for a world. The canvas has no size until it is set or bound.
+     *
+     * @param world         The world to draw.
+     * @param viewport      The part of the world to show.
+     * @param levelOfDetail The level of detail deciding whether labels and sensors are drawn.
+     */
+    public CanvasRenderer(World world, Viewport viewport, LevelOfDetail levelOfDetail) {
+        this.world = world;
+        this.viewport = viewport;
+        this.levelOfDetail = levelOfDetail;
+        setFocusTraversable(true);  // Receive key presses for the user-controlled robot
+
+        setOnMousePressed(this::startDrag);
+        setOnMouseDragged(this::drag);
+        setOnMouseReleased(event -> dragged = null);
+        setOnKeyPressed(event -> {
+            if (controlled == null) {
+                return;
+            }
+            // Same keys as the UserControlledRobot view
+            if (event.getCode() == KeyCode.W) {
+                controlled.nudge(0, -1);
+            } else if (event.getCode() == KeyCode.A) {
+                controlled.nudge(-1, 0);
+            } else if (event.getCode() == KeyCode.S) {
+                controlled.nudge(0, 1);
+            } else if (event.getCode() == KeyCode.D) {
+                controlled.nudge(1, 0);
+            } else {
+                return;
+            }
+            event.consume();
+            render();
+        });
+    }
+
+    /**
+     * Draws the current state of every entity in the viewport, replacing the previous frame.
+     */
+    public void render() {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.setTransform(1, 0, 0, 1, 0, 0);
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        viewport.setViewSize(getWidth(), getHeight());
+        double zoom = viewport.getZoom();
+        gc.setTransform(zoom, 0, 0, zoom, -viewport.getOffsetX() * zoom, -viewport.getOffsetY() * zoom);
+
+        // Cull the robots outside the viewport; the rest decide the level of detail
+        visibleRobots.clear();
+        for (RobotEntity robot : world.getRobots()) {
+            if (viewport.isVisible(robot)) {
+                visibleRobots.add(robot);
+            }
+        }
+        List<RobotEntity> robots = visibleRobots;
+
+        // Obstacles, rotated about their centre like the image views
+        for (ObstacleEntity obstacle : world.getObstacles()) {
+            if (!viewport.isVisible(obstacle)) {
+                continue;
+            }
+            double size = obstacle.getSize();
+            Image sprite = SpriteCache.getShared().get(spritePath(EntityType.of(obstacle)), size, size);
+            if (obstacle.getRotation() == 0) {
+                gc.drawImage(sprite, obstacle.getX(), obstacle.getY(), size, size);
+            } else {
+                gc.save();
+                gc.translate(obstacle.getX() + size / 2, obstacle.getY() + size / 2);
+                gc.rotate(obstacle.getRotation());
+                gc.drawImage(sprite, -size / 2, -size / 2, size, size);
+                gc.restore();
+            }
+        }
+
+        // Robot sprites
+        for (RobotEntity robot : robots) {
+            Image sprite = SpriteCache.getShared().get(spritePath(EntityType.of(robot)), robot.getWidth(), robot.getHeight());
+            gc.drawImage(sprite, robot.getX(), robot.getY(), robot.getWidth(), robot.getHeight());
+        }
+
+        // Sensor cones and whiskers
+        if (levelOfDetail.showSensors(robots.size(), zoom)) {
+            gc.setLineWidth(WHISKER_WIDTH);
+            for (RobotEntity robot : robots) {
+                if (robot instanceof SensorRobotEntity sensor) {
+                    drawCone(gc, sensor);
+                } else if (robot instanceof WhiskerRobotEntity whisker) {
+                    drawWhiskers(gc, whisker);
+                }
+            }
+        }
+
+        // Name labels
+        if (levelOfDetail.showLabels(robots.size(), zoom)) {
+            gc.setFill(Color.BLACK);
+            gc.setFont(NAME_FONT);
+            for (RobotEntity robot : robots) {
+                gc.fillText(robot.getName(), robot.getX(), robot.getY() + NAME_OFFSET_Y);
+            }
+        }
+    }
+
+    /**
+     * Draws the sensor cone of a robot the way {@link SensorRobot} places it: the sector the sensor sees,
+     * from the centre of the robot around its direction, red while the sensor detects something.
+     *
+     * @param gc    The graphics context to draw with.
+     * @param robot The sensor robot.
+     */
+    private void drawCone(GraphicsContext gc, SensorRobotEntity robot) {
+        double range = robot.getSensorRange();
+        coneX[0] = robot.getX() + robot.getWidth() / 2;  // Tip
+        coneY[0] = robot.getY() + robot.getHeight() / 2;
+        for (int i = 0; i <= SensorRobot.CONE_SEGMENTS; i++) {
+            double angle = Math.toRadians(robot.getDirection() - SensorRobotEntity.SENSOR_HALF_ANGLE
+                    + 2 * SensorRobotEntity.SENSOR_HALF_ANGLE * i / SensorRobot.CONE_SEGMENTS);
+            coneX[i + 1] = coneX[0] + Math.cos(angle) * range;
+            coneY[i + 1] = coneY[0] + Math.sin(angle) * range;
+        }
+
+        gc.setGlobalAlpha(CONE_OPACITY);
+        gc.setFill(robot.isObstacleDetected() ? Color.RED : Color.GREEN);
+        gc.fillPolygon(coneX, coneY, coneX.length);
+        gc.setGlobalAlpha(1);
+    }
+
+    /**
+     * Draws the front, left and right whiskers of a robot the way {@link WhiskerRobot} places them,
+     * from its centre to where they touched something, red while an obstacle is being avoided.
+     *
+     * @param gc    The graphics context to draw with.
+     * @param robot The whisker robot.
+     */
+    private void drawWhiskers(GraphicsContext gc, WhiskerRobotEntity robot) {
+        double centreX = robot.getX() + robot.getWidth() / 2;
+        double centreY = robot.getY() + robot.getHeight() / 2;
+        gc.setStroke(robot.isRecentlyDetectedObstacle() ? Color.RED : Color.BLACK);
+        for (WhiskerRobotEntity.Whisker whisker : WhiskerRobotEntity.Whisker.values()) {
+            double length = Math.min(robot.getWhiskerLength(), robot.getHitDistance(whisker));
+            double radians = Math.toRadians(robot.getDirection() + whisker.getAngle());
+            gc.strokeLine(centreX, centreY, centreX + Math.cos(radians) * length, centreY + Math.sin(radians) * length);
+        }
+    }
+
+    /**
+     * Picks the topmost entity under the mouse, if any, for dragging. Robots are above obstacles.
+     *
+     * @param event The mouse event.
+     */
+    private void startDrag(MouseEvent event) {
+        requestFocus();
+        double x = viewport.toWorldX(event.getX());
+        double y = viewport.toWorldY(event.getY());
+        dragged = entityAt(x, y);
+        if (dragged instanceof UserControlledRobotEntity robot) {
+            controlled = robot;
+        }
+        if (dragged != null) {
+            dragOffsetX = x - dragged.getX();
+            dragOffsetY = y - dragged.getY();
+        }
+    }
+
+    /**
+     * Moves the dragged entity with the mouse: robots are centred on it, obstacles keep the offset
+     * they were grabbed at, as with the node views.
+     *
+     * @param event The mouse event.
+     */
+    private void drag(MouseEvent event) {
+        double x = viewport.toWorldX(event.getX());
+        double y = viewport.toWorldY(event.getY());
+        if (dragged instanceof RobotEntity robot) {
+            robot.setPosition(x - robot.getWidth() / 2, y - robot.getHeight() / 2);
+        } else if (dragged != null) {
+            dragged.setPosition(x - dragOffsetX, y - dragOffsetY);
+        } else {
+            return;
+        }
+        render();  // Show the move even while the simulation is paused
+    }
+
+    /**
+     * Returns the topmost entity whose bounds contain a point, checking robots before obstacles
+     * and later entities before earlier ones, matching the drawing order.
+     *
+     * @param x The X-coordinate in the world.
+     * @param y The Y-coordinate in the world.
+     * @return The entity, or null if there is none at the point.
+     */
+    private Entity entityAt(double x, double y) {
+        List<RobotEntity> robots = world.getRobots();
+        for (int i = robots.size() - 1; i >= 0; i--) {
+            if (contains(robots.get(i), x, y)) {
+                return robots.get(i);
+            }
+        }
+        List<ObstacleEntity> obstacles = world.getObstacles();
+        for (int i = obstacles.size() - 1; i >= 0; i--) {
+            if (contains(obstacles.get(i), x, y)) {
+                return obstacles.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the bounds of an entity contain a point.
+     *
+     * @param entity The entity.
+     * @param x      The X-coordinate.
+     * @param y      The Y-coordinate.
+     * @return true if the point lies within the entity.
+     */
+    private static boolean contains(Entity entity, double x, double y) {
+        return x >= entity.getX() && x < entity.getX() + entity.getWidth()
+                && y >= entity.getY() && y < entity.getY() + entity.getHeight();
+    }
+
+    /**
+     * Returns the sprite resource of an entity type, the same image its node view shows.
+     *
+     * @param type The entity type.
+     * @return The classpath resource of the sprite.
+     */
+    static String spritePath(EntityType type) {
+        return switch (type) {
+            case DEFAULT_ROBOT -> DefaultRobot.IMAGE_PATH;
+            case SENSOR_ROBOT -> SensorRobot.IMAGE_PATH;
+            case PREDATOR_ROBOT -> PredatorRobot.IMAGE_PATH;
+            case USER_CONTROLLED_ROBOT -> UserControlledRobot.IMAGE_PATH;
+            case WHISKER_ROBOT -> WhiskerRobot.IMAGE_PATH;
+            case LAMP_OBSTACLE -> LampObstacle.IMAGE_PATH;
+            case ROCK_OBSTACLE -> RockObstacle.IMAGE_PATH;
+            case LAKE_OBSTACLE -> LakeObstacle.IMAGE_PATH;
+        };
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.DefaultRobotEntity;
+
+/**
+ * The DefaultRobot class is the view of a {@link DefaultRobotEntity}.
+ * It represents a basic robot with standard behavior, displayed with the default robot image.
+ */
+public class DefaultRobot extends Robot {
+
+    static final String IMAGE_PATH = "/Images/robot.png";  // Sprite shown for this type
+
+    /**
+     * Constructs a new DefaultRobot with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public DefaultRobot(String name, double x, double y, double size) {
+        this(new DefaultRobotEntity(name, x, y, size));
+    }
+
+    /**
+     * Constructs a new DefaultRobot view for an existing entity.
+     *
+     * @param entity The entity to display.
+     */
+    public DefaultRobot(DefaultRobotEntity entity) {
+        super(entity, IMAGE_PATH);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.LakeObstacleEntity;
+
+/**
+ * The LakeObstacle class is the view of a {@link LakeObstacleEntity}. It represents a specific type of obstacle: a lake.
+ * When a robot collides with the lake, it bounces off in both horizontal and vertical directions,
+ * and its speed is reduced temporarily.
+ */
+public class LakeObstacle extends Obstacle {
+
+    static final String IMAGE_PATH = "/Images/Obstacle3.png";  // Sprite shown for this type
+
+    /**
+     * Constructs a LakeObstacle at the specified position (x, y) with the given size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param size The size (width and height) of the obstacle.
+     */
+    public LakeObstacle(double x, double y, double size) {
+        this(new LakeObstacleEntity(x, y, size));
+    }
+
+    /**
+     * Constructs a LakeObstacle view for an existing entity, displayed with Obstacle3.png.
+     *
+     * @param entity The entity to display.
+     */
+    public LakeObstacle(LakeObstacleEntity entity) {
+        super(entity, IMAGE_PATH);  // Load lake image
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.LampObstacleEntity;
+
+/**
+ * The LampObstacle class is the view of a {@link LampObstacleEntity}. It represents a lamp that, when collided with, falls over and reverts to its original position after a set time.
+ */
+public class LampObstacle extends Obstacle {
+
+    static final String IMAGE_PATH = "/Images/Obstacle1.png";  // Sprite shown for this type
+
+    /**
+     * Constructs a LampObstacle at the specified position (x, y) with the given size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param size The size (width and height) of the obstacle.
+     */
+    public LampObstacle(double x, double y, double size) {
+        this(new LampObstacleEntity(x, y, size));
+    }
+
+    /**
+     * Constructs a LampObstacle view for an existing entity, displayed with Obstacle1.png.
+     *
+     * @param entity The entity to display.
+     */
+    public LampObstacle(LampObstacleEntity entity) {
+        super(entity, IMAGE_PATH);  // Load lamp image
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.robotsim;
+
+/**
+ * The LevelOfDetail class decides which robot details are worth drawing. With many robots on screen, or when
+ * zoomed far out, name labels and sensor visuals overlap into an unreadable blob while still costing a node
+ * or a draw call each, so they are hidden above a number of visible robots or below a zoom factor.
+ * <p>
+ * The thresholds can be set at runtime or with system properties at startup, e.g.
+ * {@code -Drobotsim.lod.maxLabeledRobots=500 -Drobotsim.lod.minSensorZoom=0.25}.
+ */
+public class LevelOfDetail {
+
+    /** Default number of visible robots above which name labels are hidden. */
+    public static final int DEFAULT_MAX_LABELED_ROBOTS = 300;
+
+    /** Default zoom factor below which name labels are hidden. */
+    public static final double DEFAULT_MIN_LABEL_ZOOM = 0.6;
+
+    /** Default number of visible robots above which sensor cones and whiskers are hidden. */
+    public static final int DEFAULT_MAX_SENSOR_ROBOTS = 1500;
+
+    /** Default zoom factor below which sensor cones and whiskers are hidden. */
+    public static final double DEFAULT_MIN_SENSOR_ZOOM = 0.35;
+
+    private static final String PROPERTY_PREFIX = "robotsim.lod.";  // Prefix of the system properties setting the thresholds
+
+    private int maxLabeledRobots = DEFAULT_MAX_LABELED_ROBOTS;  // Visible robots above which labels are hidden
+    private double minLabelZoom = DEFAULT_MIN_LABEL_ZOOM;  // Zoom below which labels are hidden
+    private int maxSensorRobots = DEFAULT_MAX_SENSOR_ROBOTS;  // Visible robots above which sensors are hidden
+    private double minSensorZoom = DEFAULT_MIN_SENSOR_ZOOM;  // Zoom below which sensors are hidden
+
+    /**
+     * Creates a LevelOfDetail with the thresholds from the {@code robotsim.lod.*} system properties,
+     * using the defaults for properties that are not set or not a number.
+     *
+     * @return The level of detail.
+     */
+    public static LevelOfDetail fromSystemProperties() {
+        LevelOfDetail lod = new LevelOfDetail();
+        lod.setMaxLabeledRobots(Integer.getInteger(PROPERTY_PREFIX + "maxLabeledRobots", DEFAULT_MAX_LABELED_ROBOTS));
+        lod.setMinLabelZoom(doubleProperty("minLabelZoom", DEFAULT_MIN_LABEL_ZOOM));
+        lod.setMaxSensorRobots(Integer.getInteger(PROPERTY_PREFIX + "maxSensorRobots", DEFAULT_MAX_SENSOR_ROBOTS));
+        lod.setMinSensorZoom(doubleProperty("minSensorZoom", DEFAULT_MIN_SENSOR_ZOOM));
+        return lod;
+    }
+
+    /**
+     * Reads a decimal system property.
+     *
+     * @param name         The name of the property without the prefix.
+     * @param defaultValue The value to use if the property is not set or not a number, like {@link Integer#getInteger}.
+     * @return The value of the property.
+     */
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Returns whether the name labels should be shown.
+     *
+     * @param visibleRobots The number of robots in the view.
+     * @param zoom          The zoom factor of the view.
+     * @return true if labels are shown.
+     */
+    public boolean showLabels(int visibleRobots, double zoom) {
+        return visibleRobots <= maxLabeledRobots && zoom >= minLabelZoom;
+    }
+
+    /**
+     * Returns whether sensor cones and whiskers should be shown.
+     *
+     * @param visibleRobots The number of robots in the view.
+     * @param zoom          The zoom factor of the view.
+     * @return true if sensor visuals are shown.
+     */
+    public boolean showSensors(int visibleRobots, double zoom) {
+        return visibleRobots <= maxSensorRobots && zoom >= minSensorZoom;
+    }
+
+    /**
+     * Sets the number of visible robots above which name labels are hidden.
+     *
+     * @param maxLabeledRobots The robot count.
+     */
+    public void setMaxLabeledRobots(int maxLabeledRobots) {
+        this.maxLabeledRobots = maxLabeledRobots;
+    }
+
+    /**
+     * Returns the number of visible robots above which name labels are hidden.
+     *
+     * @return The robot count.
+     */
+    public int getMaxLabeledRobots() {
+        return maxLabeledRobots;
+    }
+
+    /**
+     * Sets the zoom factor below which name labels are hidden.
+     *
+     * @param minLabelZoom The zoom factor.
+     */
+    public void setMinLabelZoom(double minLabelZoom) {
+        this.minLabelZoom = minLabelZoom;
+    }
+
+    /**
+     * Returns the zoom factor below which name labels are hidden.
+     *
+     * @return The zoom factor.
+     */
+    public double getMinLabelZoom() {
+        return minLabelZoom;
+    }
+
+    /**
+     * Sets the number of visible robots above which sensor cones and whiskers are hidden.
+     *
+     * @param maxSensorRobots The robot count.
+     */
+    public void setMaxSensorRobots(int maxSensorRobots) {
+        this.maxSensorRobots = maxSensorRobots;
+    }
+
+    /**
+     * Returns the number of visible robots above which sensor cones and whiskers are hidden.
+     *
+     * @return The robot count.
+     */
+    public int getMaxSensorRobots() {
+        return maxSensorRobots;
+    }
+
+    /**
+     * Sets the zoom factor below which sensor cones and whiskers are hidden.
+     *
+     * @param minSensorZoom The zoom factor.
+     */
+    public void setMinSensorZoom(double minSensorZoom) {
+        this.minSensorZoom = minSensorZoom;
+    }
+
+    /**
+     * Returns the zoom factor below which sensor cones and whiskers are hidden.
+     *
+     * @return The zoom factor.
+     */
+    public double getMinSensorZoom() {
+        return minSensorZoom;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.ObstacleEntity;
+import javafx.geometry.Point2D;
+import javafx.scene.image.ImageView;
+
+/**
+ * The Obstacle class is the JavaFX view of an {@link ObstacleEntity}.
+ * It is an abstract class that can be extended by specific types of obstacles.
+ * The class provides functionality for displaying the obstacle image, resizing it,
+ * and enabling dragging functionality in the scene. How the obstacle interacts with
+ * robots is defined by its entity.
+ */
+public abstract class Obstacle extends ImageView {
+    private final ObstacleEntity entity;  // Model holding the obstacle's state
+    private double mouseX;  // X-coordinate for mouse drag event
+    private double mouseY;  // Y-coordinate for mouse drag event
+    private String imagePath;  // Path to the obstacle image file
+
+    /**
+     * Constructs an Obstacle view for the given entity and image path.
+     * It loads the image, sets the size of the obstacle, and enables drag functionality.
+     *
+     * @param entity The entity to display.
+     * @param imagePath The classpath resource of the image representing the obstacle.
+     */
+    protected Obstacle(ObstacleEntity entity, String imagePath) {
+        // Use the shared obstacle image, decoded once at the obstacle's size
+        super(SpriteCache.getShared().get(imagePath, entity.getSize(), entity.getSize()));
+        this.entity = entity;
+        this.imagePath = imagePath;  // Store the image path
+
+        setFitWidth(entity.getSize());  // Set the width of the obstacle
+        setFitHeight(entity.getSize());  // Set the height of the obstacle
+        syncWithEntity();
+
+        // Enable dragging functionality for the obstacle
+        enableDrag();
+    }
+
+    /**
+     * Enables dragging functionality for the obstacle.
+     * The obstacle can be dragged by pressing and moving the mouse on the obstacle image.
+     */
+    private void enableDrag() {
+        this.setOnMousePressed(event -> {
+            Point2D mouse = getParent().sceneToLocal(event.getSceneX(), event.getSceneY());  // Mouse in arena coordinates
+            mouseX = mouse.getX() - entity.getX();  // Calculate the offset between mouse position and obstacle position
+            mouseY = mouse.getY() - entity.getY();  // Calculate the offset between mouse position and obstacle position
+        });
+
+        this.setOnMouseDragged(event -> {
+            // Update the obstacle's position while dragging
+            Point2D mouse = getParent().sceneToLocal(event.getSceneX(), event.getSceneY());
+            entity.setPosition(mouse.getX() - mouseX, mouse.getY() - mouseY);
+            syncWithEntity();
+        });
+    }
+
+    /**
+     * Mirrors the entity's position and rotation into the scene graph.
+     */
+    public void syncWithEntity() {
+        setX(entity.getX());
+        setY(entity.getY());
+        setRotate(entity.getRotation());
+    }
+
+    /**
+     * Returns the entity this view displays.
+     *
+     * @return The obstacle entity.
+     */
+    public ObstacleEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Returns the size (width/height) of the obstacle.
+     *
+     * @return The size of the obstacle.
+     */
+    public double getSize(){
+        return entity.getSize();
+    }
+
+    /**
+     * Returns the type of the obstacle (e.g., "Lamp", "Lake").
+     *
+     * @return The type of the obstacle.
+     */
+    public String getName(){
+        return entity.getName();
+    }
+}
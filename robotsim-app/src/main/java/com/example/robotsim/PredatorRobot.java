@@ -0,0 +1,33 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.PredatorRobotEntity;
+
+/**
+ * Represents the view of a {@link PredatorRobotEntity}, which consumes any robots or obstacles it collides with.
+ * Consumed entities are removed from the world, and the {@link ArenaController} removes their views.
+ */
+public class PredatorRobot extends Robot {
+
+    static final String IMAGE_PATH = "/Images/predatorRobot.png";  // Sprite shown for this type
+
+    /**
+     * Constructor for PredatorRobot.
+     *
+     * @param name            The name of the robot.
+     * @param x               The initial X-coordinate of the robot.
+     * @param y               The initial Y-coordinate of the robot.
+     * @param size            The size of the robot.
+     */
+    public PredatorRobot(String name, double x, double y, double size) {
+        this(new PredatorRobotEntity(name, x, y, size));
+    }
+
+    /**
+     * Constructs a PredatorRobot view for an existing entity.
+     *
+     * @param entity The entity to display.
+     */
+    public PredatorRobot(PredatorRobotEntity entity) {
+        super(entity, IMAGE_PATH);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.ObstacleEntity;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.SimulationClock;
+import com.example.robotsim.core.SimulationReplay;
+import com.example.robotsim.core.WorldListener;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Pane;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * The ReplayPlayer class plays a {@link SimulationReplay} in the arena and is the control bar for it.
+ * It shows the replayed entities with the usual robot and obstacle views, advances the replay with its own
+ * {@link SimulationClock} at an adjustable speed, and seeks when the slider is dragged. Nothing is simulated:
+ * the views only follow the recorded states.
+ */
+public class ReplayPlayer extends HBox {
+
+    private static final int MAX_CATCH_UP_FRAMES = 64;  // Frames applied per pulse at most, enough for fast playback
+    private static final double[] SPEEDS = {0.25, 0.5, 1, 2, 4, 8, 16};  // Playback speeds to choose from
+
+    private final Pane entityPane;  // Pane the replayed entities are shown in, the arena's world layer
+    private final SimulationReplay replay;  // Replay being played
+    private final Map<Entity, Node> views = new HashMap<>();  // View of every replayed entity
+    private final SimulationClock clock;  // Clock applying one frame per recorded tick
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (clock.advance(now) > 0) {
+                syncViews();  // Once per pulse, however many frames were applied
+            }
+        }
+    };
+    private final Slider positionSlider = new Slider();  // Current frame, draggable to seek
+    private final Label frameLabel = new Label();  // Current frame and tick as text
+    private boolean playing = false;  // Whether the replay is advancing
+    private boolean updatingSlider = false;  // Set while the slider follows the replay, to tell it apart from the user
+
+    /**
+     * Constructs a ReplayPlayer and shows the first frame of the replay.
+     *
+     * @param entityPane The pane to show the replayed entities in.
+     * @param replay    The replay to play.
+     * @param onExit    Called when the user leaves the replay.
+     * @throws IOException If the first frame cannot be read.
+     */
+    public ReplayPlayer(Pane entityPane, SimulationReplay replay, Runnable onExit) throws IOException {
+        this.entityPane = entityPane;
+        this.replay = replay;
+        this.clock = new SimulationClock(replay.getTickMillis(), MAX_CATCH_UP_FRAMES, tick -> advance());
+
+        // Mirror the entities appearing and disappearing in the replay
+        replay.addListener(new WorldListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+                Node view = entity instanceof RobotEntity robot ? ArenaFileHandler.createRobotView(robot)
+                        : ArenaFileHandler.createObstacleView((ObstacleEntity) entity);
+                views.put(entity, view);
+                entityPane.getChildren().add(view);
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                entityPane.getChildren().remove(views.remove(entity));
+            }
+        });
+
+        positionSlider.setMin(0);
+        positionSlider.setMax(Math.max(0, replay.getFrameCount() - 1));
+        positionSlider.setPrefWidth(600);
+        positionSlider.valueProperty().addListener((observable, oldValue, newValue) -> {
+            if (!updatingSlider) {
+                seek(newValue.longValue());
+            }
+        });
+
+        ComboBox<Double> speedChoice = new ComboBox<>();
+        for (double speed : SPEEDS) {
+            speedChoice.getItems().add(speed);
+        }
+        speedChoice.setValue(1.0);
+        speedChoice.valueProperty().addListener((observable, oldSpeed, newSpeed) -> clock.setSpeedMultiplier(newSpeed));
+
+        Button exitButton = new Button("Exit Replay");
+        exitButton.setOnAction(event -> onExit.run());
+
+        setSpacing(10);
+        setAlignment(Pos.CENTER_LEFT);
+        setStyle("-fx-background-color: rgba(255, 255, 255, 0.85); -fx-padding: 5;");
+        getChildren().addAll(new Label("Replay"), positionSlider, frameLabel, new Label("Speed:"), speedChoice, exitButton);
+
+        replay.seek(0);
+        syncViews();
+    }
+
+    /**
+     * Starts or resumes playback.
+     */
+    public void play() {
+        if (!playing) {
+            clock.reset();
+            timer.start();
+            playing = true;
+        }
+    }
+
+    /**
+     * Pauses playback.
+     */
+    public void pause() {
+        if (playing) {
+            timer.stop();
+            playing = false;
+        }
+    }
+
+    /**
+     * Moves the replay to a frame and updates the views.
+     *
+     * @param frame The frame to show.
+     */
+    public void seek(long frame) {
+        try {
+            replay.seek(frame);
+        } catch (IOException e) {
+            pause();
+            System.err.println("Seeking the replay failed: " + e.getMessage());
+        }
+        syncViews();
+    }
+
+    /**
+     * Applies the next frame, pausing at the end of the recording. The views are updated by the timer
+     * once the pulse's frames are applied.
+     */
+    private void advance() {
+        try {
+            if (!replay.step()) {
+                pause();
+            }
+        } catch (IOException e) {
+            pause();
+            System.err.println("Reading the replay failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Updates every view, the slider and the frame label to the current frame.
+     */
+    private void syncViews() {
+        for (Node view : views.values()) {
+            if (view instanceof Robot robot) {
+                robot.syncWithEntity();
+            } else if (view instanceof Obstacle obstacle) {
+                obstacle.syncWithEntity();
+            }
+        }
+        updatingSlider = true;
+        positionSlider.setValue(replay.getCurrentFrame());
+        updatingSlider = false;
+        frameLabel.setText("Frame " + replay.getCurrentFrame() + "/" + (replay.getFrameCount() - 1)
+                + " (tick " + replay.getCurrentTick() + ")");
+    }
+
+    /**
+     * Stops playback, removes the replayed entities from the arena and closes the replay.
+     */
+    public void close() {
+        pause();
+        entityPane.getChildren().removeAll(new HashSet<>(views.values()));
+        views.clear();
+        try {
+            replay.close();
+        } catch (IOException e) {
+            System.err.println("Closing the replay failed: " + e.getMessage());
+        }
+    }
+}
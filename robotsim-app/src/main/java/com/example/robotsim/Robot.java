@@ -0,0 +1,169 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.RobotEntity;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.image.ImageView;
+import javafx.scene.text.Text;
+
+/**
+ * Abstract JavaFX view of a robot in the arena. The robot's state and behaviour live in a
+ * {@link RobotEntity}; this class only displays it with an image and a name label, mirrors its
+ * position once per tick, and lets the user drag it around.
+ */
+public abstract class Robot extends Group {
+
+    private final RobotEntity entity;  // Model holding the robot's state
+    private final Text nameText;  // Text element to display the robot's name
+    private final ImageView imageView;  // ImageView to display the robot's image
+
+    /**
+     * Constructs a new Robot view for the given entity, using the given image resource.
+     *
+     * @param entity    The entity to display.
+     * @param imagePath The classpath resource of the robot's image.
+     */
+    protected Robot(RobotEntity entity, String imagePath) {
+        this.entity = entity;
+
+        // Use the shared robot image, decoded once at the entity's size
+        imageView = new ImageView(SpriteCache.getShared().get(imagePath, entity.getWidth(), entity.getHeight()));
+        imageView.setFitWidth(entity.getWidth());
+        imageView.setFitHeight(entity.getHeight());
+
+        // Initialize name display
+        nameText = new Text(entity.getName());
+        nameText.setStyle("-fx-font-size: 14; -fx-fill: black;");
+        nameText.setX(0); // Center the name horizontally above the robot
+        nameText.setY(-10); // Position name above the robot
+
+        // Add the image and name to the robot's visual representation
+        getChildren().addAll(imageView, nameText);
+
+        syncWithEntity();
+
+        // Enable drag-and-drop functionality for the robot
+        enableDrag();
+    }
+
+    /**
+     * Returns the entity this view displays.
+     *
+     * @return The robot entity.
+     */
+    public RobotEntity getEntity() {
+        return entity;
+    }
+
+    /**
+     * Mirrors the entity's state into the scene graph. Called once per tick;
+     * subclasses extend it to update their sensor visuals.
+     */
+    public void syncWithEntity() {
+        setLayoutX(entity.getX());
+        setLayoutY(entity.getY());
+    }
+
+    /**
+     * Shows or hides the details of the robot, as decided by the {@link LevelOfDetail} of the arena.
+     *
+     * @param nameVisible    Whether the name label is shown.
+     * @param sensorsVisible Whether sensor visuals, such as cones or whiskers, are shown.
+     */
+    public void setDetailVisible(boolean nameVisible, boolean sensorsVisible) {
+        nameText.setVisible(nameVisible);
+        setSensorsVisible(sensorsVisible);
+    }
+
+    /**
+     * Shows or hides the sensor visuals of the robot. Robots without sensor visuals ignore this.
+     *
+     * @param visible Whether the sensor visuals are shown.
+     */
+    protected void setSensorsVisible(boolean visible) {
+    }
+
+    // Getters for position, name, and size
+
+    /**
+     * Returns the X-coordinate of the robot's position.
+     *
+     * @return The X-coordinate.
+     */
+    public double getX() {
+        return entity.getX();
+    }
+
+    /**
+     * Returns the Y-coordinate of the robot's position.
+     *
+     * @return The Y-coordinate.
+     */
+    public double getY() {
+        return entity.getY();
+    }
+
+    /**
+     * Returns the name of the robot.
+     *
+     * @return The name of the robot.
+     */
+    public String getName() {
+        return entity.getName();
+    }
+
+    /**
+     * Returns the width of the robot.
+     *
+     * @return The width of the robot.
+     */
+    public double getRobotWidth() {
+        return entity.getWidth();
+    }
+
+    /**
+     * Returns the height of the robot.
+     *
+     * @return The height of the robot.
+     */
+    public double getRobotHeight() {
+        return entity.getHeight();
+    }
+
+    /**
+     * Returns the speed of the robot.
+     *
+     * @return The speed of the robot.
+     */
+    public double getSpeed() {
+        return entity.getSpeed();
+    }
+
+    /**
+     * Returns the current direction of the robot in degrees.
+     *
+     * @return The direction of the robot.
+     */
+    public double getDirection() {
+        return entity.getDirection();
+    }
+
+    /**
+     * Enables drag-and-drop functionality for the robot.
+     * Allows the robot to be dragged with the mouse and brought to the front during dragging.
+     */
+    private void enableDrag() {
+        setOnMousePressed(event -> {
+            event.setDragDetect(true);
+            toFront(); // Bring the robot to the front during dragging
+        });
+
+        setOnMouseDragged(event -> {
+            // Move the entity to the mouse position, in the coordinates of the zoomable arena, and mirror it immediately
+            Point2D mouse = getParent().sceneToLocal(event.getSceneX(), event.getSceneY());
+            entity.setPosition(mouse.getX() - imageView.getFitWidth() / 2,
+                    mouse.getY() - imageView.getFitHeight() / 2);
+            syncWithEntity();
+        });
+    }
+}
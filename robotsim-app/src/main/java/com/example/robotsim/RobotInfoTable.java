@@ -0,0 +1,212 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.World;
+import com.example.robotsim.core.WorldListener;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.VBox;
+import javafx.util.StringConverter;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The RobotInfoTable class shows the name, type, position and size of every robot in the world.
+ * It is a virtualized table backed directly by the robot entities: only the visible rows have cells,
+ * and a refresh merely re-reads those cells instead of rebuilding any text.
+ * <p>
+ * Positions change every tick, but the table is only refreshed at a capped rate through
+ * {@link #refreshIfDue(long)}. The rows can be sorted by clicking a column header and filtered by robot type;
+ * both work on the list of entity references, which is only rebuilt when the filter or the set of robots changes.
+ */
+public class RobotInfoTable extends VBox {
+
+    private static final long REFRESH_INTERVAL_NANOS = 200_000_000L;  // Refresh at most 5 times per second
+
+    private final TableView<RobotEntity> table = new TableView<>();  // Virtualized table of robots
+    private final ComboBox<EntityType> typeFilter = new ComboBox<>();  // Robot type to show, null for all types
+    private final ObservableList<RobotEntity> rows = FXCollections.observableArrayList();  // Robots passing the filter
+    private final Set<Entity> removedRows = new HashSet<>();  // Robots removed from the world but still in the rows
+    private World world;  // World whose robots are shown
+    private long lastRefreshNanos = Long.MIN_VALUE;  // Time of the last refresh
+
+    /**
+     * Constructs an empty RobotInfoTable. Call {@link #setWorld(World)} to show the robots of a world.
+     */
+    public RobotInfoTable() {
+        // Filter choices: every robot type, plus null for "All"
+        typeFilter.getItems().add(null);
+        for (EntityType type : EntityType.values()) {
+            if (type.isRobot()) {
+                typeFilter.getItems().add(type);
+            }
+        }
+        typeFilter.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(EntityType type) {
+                return type == null ? "All robots" : type.getFileName();
+            }
+
+            @Override
+            public EntityType fromString(String string) {
+                return null;
+            }
+        });
+        typeFilter.setValue(null);
+        typeFilter.setMaxWidth(Double.MAX_VALUE);
+        typeFilter.valueProperty().addListener((observable, oldType, newType) -> reload());
+
+        table.getColumns().add(column("Name", RobotEntity::getName, false));
+        table.getColumns().add(column("Type", robot -> EntityType.of(robot).getFileName(), false));
+        table.getColumns().add(column("X", RobotEntity::getX, true));
+        table.getColumns().add(column("Y", RobotEntity::getY, true));
+        table.getColumns().add(column("Size", RobotEntity::getWidth, true));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
+        table.setPlaceholder(new Label("No robots"));
+        table.setItems(rows);
+        VBox.setVgrow(table, Priority.ALWAYS);
+
+        getChildren().addAll(typeFilter, table);
+    }
+
+    /**
+     * Shows the robots of the given world. The table follows robots being added and removed.
+     *
+     * @param world The world to show.
+     */
+    public void setWorld(World world) {
+        this.world = world;
+        world.addListener(new WorldListener() {
+            @Override
+            public void entityAdded(Entity entity) {
+                if (removedRows.remove(entity)) {
+                    return;  // Re-added before its row was dropped
+                }
+                if (entity instanceof RobotEntity robot && matchesFilter(robot)) {
+                    rows.add(robot);
+                }
+            }
+
+            @Override
+            public void entitiesAdded(List<? extends Entity> entities) {
+                List<RobotEntity> added = new ArrayList<>();
+                for (Entity entity : entities) {
+                    if (removedRows.remove(entity)) {
+                        continue;  // Re-added before its row was dropped
+                    }
+                    if (entity instanceof RobotEntity robot && matchesFilter(robot)) {
+                        added.add(robot);
+                    }
+                }
+                rows.addAll(added);  // One list change for the whole batch
+            }
+
+            @Override
+            public void entityRemoved(Entity entity) {
+                if (!(entity instanceof RobotEntity)) {
+                    return;
+                }
+                // Drop the rows of all robots removed in the same tick at once, as each single removal scans the rows
+                if (removedRows.isEmpty()) {
+                    Platform.runLater(RobotInfoTable.this::dropRemovedRows);
+                }
+                removedRows.add(entity);
+            }
+        });
+        reload();
+    }
+
+    /**
+     * Rebuilds the rows from the world's robots, e.g. after the world was cleared or the filter changed.
+     * Only entity references are copied; the cells read their values on the next refresh.
+     */
+    public void reload() {
+        if (world == null) {
+            return;
+        }
+        removedRows.clear();
+        rows.setAll(world.getRobots().stream().filter(this::matchesFilter).toList());
+        refresh();
+    }
+
+    /**
+     * Drops the rows of the robots removed from the world since the last call, in a single list change.
+     */
+    private void dropRemovedRows() {
+        if (!removedRows.isEmpty()) {
+            rows.removeAll(removedRows);
+            removedRows.clear();
+        }
+    }
+
+    /**
+     * Refreshes the visible rows if the last refresh is longer ago than the refresh interval.
+     *
+     * @param nowNanos The current time in nanoseconds.
+     */
+    public void refreshIfDue(long nowNanos) {
+        if (lastRefreshNanos == Long.MIN_VALUE || nowNanos - lastRefreshNanos >= REFRESH_INTERVAL_NANOS) {
+            refresh();
+            lastRefreshNanos = nowNanos;
+        }
+    }
+
+    /**
+     * Refreshes the visible rows immediately, re-applying the current sort order since positions may have changed.
+     */
+    public void refresh() {
+        if (!table.getSortOrder().isEmpty()) {
+            table.sort();
+        }
+        table.refresh();
+    }
+
+    /**
+     * Returns whether a robot passes the type filter.
+     *
+     * @param robot The robot to check.
+     * @return true if the robot should be shown, false otherwise.
+     */
+    private boolean matchesFilter(RobotEntity robot) {
+        EntityType type = typeFilter.getValue();
+        return type == null || EntityType.of(robot) == type;
+    }
+
+    /**
+     * Creates a column reading its values straight from the robot entities.
+     *
+     * @param title   The column title.
+     * @param value   The function reading the value from a robot.
+     * @param numeric Whether the value is a number to be shown with two decimals.
+     * @param <T>     The type of the value.
+     * @return The new column.
+     */
+    private static <T extends Comparable<T>> TableColumn<RobotEntity, T> column(String title, Function<RobotEntity, T> value, boolean numeric) {
+        TableColumn<RobotEntity, T> column = new TableColumn<>(title);
+        column.setCellValueFactory(cellData -> new ReadOnlyObjectWrapper<>(value.apply(cellData.getValue())));
+        if (numeric) {
+            column.setCellFactory(tableColumn -> new TableCell<>() {
+                @Override
+                protected void updateItem(T item, boolean empty) {
+                    super.updateItem(item, empty);
+                    setText(empty || item == null ? null : String.format("%.2f", item));
+                }
+            });
+        }
+        return column;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.RockObstacleEntity;
+
+/**
+ * The RockObstacle class is the view of a {@link RockObstacleEntity}. It represents a specific type of obstacle: a rock.
+ * This obstacle stops the robot for 3 seconds when a collision occurs,
+ * and then resumes its movement.
+ */
+public class RockObstacle extends Obstacle {
+
+    static final String IMAGE_PATH = "/Images/Obstacle2.png";  // Sprite shown for this type
+
+    /**
+     * Constructs a RockObstacle at the specified position (x, y) with the given size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param size The size (width and height) of the obstacle.
+     */
+    public RockObstacle(double x, double y, double size) {
+        this(new RockObstacleEntity(x, y, size));
+    }
+
+    /**
+     * Constructs a RockObstacle view for an existing entity, displayed with Obstacle2.png.
+     *
+     * @param entity The entity to display.
+     */
+    public RockObstacle(RockObstacleEntity entity) {
+        super(entity, IMAGE_PATH);  // Load rock image
+    }
+}
@@ -0,0 +1,104 @@
+    package com.example.robotsim;
+
+    import com.example.robotsim.core.SensorRobotEntity;
+    import javafx.scene.paint.Color;
+    import javafx.scene.shape.Polygon;
+    import javafx.scene.transform.Rotate;
+
+    /**
+     * The SensorRobot class is the view of a {@link SensorRobotEntity}, a robot equipped with a sensor to detect obstacles.
+     * It features a cone beam that visually represents the robot's sensor detection range.
+     */
+
+    public class SensorRobot extends Robot {
+
+        static final String IMAGE_PATH = "/Images/sensorRobot.png";  // Sprite shown for this type
+        static final int CONE_SEGMENTS = 8;  // Straight segments approximating the arc of the sensor cone
+
+        private Polygon coneBeam; // Sensor cone
+        private Rotate coneRotation; // Turns the cone about its tip into the robot's direction
+
+        /**
+         * Constructs a SensorRobot with the specified name, position (x, y), and size.
+         *
+         * @param name The name of the robot.
+         * @param x The X-coordinate of the robot's position.
+         * @param y The Y-coordinate of the robot's position.
+         * @param size The size of the robot (both width and height).
+         */
+        public SensorRobot(String name, double x, double y, double size) {
+            this(new SensorRobotEntity(name, x, y, size));
+        }
+
+        /**
+         * Constructs a SensorRobot view for an existing entity.
+         * It initializes the robot's visual representation and sensor cone.
+         *
+         * @param entity The entity to display.
+         */
+        public SensorRobot(SensorRobotEntity entity) {
+            super(entity, IMAGE_PATH);
+
+            // Create and configure the sensor cone
+            coneBeam = new Polygon();
+            coneBeam.setFill(Color.GREEN);
+            coneBeam.setOpacity(0.7);
+
+            // Shape the cone as the sector the sensor sees, from the centre of the robot along the X-axis
+            SensorRobotEntity sensor = (SensorRobotEntity) getEntity();
+            double tipX = getRobotWidth() / 2;
+            double tipY = getRobotHeight() / 2;
+            double range = sensor.getSensorRange();
+            coneBeam.getPoints().addAll(tipX, tipY);
+            for (int i = 0; i <= CONE_SEGMENTS; i++) {
+                double angle = Math.toRadians(-SensorRobotEntity.SENSOR_HALF_ANGLE
+                        + 2 * SensorRobotEntity.SENSOR_HALF_ANGLE * i / CONE_SEGMENTS);
+                coneBeam.getPoints().addAll(tipX + Math.cos(angle) * range, tipY + Math.sin(angle) * range);
+            }
+            coneRotation = new Rotate(0, tipX, tipY);
+            coneBeam.getTransforms().add(coneRotation);
+
+            // Add the cone to the robot's display
+            getChildren().add(coneBeam);
+
+            // Align the cone with the robot's direction
+            updateConePosition();
+        }
+
+        /**
+         * Mirrors the robot's position and adjusts the sensor cone to its direction.
+         * The cone turns red while the sensor detects something.
+         */
+        @Override
+        public void syncWithEntity() {
+            super.syncWithEntity();
+            if (coneBeam == null || !coneBeam.isVisible()) {
+                return; // Called from the parent constructor before the cone exists, or hidden by the level of detail
+            }
+
+            // Update cone position relative to the robot's new position and direction
+            updateConePosition();
+            coneBeam.setFill(((SensorRobotEntity) getEntity()).isObstacleDetected() ? Color.RED : Color.GREEN);
+        }
+
+        /**
+         * Shows or hides the sensor cone, bringing it up to date when it is shown again.
+         *
+         * @param visible Whether the cone is shown.
+         */
+        @Override
+        protected void setSensorsVisible(boolean visible) {
+            boolean wasVisible = coneBeam.isVisible();
+            coneBeam.setVisible(visible);
+            if (visible && !wasVisible) {
+                syncWithEntity();
+            }
+        }
+
+        /**
+         * Turns the sensor cone into the robot's direction.
+         */
+        private void updateConePosition() {
+            coneRotation.setAngle(getDirection());
+        }
+    }
@@ -0,0 +1,185 @@
+package com.example.robotsim;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The SpriteCache class shares decoded sprite images between all robots and obstacles.
+ * Images are keyed by resource path and display size and are decoded directly at that size,
+ * so spawning thousands of robots of the same type decodes the PNG once and keeps one small
+ * bitmap instead of thousands of full-resolution copies. Least recently used entries are evicted
+ * once the decoded bytes exceed the budget; views still showing an evicted image keep it alive.
+ * The cache counts hits, misses, evictions and decoded bytes, published over JMX as {@link SpriteCacheMXBean}.
+ */
+public class SpriteCache implements SpriteCacheMXBean {
+
+    /** Default budget for decoded sprite bytes. */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final int BYTES_PER_PIXEL = 4;  // Decoded images are stored as 32-bit ARGB
+    private static final SpriteCache SHARED = new SpriteCache(DEFAULT_MAX_BYTES);  // Cache used by all views
+
+    private final long maxBytes;  // Maximum number of decoded bytes kept in the cache
+    private final LinkedHashMap<Key, Image> images = new LinkedHashMap<>(16, 0.75f, true);  // Access-ordered LRU map
+    private long currentBytes = 0;  // Decoded bytes currently held by the cache
+    private long hits = 0;  // Requests served from the cache
+    private long misses = 0;  // Requests that had to decode an image
+    private long evictions = 0;  // Entries dropped to stay within the budget
+
+    /**
+     * Cache key: the image resource and the pixel size it is decoded at.
+     */
+    private record Key(String resource, int width, int height) {
+    }
+
+    /**
+     * Constructs a SpriteCache with the given byte budget.
+     *
+     * @param maxBytes The maximum number of decoded bytes to keep.
+     */
+    public SpriteCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache shared by all robot and obstacle views.
+     *
+     * @return The shared sprite cache.
+     */
+    public static SpriteCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the image for a classpath resource decoded at the given display size.
+     * Sizes are rounded to whole pixels so that nearly equal sizes share one entry.
+     *
+     * @param resource The classpath resource of the image (e.g. "/Images/robot.png").
+     * @param width    The display width.
+     * @param height   The display height.
+     * @return The decoded image.
+     * @throws IllegalArgumentException If the resource does not exist.
+     */
+    public synchronized Image get(String resource, double width, double height) {
+        Key key = new Key(resource, Math.max(1, (int) Math.round(width)), Math.max(1, (int) Math.round(height)));
+        Image image = images.get(key);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+
+        misses++;
+        URL url = Objects.requireNonNull(SpriteCache.class.getResource(resource), () -> "Missing image resource: " + resource);
+        image = new Image(url.toExternalForm(), key.width(), key.height(), false, true);
+        images.put(key, image);
+        currentBytes += bytesOf(key);
+        evictOverBudget();
+        return image;
+    }
+
+    /**
+     * Drops least recently used entries until the cache is within its byte budget.
+     * The most recently added entry is always kept.
+     */
+    private void evictOverBudget() {
+        Iterator<Map.Entry<Key, Image>> iterator = images.entrySet().iterator();
+        while (currentBytes > maxBytes && images.size() > 1 && iterator.hasNext()) {
+            Key key = iterator.next().getKey();
+            iterator.remove();
+            currentBytes -= bytesOf(key);
+            evictions++;
+        }
+    }
+
+    /**
+     * Returns the number of bytes an entry occupies once decoded.
+     *
+     * @param key The cache key.
+     * @return The decoded size in bytes.
+     */
+    private static long bytesOf(Key key) {
+        return (long) key.width() * key.height() * BYTES_PER_PIXEL;
+    }
+
+    /**
+     * Removes every entry from the cache. Statistics are kept.
+     */
+    public synchronized void clear() {
+        images.clear();
+        currentBytes = 0;
+    }
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    @Override
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of requests that decoded a new image.
+     *
+     * @return The miss count.
+     */
+    @Override
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within the budget.
+     *
+     * @return The eviction count.
+     */
+    @Override
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Returns the number of decoded bytes currently held by the cache.
+     *
+     * @return The byte count.
+     */
+    @Override
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    /**
+     * Returns the budget for decoded bytes.
+     *
+     * @return The maximum byte count.
+     */
+    @Override
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns the number of images currently cached.
+     *
+     * @return The entry count.
+     */
+    @Override
+    public int getEntryCount() {
+        return size();
+    }
+
+    /**
+     * Returns the number of images currently cached.
+     *
+     * @return The entry count.
+     */
+    public synchronized int size() {
+        return images.size();
+    }
+}
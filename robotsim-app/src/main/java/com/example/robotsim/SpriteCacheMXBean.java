@@ -0,0 +1,49 @@
+package com.example.robotsim;
+
+/**
+ * Management interface of {@link SpriteCache}, exposing how well the sprite cache works to JMX clients.
+ */
+public interface SpriteCacheMXBean {
+
+    /**
+     * Returns the number of requests served from the cache.
+     *
+     * @return The hit count.
+     */
+    long getHits();
+
+    /**
+     * Returns the number of requests that decoded a new image.
+     *
+     * @return The miss count.
+     */
+    long getMisses();
+
+    /**
+     * Returns the number of entries evicted to stay within the budget.
+     *
+     * @return The eviction count.
+     */
+    long getEvictions();
+
+    /**
+     * Returns the number of decoded bytes currently held by the cache.
+     *
+     * @return The byte count.
+     */
+    long getCurrentBytes();
+
+    /**
+     * Returns the budget for decoded bytes.
+     *
+     * @return The maximum byte count.
+     */
+    long getMaxBytes();
+
+    /**
+     * Returns the number of images currently cached.
+     *
+     * @return The entry count.
+     */
+    int getEntryCount();
+}
@@ -1,25 +1,22 @@
 package com.example.robotsim;
 
-import javafx.application.Platform;
-import javafx.scene.Scene;
+import com.example.robotsim.core.UserControlledRobotEntity;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Alert.AlertType;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
-import javafx.scene.layout.StackPane;
 
 /**
- * The UserControlledRobot class extends the Robot class to represent a robot that can be controlled by the user.
+ * The UserControlledRobot class is the view of a {@link UserControlledRobotEntity}, a robot that can be controlled by the user.
  * It allows the user to move the robot around using the W, A, S, D keys. The robot is also clickable, showing an
  * alert with instructions on how to control the robot.
  */
 public class UserControlledRobot extends Robot {
 
+    static final String IMAGE_PATH = "/Images/userControlledRobot.png";  // Sprite shown for this type
+
     /**
      * Constructs a UserControlledRobot with the specified name, position (x, y), and size.
-     * It sets up the robot's visual appearance and adds event listeners for mouse clicks and key presses.
      *
      * @param name The name of the robot.
      * @param x The X-coordinate of the robot's position.
@@ -27,14 +24,17 @@ public class UserControlledRobot extends Robot {
      * @param size The size of the robot (both width and height).
      */
     public UserControlledRobot(String name, double x, double y, double size) {
-        super(name, x, y, size);
+        this(new UserControlledRobotEntity(name, x, y, size));
+    }
 
-        // Clear the default image from the parent class and add a custom image for the UserControlledRobot
-        getChildren().clear();
-        ImageView imageView = new ImageView(new Image(SensorRobot.class.getResourceAsStream("/Images/userControlledRobot.png")));
-        imageView.setFitWidth(size);
-        imageView.setFitHeight(size);
-        getChildren().add(imageView);
+    /**
+     * Constructs a UserControlledRobot view for an existing entity.
+     * It sets up the robot's visual appearance and adds event listeners for mouse clicks and key presses.
+     *
+     * @param entity The entity to display.
+     */
+    public UserControlledRobot(UserControlledRobotEntity entity) {
+        super(entity, IMAGE_PATH);
 
         // Set mouse click event to show an alert and request focus for key press events
         setOnMouseClicked(event -> {
@@ -68,19 +68,20 @@ public class UserControlledRobot extends Robot {
      * @param event The key event that triggered the movement.
      */
     private void handleKeyPress(KeyEvent event) {
-        double speed = getSpeed(); // Get the current speed of the robot
+        UserControlledRobotEntity entity = (UserControlledRobotEntity) getEntity();
         enableKeyboardFocus();
 
-        // Move robot based on the key pressed
+        // Move robot by one step of its current speed based on the key pressed
         if (event.getCode() == KeyCode.W) {
-            setLayoutY(getLayoutY() - speed); // Move up (W)
+            entity.nudge(0, -1); // Move up (W)
         } else if (event.getCode() == KeyCode.A) {
-            setLayoutX(getLayoutX() - speed); // Move left (A)
+            entity.nudge(-1, 0); // Move left (A)
         } else if (event.getCode() == KeyCode.S) {
-            setLayoutY(getLayoutY() + speed); // Move down (S)
+            entity.nudge(0, 1); // Move down (S)
         } else if (event.getCode() == KeyCode.D) {
-            setLayoutX(getLayoutX() + speed); // Move right (D)
+            entity.nudge(1, 0); // Move right (D)
         }
+        syncWithEntity();
     }
 
     /**
@@ -0,0 +1,155 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.Entity;
+import javafx.scene.transform.Affine;
+
+/**
+ * The Viewport class describes which part of the world is shown in the arena: the zoom factor and the
+ * world coordinate at the top-left corner of the view. It converts between view and world coordinates,
+ * keeps an {@link Affine} transform in sync for the node layer, and decides which entities are visible
+ * so that everything else can be culled.
+ */
+public class Viewport {
+
+    /** Smallest zoom factor, showing a world ten times the size of the view. */
+    public static final double MIN_ZOOM = 0.1;
+
+    /** Largest zoom factor. */
+    public static final double MAX_ZOOM = 8;
+
+    private static final double DETAIL_MARGIN = 2;  // Margin around an entity, in entity sizes, covering its label and sensors
+
+    private final Affine transform = new Affine();  // World-to-view transform for the node layer
+    private double zoom = 1;  // View pixels per world unit
+    private double offsetX = 0;  // World X-coordinate shown at the left edge of the view
+    private double offsetY = 0;  // World Y-coordinate shown at the top edge of the view
+    private double viewWidth = 0;  // Width of the view in pixels
+    private double viewHeight = 0;  // Height of the view in pixels
+
+    /**
+     * Sets the size of the view the world is shown in.
+     *
+     * @param width  The width of the view in pixels.
+     * @param height The height of the view in pixels.
+     */
+    public void setViewSize(double width, double height) {
+        this.viewWidth = width;
+        this.viewHeight = height;
+    }
+
+    /**
+     * Zooms in or out, keeping the world point under the given view position in place.
+     * The zoom factor is kept between {@link #MIN_ZOOM} and {@link #MAX_ZOOM}.
+     *
+     * @param factor The factor to multiply the zoom with; above 1 zooms in.
+     * @param viewX  The X-coordinate in the view to zoom around, e.g. the mouse position.
+     * @param viewY  The Y-coordinate in the view to zoom around.
+     */
+    public void zoomAt(double factor, double viewX, double viewY) {
+        double worldX = toWorldX(viewX);
+        double worldY = toWorldY(viewY);
+        zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom * factor));
+        offsetX = worldX - viewX / zoom;
+        offsetY = worldY - viewY / zoom;
+        updateTransform();
+    }
+
+    /**
+     * Moves the view by a distance given in view pixels, e.g. the distance the mouse was dragged.
+     *
+     * @param dx The horizontal distance in pixels; positive moves the world to the right.
+     * @param dy The vertical distance in pixels; positive moves the world down.
+     */
+    public void pan(double dx, double dy) {
+        offsetX -= dx / zoom;
+        offsetY -= dy / zoom;
+        updateTransform();
+    }
+
+    /**
+     * Shows the world at its original scale with its origin in the top-left corner again.
+     */
+    public void reset() {
+        zoom = 1;
+        offsetX = 0;
+        offsetY = 0;
+        updateTransform();
+    }
+
+    /**
+     * Updates the transform of the node layer to the current zoom and offset.
+     */
+    private void updateTransform() {
+        transform.setToTransform(zoom, 0, -offsetX * zoom, 0, zoom, -offsetY * zoom);
+    }
+
+    /**
+     * Returns whether an entity, including its label and sensor visuals, may be visible in the view.
+     *
+     * @param entity The entity.
+     * @return false if the entity lies entirely outside the view and can be culled.
+     */
+    public boolean isVisible(Entity entity) {
+        double margin = Math.max(entity.getWidth(), entity.getHeight()) * DETAIL_MARGIN;
+        return entity.getX() + entity.getWidth() + margin >= offsetX
+                && entity.getX() - margin <= offsetX + viewWidth / zoom
+                && entity.getY() + entity.getHeight() + margin >= offsetY
+                && entity.getY() - margin <= offsetY + viewHeight / zoom;
+    }
+
+    /**
+     * Converts a horizontal view position to a world coordinate.
+     *
+     * @param viewX The X-coordinate in the view.
+     * @return The world X-coordinate.
+     */
+    public double toWorldX(double viewX) {
+        return offsetX + viewX / zoom;
+    }
+
+    /**
+     * Converts a vertical view position to a world coordinate.
+     *
+     * @param viewY The Y-coordinate in the view.
+     * @return The world Y-coordinate.
+     */
+    public double toWorldY(double viewY) {
+        return offsetY + viewY / zoom;
+    }
+
+    /**
+     * Returns the world-to-view transform, kept up to date, for the node layer holding the views.
+     *
+     * @return The transform.
+     */
+    public Affine getTransform() {
+        return transform;
+    }
+
+    /**
+     * Returns the zoom factor.
+     *
+     * @return The number of view pixels per world unit.
+     */
+    public double getZoom() {
+        return zoom;
+    }
+
+    /**
+     * Returns the world X-coordinate shown at the left edge of the view.
+     *
+     * @return The horizontal offset.
+     */
+    public double getOffsetX() {
+        return offsetX;
+    }
+
+    /**
+     * Returns the world Y-coordinate shown at the top edge of the view.
+     *
+     * @return The vertical offset.
+     */
+    public double getOffsetY() {
+        return offsetY;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.robotsim;
+
+import com.example.robotsim.core.WhiskerRobotEntity;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Line;
+
+/**
+ * The WhiskerRobot class is the view of a {@link WhiskerRobotEntity}, a robot that uses "whiskers" (sensor lines)
+ * to detect obstacles in its environment. The whiskers point to the robot's front, left, and right, end where they
+ * touched something, and turn red while the robot is avoiding a detected obstacle.
+ */
+public class WhiskerRobot extends Robot {
+
+    static final String IMAGE_PATH = "/Images/whiskerRobot.png";  // Sprite shown for this type
+    private Line frontLine;  // Line representing the front sensor whisker
+    private Line leftLine;   // Line representing the left sensor whisker
+    private Line rightLine;  // Line representing the right sensor whisker
+
+    /**
+     * Constructs a WhiskerRobot with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public WhiskerRobot(String name, double x, double y, double size) {
+        this(new WhiskerRobotEntity(name, x, y, size));
+    }
+
+    /**
+     * Constructs a WhiskerRobot view for an existing entity.
+     * It adds the custom image for the WhiskerRobot and creates the three whisker sensor lines.
+     *
+     * @param entity The entity to display.
+     */
+    public WhiskerRobot(WhiskerRobotEntity entity) {
+        super(entity, IMAGE_PATH);
+
+        // Create the three fixed sensor lines (whiskers) and add them
+        createSensorLines();
+        getChildren().addAll(frontLine, leftLine, rightLine); // Add whiskers on top of the robot image
+    }
+
+    /**
+     * Creates and initializes the three sensor lines (whiskers) for the robot.
+     * The lines point in front, left, and right of the robot.
+     */
+    private void createSensorLines() {
+        frontLine = createSensorLine();
+        leftLine = createSensorLine();
+        rightLine = createSensorLine();
+
+        // Point the whiskers in the robot's current direction
+        updateSensorPositions();
+    }
+
+    /**
+     * Creates one whisker line.
+     *
+     * @return The line.
+     */
+    private static Line createSensorLine() {
+        Line line = new Line();
+        line.setStroke(Color.BLACK);
+        line.setStrokeWidth(2);
+        return line;
+    }
+
+    /**
+     * Turns the whiskers with the robot's direction. They start at the robot's centre and end where they
+     * touched something, or at their full length.
+     */
+    private void updateSensorPositions() {
+        WhiskerRobotEntity entity = (WhiskerRobotEntity) getEntity();
+        placeSensorLine(frontLine, entity, WhiskerRobotEntity.Whisker.FRONT);
+        placeSensorLine(leftLine, entity, WhiskerRobotEntity.Whisker.LEFT);
+        placeSensorLine(rightLine, entity, WhiskerRobotEntity.Whisker.RIGHT);
+    }
+
+    /**
+     * Places one whisker line, in the robot's local coordinates.
+     *
+     * @param line    The line.
+     * @param entity  The whisker robot.
+     * @param whisker The whisker the line shows.
+     */
+    private static void placeSensorLine(Line line, WhiskerRobotEntity entity, WhiskerRobotEntity.Whisker whisker) {
+        double centreX = entity.getWidth() / 2;
+        double centreY = entity.getHeight() / 2;
+        double length = Math.min(entity.getWhiskerLength(), entity.getHitDistance(whisker));
+        double radians = Math.toRadians(entity.getDirection() + whisker.getAngle());
+        line.setStartX(centreX);
+        line.setStartY(centreY);
+        line.setEndX(centreX + Math.cos(radians) * length);
+        line.setEndY(centreY + Math.sin(radians) * length);
+    }
+
+    /**
+     * Shows or hides the whiskers, bringing their colour up to date when they are shown again.
+     *
+     * @param visible Whether the whiskers are shown.
+     */
+    @Override
+    protected void setSensorsVisible(boolean visible) {
+        boolean wasVisible = frontLine.isVisible();
+        frontLine.setVisible(visible);
+        leftLine.setVisible(visible);
+        rightLine.setVisible(visible);
+        if (visible && !wasVisible) {
+            syncWithEntity();
+        }
+    }
+
+    /**
+     * Mirrors the robot's position, turns the whiskers with its direction and colours them red
+     * while an obstacle is being avoided.
+     */
+    @Override
+    public void syncWithEntity() {
+        super.syncWithEntity();
+        if (frontLine == null || !frontLine.isVisible()) {
+            return; // Called from the parent constructor before the whiskers exist, or hidden by the level of detail
+        }
+
+        updateSensorPositions();
+        Color stroke = ((WhiskerRobotEntity) getEntity()).isRecentlyDetectedObstacle() ? Color.RED : Color.BLACK;
+        frontLine.setStroke(stroke);
+        leftLine.setStroke(stroke);
+        rightLine.setStroke(stroke);
+    }
+}
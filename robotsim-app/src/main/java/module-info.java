@@ -1,8 +1,9 @@
 module com.example.robotsim {
     requires javafx.controls;
     requires javafx.fxml;
+    requires com.example.robotsim.core;
 
 
     opens com.example.robotsim to javafx.fxml;
     exports com.example.robotsim;
-}
\ No newline at end of file
+}
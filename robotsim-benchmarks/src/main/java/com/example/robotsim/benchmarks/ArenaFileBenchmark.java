@@ -0,0 +1,124 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.ArenaSnapshotFormat;
+import com.example.robotsim.core.ArenaTextFormat;
+import com.example.robotsim.core.ArenaTextLoader;
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving and loading an arena file in the binary snapshot format and in the text format
+ * supported by the application's ArenaFileHandler, through real temporary files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArenaFileBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private World world;
+    private Path saveFile;
+    private Path loadFile;
+    private Path snapshotSaveFile;
+    private Path snapshotLoadFile;
+
+    /**
+     * Creates the world and writes the file the load benchmark reads.
+     *
+     * @throws IOException If the temporary files cannot be created.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        world = BenchmarkArenas.populate(entityCount, 0.1, EntityType.DEFAULT_ROBOT);
+        saveFile = Files.createTempFile("robotsim-save", ".txt");
+        loadFile = Files.createTempFile("robotsim-load", ".txt");
+        try (BufferedWriter writer = Files.newBufferedWriter(loadFile)) {
+            ArenaTextFormat.write(writer, world.getRobots(), world.getObstacles());
+        }
+        snapshotSaveFile = Files.createTempFile("robotsim-save", ".rsim");
+        snapshotLoadFile = Files.createTempFile("robotsim-load", ".rsim");
+        ArenaSnapshotFormat.write(snapshotLoadFile, world.getRobots(), world.getObstacles());
+    }
+
+    /**
+     * Deletes the temporary files.
+     *
+     * @throws IOException If a file cannot be deleted.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(snapshotSaveFile);
+        Files.deleteIfExists(snapshotLoadFile);
+    }
+
+    /**
+     * Saves the whole arena as text.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(saveFile)) {
+            ArenaTextFormat.write(writer, world.getRobots(), world.getObstacles());
+        }
+    }
+
+    /**
+     * Loads the whole arena from text, parsing every chunk on the calling thread.
+     *
+     * @return The loaded entities and skipped lines.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    public ArenaTextLoader.Result load() throws IOException {
+        return new ArenaTextLoader(Runnable::run, ArenaTextLoader.DEFAULT_CHUNK_LINES, 1).load(loadFile, null);
+    }
+
+    /**
+     * Loads the whole arena from text, parsing chunks in parallel.
+     *
+     * @return The loaded entities and skipped lines.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    public ArenaTextLoader.Result loadParallel() throws IOException {
+        return new ArenaTextLoader().load(loadFile, null);
+    }
+
+    /**
+     * Saves the whole arena as a binary snapshot.
+     *
+     * @throws IOException If writing fails.
+     */
+    @Benchmark
+    public void saveSnapshot() throws IOException {
+        ArenaSnapshotFormat.write(snapshotSaveFile, world.getRobots(), world.getObstacles());
+    }
+
+    /**
+     * Loads the whole arena from a memory-mapped binary snapshot.
+     *
+     * @return The loaded entities.
+     * @throws IOException If reading fails.
+     */
+    @Benchmark
+    public List<Entity> loadSnapshot() throws IOException {
+        return ArenaSnapshotFormat.read(snapshotLoadFile);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.World;
+
+import java.util.SplittableRandom;
+
+/**
+ * Builds populated worlds for the benchmarks. The arena grows with the entity count so that the
+ * density, and therefore the number of collisions per entity, stays the same at every size.
+ */
+final class BenchmarkArenas {
+
+    static final long SEED = 42;  // Fixed seed so every run benchmarks the same arena
+    static final long TICK_MILLIS = 50;  // Tick length used by the application
+    static final double AREA_PER_ENTITY = 150 * 150;  // Arena area reserved for each entity
+    static final double ROBOT_SIZE = 50;  // Size of every benchmark robot
+    static final double OBSTACLE_SIZE = 75;  // Size of every benchmark obstacle
+
+    private BenchmarkArenas() {
+    }
+
+    /**
+     * Returns the side length of a square arena holding the given number of entities.
+     *
+     * @param entityCount The number of entities.
+     * @return The side length.
+     */
+    static double sideFor(int entityCount) {
+        return Math.sqrt(entityCount * AREA_PER_ENTITY);
+    }
+
+    /**
+     * Creates a world with randomly placed robots and obstacles.
+     *
+     * @param entityCount   The total number of entities.
+     * @param obstacleShare The fraction of entities that are obstacles.
+     * @param robotType     The type of every robot.
+     * @return The populated world, with its spatial grid already sized to the arena.
+     */
+    static World populate(int entityCount, double obstacleShare, EntityType robotType) {
+        double side = sideFor(entityCount);
+        World world = new World(side, side, TICK_MILLIS, SEED);
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        int obstacles = (int) Math.round(entityCount * obstacleShare);
+        EntityType[] obstacleTypes = {EntityType.LAMP_OBSTACLE, EntityType.ROCK_OBSTACLE, EntityType.LAKE_OBSTACLE};
+        for (int i = 0; i < obstacles; i++) {
+            EntityType type = obstacleTypes[i % obstacleTypes.length];
+            world.addObstacle(type.createObstacle(random.nextDouble(side - OBSTACLE_SIZE),
+                    random.nextDouble(side - OBSTACLE_SIZE), OBSTACLE_SIZE));
+        }
+        for (int i = obstacles; i < entityCount; i++) {
+            world.addRobot(robotType.createRobot("Robot " + i, random.nextDouble(side - ROBOT_SIZE),
+                    random.nextDouble(side - ROBOT_SIZE), ROBOT_SIZE));
+        }
+
+        world.step();  // Sizes the spatial grid to the arena
+        return world;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a mass removal like a swarm of predators consuming their prey: a fixed number of robots and obstacles
+ * scattered through the world are removed, then added back so every invocation starts from the same population.
+ * With constant-time removal the cost does not grow with the size of the world.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityRemovalBenchmark {
+
+    private static final int REMOVED = 1000;  // Entities removed per invocation
+
+    @Param({"10000", "100000"})
+    public int entityCount;
+
+    private World world;
+    private final List<Entity> victims = new ArrayList<>();
+
+    /**
+     * Creates a world with 10% obstacles and picks the entities to remove.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = BenchmarkArenas.populate(entityCount, 0.1, EntityType.DEFAULT_ROBOT);
+        List<Entity> entities = new ArrayList<>(world.getRobots());
+        entities.addAll(world.getObstacles());
+        for (int i = 0; i < REMOVED; i++) {
+            victims.add(entities.get((int) ((long) i * entities.size() / REMOVED)));  // Evenly spread, each once
+        }
+    }
+
+    /**
+     * Removes the picked entities one by one and adds them back as a batch.
+     */
+    @Benchmark
+    public void removeAndReadd() {
+        for (int i = 0; i < victims.size(); i++) {
+            world.remove(victims.get(i));
+        }
+        world.addAll(victims);
+    }
+}
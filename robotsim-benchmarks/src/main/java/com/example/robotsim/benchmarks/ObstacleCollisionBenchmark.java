@@ -0,0 +1,48 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures obstacle collision handling: {@link World#handleNormalRobotObstacleInteraction(RobotEntity)}
+ * for every robot, including the obstacle effects triggered by actual collisions.
+ * The world is rebuilt for every iteration so that pending effects do not pile up across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObstacleCollisionBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private World world;
+    private List<RobotEntity> robots;
+
+    /**
+     * Creates a world of default robots with 20% obstacles.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = BenchmarkArenas.populate(entityCount, 0.2, EntityType.DEFAULT_ROBOT);
+        robots = world.getRobots();
+    }
+
+    /**
+     * Handles obstacle collisions for every robot.
+     */
+    @Benchmark
+    public void handleAll() {
+        for (int i = 0; i < robots.size(); i++) {
+            world.handleNormalRobotObstacleInteraction(robots.get(i));
+        }
+    }
+}
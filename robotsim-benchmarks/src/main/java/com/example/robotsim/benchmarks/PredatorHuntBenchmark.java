@@ -0,0 +1,83 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.NearestNeighbourIndex;
+import com.example.robotsim.core.PredatorRobotEntity;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the two halves of predator hunting: rebuilding the prey index, done once per tick,
+ * and every predator looking up its nearest prey, as {@link PredatorRobotEntity} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PredatorHuntBenchmark {
+
+    private static final int PREDATORS = 300;  // Predators hunting in every arena
+
+    @Param({"1000", "10000", "50000"})
+    public int preyCount;
+
+    private World world;
+    private NearestNeighbourIndex index;
+    private List<RobotEntity> robots;
+    private final List<PredatorRobotEntity> predators = new ArrayList<>();
+
+    /**
+     * Creates a world of prey robots with hunting predators spread among them, and builds the prey index.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = BenchmarkArenas.populate(preyCount, 0, EntityType.DEFAULT_ROBOT);
+        double side = BenchmarkArenas.sideFor(preyCount);
+        for (int i = 0; i < PREDATORS; i++) {
+            double position = (side - BenchmarkArenas.ROBOT_SIZE) * (i + 0.5) / PREDATORS;
+            PredatorRobotEntity predator = new PredatorRobotEntity("Predator " + i, position,
+                    side - position - BenchmarkArenas.ROBOT_SIZE, BenchmarkArenas.ROBOT_SIZE);
+            predators.add(predator);
+            world.addRobot(predator);
+        }
+        world.setHunting(true);
+        world.step();  // Builds the prey index
+        index = world.getPreyIndex();
+        robots = world.getRobots();
+    }
+
+    /**
+     * Rebuilds the prey index from the robots.
+     *
+     * @param blackhole Sink for the index size.
+     */
+    @Benchmark
+    public void rebuild(Blackhole blackhole) {
+        index.rebuild(robots, entity -> !(entity instanceof PredatorRobotEntity));
+        blackhole.consume(index.size());
+    }
+
+    /**
+     * Looks up the nearest prey of every predator.
+     *
+     * @param blackhole Sink for the prey found.
+     */
+    @Benchmark
+    public void nearestAll(Blackhole blackhole) {
+        for (int i = 0; i < predators.size(); i++) {
+            PredatorRobotEntity predator = predators.get(i);
+            Entity prey = world.findNearestPrey(predator.getX() + predator.getWidth() / 2,
+                    predator.getY() + predator.getHeight() / 2);
+            blackhole.consume(prey);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.DefaultRobotEntity;
+import com.example.robotsim.core.RobotEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures position integration: one {@link RobotEntity#updatePosition()} call for every robot,
+ * i.e. the movement part of a single tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RobotMovementBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private RobotEntity[] robots;
+
+    /**
+     * Creates the robots at random positions.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        double side = BenchmarkArenas.sideFor(entityCount);
+        SplittableRandom random = new SplittableRandom(BenchmarkArenas.SEED);
+        robots = new RobotEntity[entityCount];
+        for (int i = 0; i < entityCount; i++) {
+            robots[i] = new DefaultRobotEntity("Robot " + i, random.nextDouble(side), random.nextDouble(side),
+                    BenchmarkArenas.ROBOT_SIZE);
+        }
+    }
+
+    /**
+     * Moves every robot once.
+     */
+    @Benchmark
+    public void updatePosition() {
+        for (RobotEntity robot : robots) {
+            robot.updatePosition();
+        }
+    }
+}
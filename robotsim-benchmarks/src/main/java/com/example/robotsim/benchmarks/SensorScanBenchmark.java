@@ -0,0 +1,71 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.Entity;
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.SensorRobotEntity;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the sensor scan: every sensor robot looks for the entities inside its sensor cone, nearest first,
+ * exactly as {@link SensorRobotEntity} does once per tick. The first-intersecting scan the sensor used before
+ * is kept as a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SensorScanBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private World world;
+    private List<RobotEntity> robots;
+
+    /**
+     * Creates a world of sensor robots with 10% obstacles.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = BenchmarkArenas.populate(entityCount, 0.1, EntityType.SENSOR_ROBOT);
+        robots = world.getRobots();
+    }
+
+    /**
+     * Runs the sensor cone query for every robot.
+     *
+     * @param blackhole Sink for the scan results.
+     */
+    @Benchmark
+    public void coneAll(Blackhole blackhole) {
+        for (int i = 0; i < robots.size(); i++) {
+            SensorRobotEntity robot = (SensorRobotEntity) robots.get(i);
+            List<World.Sighting> sightings = world.findInCone(robot,
+                    robot.getX() + robot.getWidth() / 2, robot.getY() + robot.getHeight() / 2, robot.getDirection(),
+                    SensorRobotEntity.SENSOR_HALF_ANGLE, robot.getSensorRange(),
+                    entity -> !(entity instanceof SensorRobotEntity));
+            blackhole.consume(sightings);
+        }
+    }
+
+    /**
+     * Runs the first-intersecting scan for every robot.
+     *
+     * @param blackhole Sink for the scan results.
+     */
+    @Benchmark
+    public void scanAll(Blackhole blackhole) {
+        for (int i = 0; i < robots.size(); i++) {
+            Entity detected = world.findFirstIntersecting(robots.get(i), entity -> !(entity instanceof SensorRobotEntity));
+            blackhole.consume(detected);
+        }
+    }
+}
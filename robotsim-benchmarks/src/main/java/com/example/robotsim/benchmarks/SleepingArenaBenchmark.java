@@ -0,0 +1,59 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whole ticks of a dense arena in which a share of the robots stands still. Stopped robots
+ * sleep and are skipped, and the obstacles stay in the static layer, so a tick should cost roughly
+ * in proportion to the robots still moving.
+ * The world is rebuilt for every iteration so that pending effects do not pile up across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SleepingArenaBenchmark {
+
+    @Param({"10000", "100000"})
+    public int entityCount;
+
+    @Param({"0", "0.5", "0.9"})
+    public double stoppedShare;
+
+    private World world;
+
+    /**
+     * Creates a world of default robots with 20% obstacles and stops the given share of the robots,
+     * spread evenly over the arena. One tick is run so the stopped robots fall asleep.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        world = BenchmarkArenas.populate(entityCount, 0.2, EntityType.DEFAULT_ROBOT);
+        List<RobotEntity> robots = world.getRobots();
+        int stopped = (int) (robots.size() * stoppedShare);
+        for (int i = 0; i < stopped; i++) {
+            robots.get((int) ((long) i * robots.size() / stopped)).setSpeed(0);
+        }
+        world.step();
+    }
+
+    /**
+     * Runs one tick of the world.
+     *
+     * @param blackhole Sink for the number of robots stepped.
+     */
+    @Benchmark
+    public void step(Blackhole blackhole) {
+        world.step();
+        blackhole.consume(world.getActiveRobotCount());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.robotsim.benchmarks;
+
+import com.example.robotsim.core.EntityType;
+import com.example.robotsim.core.RobotEntity;
+import com.example.robotsim.core.WhiskerRobotEntity;
+import com.example.robotsim.core.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures whisker sensing: every whisker robot casts its front, left and right whiskers through the
+ * spatial grid, exactly as {@link WhiskerRobotEntity} does once per tick.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhiskerRaycastBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    public int entityCount;
+
+    private World world;
+    private List<RobotEntity> robots;
+
+    /**
+     * Creates a world of whisker robots with 10% obstacles.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        world = BenchmarkArenas.populate(entityCount, 0.1, EntityType.WHISKER_ROBOT);
+        robots = world.getRobots();
+    }
+
+    /**
+     * Casts the whiskers of every robot.
+     *
+     * @param blackhole Sink for the hit distances.
+     */
+    @Benchmark
+    public void castAll(Blackhole blackhole) {
+        for (int i = 0; i < robots.size(); i++) {
+            WhiskerRobotEntity robot = (WhiskerRobotEntity) robots.get(i);
+            double centreX = robot.getX() + robot.getWidth() / 2;
+            double centreY = robot.getY() + robot.getHeight() / 2;
+            for (WhiskerRobotEntity.Whisker whisker : WhiskerRobotEntity.Whisker.values()) {
+                blackhole.consume(world.castRay(robot, centreX, centreY, robot.getDirection() + whisker.getAngle(),
+                        robot.getWhiskerLength(), entity -> !(entity instanceof WhiskerRobotEntity)));
+            }
+        }
+    }
+}
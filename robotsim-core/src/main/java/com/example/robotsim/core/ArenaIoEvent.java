@@ -0,0 +1,82 @@
+package com.example.robotsim.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+
+import java.nio.file.Path;
+
+/**
+ * Flight Recorder event spanning the save or load of an arena file.
+ * Only create it when {@link SimulationEvents#ENABLED} is set.
+ */
+@Name("com.example.robotsim.ArenaIo")
+@Label("Arena File I/O")
+@Category({"RobotSim", "I/O"})
+@Description("Saving or loading an arena file")
+@Registered(false)
+public class ArenaIoEvent extends Event {
+
+    /** Operation name of a save. */
+    public static final String SAVE = "Save";
+
+    /** Operation name of a load. */
+    public static final String LOAD = "Load";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Path")
+    String path;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Robots")
+    int robotCount;
+
+    @Label("Obstacles")
+    int obstacleCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Creates an event for an operation on a file and starts timing it.
+     *
+     * @param operation The operation, {@link #SAVE} or {@link #LOAD}.
+     * @param path      The file.
+     * @return The running event.
+     */
+    public static ArenaIoEvent start(String operation, Path path) {
+        ArenaIoEvent event = new ArenaIoEvent();
+        event.operation = operation;
+        event.path = path.toString();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the operation and commits the event, if a recording is interested in it.
+     *
+     * @param bytes         The size of the file, or 0 if unknown.
+     * @param robotCount    The number of robots saved or loaded.
+     * @param obstacleCount The number of obstacles saved or loaded.
+     * @param succeeded     Whether the operation succeeded.
+     */
+    public void finish(long bytes, int robotCount, int obstacleCount, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.bytes = bytes;
+            this.robotCount = robotCount;
+            this.obstacleCount = obstacleCount;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.example.robotsim.core;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The ArenaSaver class saves arenas without blocking the simulation.
+ * A save captures an {@link ArenaSnapshot} on the simulation thread, at a tick boundary, and writes it
+ * on a background thread, first to a temporary file that is then atomically renamed over the target.
+ * A crash during a save therefore never leaves a half-written arena behind.
+ * <p>
+ * Besides on-demand saves, the saver can autosave periodically: {@link #onTick(World)} is called after
+ * every tick and captures an autosave once the interval has passed. If the previous autosave is still
+ * being written, the new one is skipped rather than queued, so a slow disk cannot pile up snapshots.
+ * <p>
+ * Files ending in ".txt" are written in the text format, all others as binary snapshots.
+ * Duration and size of the saves are kept as metrics.
+ */
+public class ArenaSaver implements AutoCloseable {
+
+    /**
+     * Listener notified when a save finished. Called on the background thread.
+     */
+    public interface SaveListener {
+        /**
+         * Called after a save succeeded.
+         *
+         * @param path          The file written.
+         * @param bytesWritten  The size of the file.
+         * @param durationNanos The time spent writing, in nanoseconds.
+         */
+        default void saveCompleted(Path path, long bytesWritten, long durationNanos) {
+        }
+
+        /**
+         * Called after a save failed. The previous content of the file is left untouched.
+         *
+         * @param path  The file that should have been written.
+         * @param error The error.
+         */
+        default void saveFailed(Path path, IOException error) {
+        }
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "arena-saver");
+        thread.setDaemon(true);  // Never keep the application alive
+        return thread;
+    });
+    private final AtomicBoolean autosaveInFlight = new AtomicBoolean();  // Whether an autosave is being written
+    private Path autosavePath;  // File autosaves are written to, null if autosave is disabled
+    private long autosaveIntervalTicks;  // Ticks between two autosaves
+    private long lastAutosaveTick = 0;  // World tick of the last autosave
+    private SaveListener listener = new SaveListener() { };  // Listener notified about finished saves
+
+    // Metrics, written by the background thread
+    private final AtomicLong saveCount = new AtomicLong();
+    private final AtomicLong failedSaveCount = new AtomicLong();
+    private final AtomicLong skippedAutosaveCount = new AtomicLong();
+    private final AtomicLong totalBytesWritten = new AtomicLong();
+    private volatile long lastBytesWritten = 0;
+    private volatile long lastSaveDurationNanos = 0;
+    private volatile long maxSaveDurationNanos = 0;
+    private final AtomicLong totalSaveDurationNanos = new AtomicLong();
+    private final LatencyHistogram saveDurations = new LatencyHistogram();  // Durations of the successful saves
+
+    /**
+     * Enables periodic autosaves.
+     *
+     * @param path          The file autosaves are written to.
+     * @param intervalTicks The number of ticks between two autosaves.
+     */
+    public void setAutosave(Path path, long intervalTicks) {
+        if (intervalTicks <= 0) {
+            throw new IllegalArgumentException("Autosave interval must be positive: " + intervalTicks);
+        }
+        this.autosavePath = path;
+        this.autosaveIntervalTicks = intervalTicks;
+    }
+
+    /**
+     * Disables periodic autosaves.
+     */
+    public void disableAutosave() {
+        this.autosavePath = null;
+    }
+
+    /**
+     * Sets the listener notified when a save finished.
+     *
+     * @param listener The listener.
+     */
+    public void setListener(SaveListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Captures an autosave if the interval has passed. Must be called after a tick, on the thread stepping the world.
+     *
+     * @param world The world that was just stepped.
+     */
+    public void onTick(World world) {
+        if (autosavePath == null) {
+            return;
+        }
+        long tick = world.getTick();
+        if (tick < lastAutosaveTick) {
+            lastAutosaveTick = tick;  // The world was cleared
+        }
+        if (tick - lastAutosaveTick < autosaveIntervalTicks) {
+            return;
+        }
+        lastAutosaveTick = tick;
+
+        if (!autosaveInFlight.compareAndSet(false, true)) {
+            skippedAutosaveCount.incrementAndGet();  // The previous autosave is still being written
+            return;
+        }
+        ArenaSnapshot snapshot = ArenaSnapshot.capture(world);
+        Path path = autosavePath;
+        executor.execute(() -> {
+            try {
+                writeAndReport(snapshot, path);
+            } catch (IOException e) {
+                // Already counted and reported to the listener
+            } finally {
+                autosaveInFlight.set(false);
+            }
+        });
+    }
+
+    /**
+     * Saves the world to a file in the background. Must be called between ticks, on the thread stepping the world.
+     *
+     * @param world The world to save.
+     * @param path  The file to write.
+     * @return A future completing with the number of bytes written, or exceptionally with the I/O error.
+     */
+    public CompletableFuture<Long> save(World world, Path path) {
+        ArenaSnapshot snapshot = ArenaSnapshot.capture(world);
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                result.complete(writeAndReport(snapshot, path));
+            } catch (IOException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Writes a snapshot, updates the metrics and notifies the listener.
+     *
+     * @param snapshot The snapshot to write.
+     * @param path     The file to write.
+     * @return The number of bytes written.
+     * @throws IOException If writing failed.
+     */
+    private long writeAndReport(ArenaSnapshot snapshot, Path path) throws IOException {
+        long start = System.nanoTime();
+        try {
+            long bytes = write(snapshot, path);
+            long duration = System.nanoTime() - start;
+            saveCount.incrementAndGet();
+            totalBytesWritten.addAndGet(bytes);
+            totalSaveDurationNanos.addAndGet(duration);
+            lastBytesWritten = bytes;
+            lastSaveDurationNanos = duration;
+            maxSaveDurationNanos = Math.max(maxSaveDurationNanos, duration);
+            saveDurations.record(duration);
+            listener.saveCompleted(path, bytes, duration);
+            return bytes;
+        } catch (IOException e) {
+            failedSaveCount.incrementAndGet();
+            listener.saveFailed(path, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes a snapshot to a temporary file next to the target and renames it over the target.
+     * The format follows from the file's extension.
+     *
+     * @param snapshot The snapshot to write.
+     * @param path     The file to write.
+     * @return The number of bytes written.
+     * @throws IOException If writing or renaming failed.
+     */
+    public static long write(ArenaSnapshot snapshot, Path path) throws IOException {
+        if (!SimulationEvents.ENABLED) {
+            return writeFile(snapshot, path);
+        }
+        ArenaIoEvent event = ArenaIoEvent.start(ArenaIoEvent.SAVE, path);
+        long bytes = 0;
+        try {
+            bytes = writeFile(snapshot, path);
+            return bytes;
+        } finally {
+            event.finish(bytes, snapshot.getRobotCount(), snapshot.size() - snapshot.getRobotCount(), bytes > 0);
+        }
+    }
+
+    /**
+     * Writes a snapshot to a temporary file next to the target and renames it over the target.
+     *
+     * @param snapshot The snapshot to write.
+     * @param path     The file to write.
+     * @return The number of bytes written.
+     * @throws IOException If writing or renaming failed.
+     */
+    private static long writeFile(ArenaSnapshot snapshot, Path path) throws IOException {
+        Path target = path.toAbsolutePath();
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            if (target.getFileName().toString().toLowerCase().endsWith(ArenaTextFormat.EXTENSION)) {
+                try (BufferedWriter writer = Files.newBufferedWriter(temporary)) {
+                    ArenaTextFormat.write(writer, snapshot);
+                }
+            } else {
+                ArenaSnapshotFormat.write(temporary, snapshot);
+            }
+            long bytes = Files.size(temporary);
+
+            try {
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return bytes;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Returns the number of saves written successfully.
+     *
+     * @return The save count.
+     */
+    public long getSaveCount() {
+        return saveCount.get();
+    }
+
+    /**
+     * Returns the number of saves that failed.
+     *
+     * @return The failed save count.
+     */
+    public long getFailedSaveCount() {
+        return failedSaveCount.get();
+    }
+
+    /**
+     * Returns the number of autosaves skipped because the previous one was still being written.
+     *
+     * @return The skipped autosave count.
+     */
+    public long getSkippedAutosaveCount() {
+        return skippedAutosaveCount.get();
+    }
+
+    /**
+     * Returns the size of the last file written.
+     *
+     * @return The number of bytes written by the last save.
+     */
+    public long getLastBytesWritten() {
+        return lastBytesWritten;
+    }
+
+    /**
+     * Returns the total number of bytes written by all saves.
+     *
+     * @return The total number of bytes written.
+     */
+    public long getTotalBytesWritten() {
+        return totalBytesWritten.get();
+    }
+
+    /**
+     * Returns how long writing the last save took.
+     *
+     * @return The duration of the last save in nanoseconds.
+     */
+    public long getLastSaveDurationNanos() {
+        return lastSaveDurationNanos;
+    }
+
+    /**
+     * Returns how long the slowest save took.
+     *
+     * @return The duration of the slowest save in nanoseconds.
+     */
+    public long getMaxSaveDurationNanos() {
+        return maxSaveDurationNanos;
+    }
+
+    /**
+     * Returns the time spent writing all saves.
+     *
+     * @return The total save duration in nanoseconds.
+     */
+    public long getTotalSaveDurationNanos() {
+        return totalSaveDurationNanos.get();
+    }
+
+    /**
+     * Returns the histogram of the save durations.
+     *
+     * @return The durations of the successful saves.
+     */
+    public LatencyHistogram getSaveDurations() {
+        return saveDurations;
+    }
+
+    /**
+     * Stops the background thread after the saves already requested have been written.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
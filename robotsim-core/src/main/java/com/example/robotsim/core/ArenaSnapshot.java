@@ -0,0 +1,175 @@
+package com.example.robotsim.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ArenaSnapshot class is an immutable point-in-time copy of the placement of every robot and
+ * obstacle: type, name, position and size, stored column by column like {@link ArenaSnapshotFormat}.
+ * Capturing a snapshot only copies numbers and name references, so it is cheap enough to take at a tick
+ * boundary on the simulation thread, and the snapshot can then be written on any other thread while the
+ * world keeps changing.
+ * <p>
+ * Robots come before obstacles. Obstacles have empty names.
+ */
+public final class ArenaSnapshot {
+    private final long tick;  // Tick of the world when the snapshot was taken
+    private final int robotCount;  // Number of robots, stored at the start of the columns
+    private final EntityType[] types;
+    private final String[] names;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] sizes;
+
+    /**
+     * Constructs an ArenaSnapshot from its columns, which are taken over without copying.
+     */
+    private ArenaSnapshot(long tick, int robotCount, EntityType[] types, String[] names,
+                          double[] xs, double[] ys, double[] sizes) {
+        this.tick = tick;
+        this.robotCount = robotCount;
+        this.types = types;
+        this.names = names;
+        this.xs = xs;
+        this.ys = ys;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Captures the current robots and obstacles of a world. Must be called between ticks,
+     * on the thread stepping the world.
+     *
+     * @param world The world to capture.
+     * @return The snapshot.
+     */
+    public static ArenaSnapshot capture(World world) {
+        return of(world.getTick(), world.getRobots(), world.getObstacles());
+    }
+
+    /**
+     * Captures the given robots and obstacles.
+     *
+     * @param tick      The tick the snapshot belongs to.
+     * @param robots    The robots to capture.
+     * @param obstacles The obstacles to capture.
+     * @return The snapshot.
+     */
+    public static ArenaSnapshot of(long tick, List<? extends RobotEntity> robots, List<? extends ObstacleEntity> obstacles) {
+        int count = robots.size() + obstacles.size();
+        EntityType[] types = new EntityType[count];
+        String[] names = new String[count];
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        double[] sizes = new double[count];
+
+        int index = 0;
+        for (RobotEntity robot : robots) {
+            types[index] = EntityType.of(robot);
+            names[index] = robot.getName();
+            xs[index] = robot.getX();
+            ys[index] = robot.getY();
+            sizes[index++] = robot.getWidth();
+        }
+        for (ObstacleEntity obstacle : obstacles) {
+            types[index] = EntityType.of(obstacle);
+            names[index] = "";
+            xs[index] = obstacle.getX();
+            ys[index] = obstacle.getY();
+            sizes[index++] = obstacle.getSize();
+        }
+        return new ArenaSnapshot(tick, robots.size(), types, names, xs, ys, sizes);
+    }
+
+    /**
+     * Returns the tick the snapshot belongs to.
+     *
+     * @return The tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Returns the number of entities in the snapshot.
+     *
+     * @return The entity count.
+     */
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Returns the number of robots in the snapshot; they occupy the first indices.
+     *
+     * @return The robot count.
+     */
+    public int getRobotCount() {
+        return robotCount;
+    }
+
+    /**
+     * Returns the type of an entity.
+     *
+     * @param index The index of the entity.
+     * @return The type.
+     */
+    public EntityType getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the name of an entity, empty for obstacles.
+     *
+     * @param index The index of the entity.
+     * @return The name.
+     */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the X-coordinate of an entity.
+     *
+     * @param index The index of the entity.
+     * @return The X-coordinate.
+     */
+    public double getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Returns the Y-coordinate of an entity.
+     *
+     * @param index The index of the entity.
+     * @return The Y-coordinate.
+     */
+    public double getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Returns the size of an entity.
+     *
+     * @param index The index of the entity.
+     * @return The size.
+     */
+    public double getSize(int index) {
+        return sizes[index];
+    }
+
+    /**
+     * Creates fresh entities from the snapshot, robots first, each in the order captured.
+     * Every call returns new entities, so one snapshot can seed any number of independent worlds.
+     *
+     * @return The entities.
+     */
+    public List<Entity> toEntities() {
+        List<Entity> entities = new ArrayList<>(types.length);
+        for (int i = 0; i < types.length; i++) {
+            entities.add(i < robotCount
+                    ? types[i].createRobot(names[i], xs[i], ys[i], sizes[i])
+                    : types[i].createObstacle(xs[i], ys[i], sizes[i]));
+        }
+        return entities;
+    }
+}
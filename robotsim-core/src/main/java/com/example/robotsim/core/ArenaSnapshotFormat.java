@@ -0,0 +1,223 @@
+package com.example.robotsim.core;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ArenaSnapshotFormat class reads and writes the binary arena snapshot format.
+ * Unlike {@link ArenaTextFormat} nothing has to be parsed: all values are stored little-endian
+ * in fixed-width columns, and loading maps the file into memory and copies each column in bulk.
+ * <p>
+ * Layout of a snapshot with {@code n} entities:
+ * <ol>
+ *     <li>Header: magic {@code "RSIM"}, format version, entity count, type count and name heap size, as ints.</li>
+ *     <li>Type table: for every type id, the length of its file name as a byte followed by the ASCII name.
+ *     Ids are local to the file, so adding or reordering {@link EntityType} constants keeps old files readable.</li>
+ *     <li>Padding up to the next multiple of 8 bytes.</li>
+ *     <li>Columns: {@code n} doubles each for x, y and size, {@code n} ints holding the end offset of every
+ *     name in the name heap, and {@code n} bytes holding the type ids.</li>
+ *     <li>Name heap: the UTF-8 robot names back to back. Obstacles have empty names.</li>
+ * </ol>
+ * Robots are stored before obstacles, and unlike the text format they keep their size.
+ */
+public final class ArenaSnapshotFormat {
+
+    /** Magic number at the start of every snapshot, "RSIM" when read as ASCII. */
+    public static final int MAGIC = 0x4D495352;
+
+    /** Version of the format written by {@link #write(Path, ArenaSnapshot)}. */
+    public static final int VERSION = 1;
+
+    /** Extension of snapshot files. */
+    public static final String EXTENSION = ".rsim";
+
+    private static final int HEADER_BYTES = 20;  // Magic, version, entity count, type count, name heap size
+
+    private ArenaSnapshotFormat() {
+    }
+
+    /**
+     * Writes robots and obstacles to a snapshot file, replacing any existing file.
+     *
+     * @param path      The file to write.
+     * @param robots    The robots to write.
+     * @param obstacles The obstacles to write.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public static void write(Path path, List<? extends RobotEntity> robots,
+                             List<? extends ObstacleEntity> obstacles) throws IOException {
+        write(path, ArenaSnapshot.of(0, robots, obstacles));
+    }
+
+    /**
+     * Writes a captured snapshot to a file, replacing any existing file.
+     *
+     * @param path     The file to write.
+     * @param snapshot The snapshot to write.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public static void write(Path path, ArenaSnapshot snapshot) throws IOException {
+        int count = snapshot.size();
+        EntityType[] types = EntityType.values();
+        byte[] typeIds = new byte[count];
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        double[] sizes = new double[count];
+        int[] nameEnds = new int[count];
+        byte[][] names = new byte[snapshot.getRobotCount()][];
+
+        // Collect the columns; only robots have names
+        int nameBytes = 0;
+        for (int i = 0; i < count; i++) {
+            if (i < names.length) {
+                names[i] = snapshot.getName(i).getBytes(StandardCharsets.UTF_8);
+                nameBytes += names[i].length;
+            }
+            nameEnds[i] = nameBytes;
+            typeIds[i] = (byte) snapshot.getType(i).ordinal();
+            xs[i] = snapshot.getX(i);
+            ys[i] = snapshot.getY(i);
+            sizes[i] = snapshot.getSize(i);
+        }
+
+        int typeTableBytes = 0;
+        for (EntityType type : types) {
+            typeTableBytes += 1 + type.getFileName().length();
+        }
+        int columnsOffset = align(HEADER_BYTES + typeTableBytes);
+        long totalBytes = (long) columnsOffset + count * (3L * Double.BYTES + Integer.BYTES + 1) + nameBytes;
+        if (totalBytes > Integer.MAX_VALUE) {
+            throw new IOException("Arena too large for a snapshot: " + count + " entities");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) totalBytes).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(count).putInt(types.length).putInt(nameBytes);
+        for (EntityType type : types) {
+            byte[] fileName = type.getFileName().getBytes(StandardCharsets.US_ASCII);
+            buffer.put((byte) fileName.length).put(fileName);
+        }
+        buffer.position(columnsOffset);
+        buffer.asDoubleBuffer().put(xs).put(ys).put(sizes);
+        buffer.position(buffer.position() + 3 * count * Double.BYTES);
+        buffer.asIntBuffer().put(nameEnds);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        buffer.put(typeIds);
+        for (byte[] name : names) {
+            buffer.put(name);
+        }
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Reads robots and obstacles from a snapshot file through a memory mapping.
+     *
+     * @param path The file to read.
+     * @return The entities in file order, robots first.
+     * @throws IOException If an I/O error occurs while reading, or the file is not a valid snapshot.
+     */
+    public static List<Entity> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(mapped.order(ByteOrder.LITTLE_ENDIAN));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated arena snapshot: " + path, e);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid arena snapshot: " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the entities from a buffer positioned at the start of a snapshot.
+     *
+     * @param buffer The little-endian buffer to read from.
+     * @return The entities in file order, robots first.
+     * @throws IOException If the buffer does not hold a valid snapshot.
+     */
+    private static List<Entity> read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IOException("Not an arena snapshot");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported arena snapshot version: " + version);
+        }
+        int count = buffer.getInt();
+        int typeCount = buffer.getInt();
+        int nameBytes = buffer.getInt();
+        if (count < 0 || typeCount < 0 || nameBytes < 0) {
+            throw new IOException("Corrupt arena snapshot header");
+        }
+
+        // Resolve the file's type ids to entity types
+        EntityType[] types = new EntityType[typeCount];
+        for (int i = 0; i < typeCount; i++) {
+            byte[] fileName = new byte[Byte.toUnsignedInt(buffer.get())];
+            buffer.get(fileName);
+            types[i] = EntityType.fromFileName(new String(fileName, StandardCharsets.US_ASCII));
+        }
+
+        // Check the size before allocating anything for the columns
+        buffer.position(align(buffer.position()));
+        if ((long) count * (3L * Double.BYTES + Integer.BYTES + 1) + nameBytes > buffer.remaining()) {
+            throw new IOException("Truncated arena snapshot");
+        }
+
+        // Copy every column in bulk
+        double[] xs = new double[count];
+        double[] ys = new double[count];
+        double[] sizes = new double[count];
+        int[] nameEnds = new int[count];
+        byte[] typeIds = new byte[count];
+        byte[] names = new byte[nameBytes];
+        buffer.asDoubleBuffer().get(xs).get(ys).get(sizes);
+        buffer.position(buffer.position() + 3 * count * Double.BYTES);
+        buffer.asIntBuffer().get(nameEnds);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        buffer.get(typeIds);
+        buffer.get(names);
+
+        List<Entity> entities = new ArrayList<>(count);
+        int nameStart = 0;
+        for (int i = 0; i < count; i++) {
+            int typeId = Byte.toUnsignedInt(typeIds[i]);
+            if (typeId >= typeCount || nameEnds[i] < nameStart || nameEnds[i] > nameBytes) {
+                throw new IOException("Corrupt arena snapshot record " + i);
+            }
+            EntityType type = types[typeId];
+            if (type.isRobot()) {
+                String name = new String(names, nameStart, nameEnds[i] - nameStart, StandardCharsets.UTF_8);
+                entities.add(type.createRobot(name, xs[i], ys[i], sizes[i]));
+            } else {
+                entities.add(type.createObstacle(xs[i], ys[i], sizes[i]));
+            }
+            nameStart = nameEnds[i];
+        }
+        return entities;
+    }
+
+    /**
+     * Rounds an offset up to the next multiple of 8 bytes.
+     *
+     * @param offset The offset.
+     * @return The aligned offset.
+     */
+    private static int align(int offset) {
+        return (offset + 7) & ~7;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.robotsim.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * The ArenaTextFormat class writes the plain-text arena file format, which {@link ArenaTextLoader} reads.
+ * The file has a "Robots" section with one {@code type,name,x,y} line per robot,
+ * followed by an "Obstacles" section with one {@code type,x,y,size} line per obstacle.
+ * Robots are always loaded with the default robot size.
+ */
+public final class ArenaTextFormat {
+
+    /** Size given to robots loaded from a text file, which does not store robot sizes. */
+    public static final double DEFAULT_ROBOT_SIZE = 100;
+
+    /** Extension of text arena files. */
+    public static final String EXTENSION = ".txt";
+
+    private ArenaTextFormat() {
+    }
+
+    /**
+     * Writes robots and obstacles in the text format.
+     *
+     * @param writer    The writer to write to.
+     * @param robots    The robots to write.
+     * @param obstacles The obstacles to write.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public static void write(Writer writer, List<? extends RobotEntity> robots,
+                             List<? extends ObstacleEntity> obstacles) throws IOException {
+        // Save robots section
+        writer.write("Robots\n");
+        for (RobotEntity robot : robots) {
+            writer.write(EntityType.of(robot).getFileName() + "," + robot.getName() + "," +
+                    robot.getX() + "," + robot.getY() + "\n");
+        }
+
+        // Save obstacles section
+        writer.write("Obstacles\n");
+        for (ObstacleEntity obstacle : obstacles) {
+            writer.write(EntityType.of(obstacle).getFileName() + "," +
+                    obstacle.getX() + "," +
+                    obstacle.getY() + "," +
+                    obstacle.getSize() + "\n");
+        }
+    }
+
+    /**
+     * Writes a captured snapshot in the text format.
+     *
+     * @param writer   The writer to write to.
+     * @param snapshot The snapshot to write.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    public static void write(Writer writer, ArenaSnapshot snapshot) throws IOException {
+        writer.write("Robots\n");
+        for (int i = 0; i < snapshot.getRobotCount(); i++) {
+            writer.write(snapshot.getType(i).getFileName() + "," + snapshot.getName(i) + "," +
+                    snapshot.getX(i) + "," + snapshot.getY(i) + "\n");
+        }
+
+        writer.write("Obstacles\n");
+        for (int i = snapshot.getRobotCount(); i < snapshot.size(); i++) {
+            writer.write(snapshot.getType(i).getFileName() + "," +
+                    snapshot.getX(i) + "," +
+                    snapshot.getY(i) + "," +
+                    snapshot.getSize(i) + "\n");
+        }
+    }
+}
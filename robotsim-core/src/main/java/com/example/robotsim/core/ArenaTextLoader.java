@@ -0,0 +1,339 @@
+package com.example.robotsim.core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The ArenaTextLoader class loads arena files in the text format of {@link ArenaTextFormat}
+ * in parallel. One thread reads lines and cuts them into chunks, the chunks are parsed on an executor,
+ * and the parsed batches are handed to a listener in file order together with the progress so far.
+ * Only a bounded number of chunks is in flight at a time, so the raw text of a large file is never
+ * held in memory as a whole.
+ * <p>
+ * Malformed lines do not fail the load: they are skipped and reported with their line number. Lines with
+ * coordinates that are not finite numbers, or an obstacle size that is not positive, count as malformed.
+ * Robot names may contain commas, since the coordinates are taken from the end of the line.
+ */
+public class ArenaTextLoader {
+
+    /**
+     * Receives the parsed batches of a load, in file order.
+     */
+    public interface BatchListener {
+        /**
+         * Receives the next batch of entities.
+         *
+         * @param entities   The entities parsed from the batch, in file order.
+         * @param errors     The malformed lines of the batch.
+         * @param bytesRead  The approximate number of bytes parsed so far, this batch included.
+         * @param totalBytes The total number of bytes to parse, or -1 if unknown.
+         */
+        void onBatch(List<Entity> entities, List<LineError> errors, long bytesRead, long totalBytes);
+    }
+
+    /**
+     * Receives the progress of a load.
+     */
+    public interface ProgressListener {
+        /**
+         * Reports the progress of a load.
+         *
+         * @param bytesRead  The approximate number of bytes parsed so far.
+         * @param totalBytes The total number of bytes to parse, or -1 if unknown.
+         */
+        void onProgress(long bytesRead, long totalBytes);
+    }
+
+    /**
+     * A line that could not be parsed.
+     *
+     * @param lineNumber The number of the line, starting at 1.
+     * @param line       The content of the line.
+     * @param message    What is wrong with the line.
+     */
+    public record LineError(long lineNumber, String line, String message) {
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + message;
+        }
+    }
+
+    /**
+     * The outcome of a complete load.
+     *
+     * @param entities The entities in file order.
+     * @param errors   The malformed lines that were skipped.
+     */
+    public record Result(List<Entity> entities, List<LineError> errors) {
+    }
+
+    /** Number of lines parsed together as one task by default. */
+    public static final int DEFAULT_CHUNK_LINES = 16_384;
+
+    private enum Section { NONE, ROBOTS, OBSTACLES }
+
+    /**
+     * A run of consecutive lines from one section, parsed as one task.
+     */
+    private record Chunk(Section section, long firstLineNumber, List<String> lines, long bytes) {
+    }
+
+    /**
+     * The entities and errors parsed from a chunk.
+     */
+    private record ParsedChunk(List<Entity> entities, List<LineError> errors, long bytes) {
+    }
+
+    private final Executor executor;  // Executor parsing the chunks
+    private final int chunkLines;  // Number of lines per chunk
+    private final int maxChunksInFlight;  // Number of chunks read ahead of the listener at most
+
+    /**
+     * Constructs an ArenaTextLoader parsing on the common fork-join pool.
+     */
+    public ArenaTextLoader() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_LINES, 2 * ForkJoinPool.getCommonPoolParallelism() + 1);
+    }
+
+    /**
+     * Constructs an ArenaTextLoader.
+     *
+     * @param executor          The executor parsing the chunks.
+     * @param chunkLines        The number of lines per chunk.
+     * @param maxChunksInFlight The number of chunks read ahead of the listener at most.
+     */
+    public ArenaTextLoader(Executor executor, int chunkLines, int maxChunksInFlight) {
+        if (chunkLines <= 0 || maxChunksInFlight <= 0) {
+            throw new IllegalArgumentException("Chunk size and chunks in flight must be positive");
+        }
+        this.executor = executor;
+        this.chunkLines = chunkLines;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    /**
+     * Loads a whole text file.
+     *
+     * @param path     The file to load.
+     * @param progress The listener receiving the progress, or null.
+     * @return The entities and the malformed lines of the file.
+     * @throws IOException If an I/O error occurs while reading, or the load is interrupted.
+     */
+    public Result load(Path path, ProgressListener progress) throws IOException {
+        List<Entity> entities = new ArrayList<>();
+        List<LineError> errors = new ArrayList<>();
+        stream(path, (batch, batchErrors, bytesRead, totalBytes) -> {
+            entities.addAll(batch);
+            errors.addAll(batchErrors);
+            if (progress != null) {
+                progress.onProgress(bytesRead, totalBytes);
+            }
+        });
+        return new Result(entities, errors);
+    }
+
+    /**
+     * Streams a text file to a listener, batch by batch.
+     *
+     * @param path     The file to load.
+     * @param listener The listener receiving the batches.
+     * @throws IOException If an I/O error occurs while reading, or the load is interrupted.
+     */
+    public void stream(Path path, BatchListener listener) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            stream(reader, Files.size(path), listener);
+        }
+    }
+
+    /**
+     * Streams text from a reader to a listener, batch by batch. The listener is called on the calling thread.
+     * Interrupting the calling thread aborts the load.
+     *
+     * @param reader     The reader to read from.
+     * @param totalBytes The total number of bytes to read, or -1 if unknown.
+     * @param listener   The listener receiving the batches.
+     * @throws IOException If an I/O error occurs while reading, or the load is interrupted.
+     */
+    public void stream(BufferedReader reader, long totalBytes, BatchListener listener) throws IOException {
+        Deque<CompletableFuture<ParsedChunk>> inFlight = new ArrayDeque<>();
+        long[] bytesRead = {0};
+        Section section = Section.NONE;
+        List<String> lines = new ArrayList<>(chunkLines);
+        long firstLineNumber = 1;
+        long lineNumber = 0;
+        long chunkBytes = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedIOException("Loading the arena was interrupted at line " + lineNumber);
+            }
+
+            boolean header = line.equals("Robots") || line.equals("Obstacles");
+            if (header || lines.size() == chunkLines) {
+                // Cut the chunk at every section header, so each chunk belongs to one section
+                submit(new Chunk(section, firstLineNumber, lines, chunkBytes), inFlight, listener, bytesRead, totalBytes);
+                lines = new ArrayList<>(chunkLines);
+                chunkBytes = 0;
+                firstLineNumber = lineNumber;
+            }
+            if (header) {
+                section = line.equals("Robots") ? Section.ROBOTS : Section.OBSTACLES;
+                firstLineNumber = lineNumber + 1;
+                bytesRead[0] += line.length() + 1;
+            } else {
+                lines.add(line);
+                chunkBytes += line.length() + 1;  // Approximate for non-ASCII names
+            }
+        }
+        submit(new Chunk(section, firstLineNumber, lines, chunkBytes), inFlight, listener, bytesRead, totalBytes);
+
+        while (!inFlight.isEmpty()) {
+            deliver(inFlight.poll(), listener, bytesRead, totalBytes);
+        }
+    }
+
+    /**
+     * Starts parsing a chunk, first delivering finished chunks if too many are in flight.
+     *
+     * @param chunk      The chunk to parse.
+     * @param inFlight   The chunks being parsed, in file order.
+     * @param listener   The listener receiving the batches.
+     * @param bytesRead  The number of bytes delivered so far, updated in place.
+     * @param totalBytes The total number of bytes to read.
+     */
+    private void submit(Chunk chunk, Deque<CompletableFuture<ParsedChunk>> inFlight, BatchListener listener,
+                        long[] bytesRead, long totalBytes) {
+        if (chunk.lines().isEmpty()) {
+            return;
+        }
+        while (inFlight.size() >= maxChunksInFlight) {
+            deliver(inFlight.poll(), listener, bytesRead, totalBytes);
+        }
+        inFlight.add(CompletableFuture.supplyAsync(() -> parse(chunk), executor));
+    }
+
+    /**
+     * Waits for a chunk to be parsed and hands it to the listener.
+     *
+     * @param future     The chunk being parsed.
+     * @param listener   The listener receiving the batch.
+     * @param bytesRead  The number of bytes delivered so far, updated in place.
+     * @param totalBytes The total number of bytes to read.
+     */
+    private static void deliver(CompletableFuture<ParsedChunk> future, BatchListener listener,
+                                long[] bytesRead, long totalBytes) {
+        ParsedChunk parsed;
+        try {
+            parsed = future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        bytesRead[0] += parsed.bytes();
+        listener.onBatch(parsed.entities(), parsed.errors(), bytesRead[0], totalBytes);
+    }
+
+    /**
+     * Parses the lines of a chunk, collecting malformed lines instead of failing.
+     *
+     * @param chunk The chunk to parse.
+     * @return The parsed entities and errors.
+     */
+    private static ParsedChunk parse(Chunk chunk) {
+        List<Entity> entities = new ArrayList<>(chunk.lines().size());
+        List<LineError> errors = new ArrayList<>();
+        long lineNumber = chunk.firstLineNumber();
+        for (String line : chunk.lines()) {
+            if (chunk.section() != Section.NONE && !line.isBlank()) {
+                try {
+                    entities.add(chunk.section() == Section.ROBOTS ? parseRobot(line) : parseObstacle(line));
+                } catch (IllegalArgumentException | IllegalStateException e) {
+                    errors.add(new LineError(lineNumber, line, e.getMessage()));
+                }
+            }
+            lineNumber++;
+        }
+        return new ParsedChunk(entities, errors, chunk.bytes());
+    }
+
+    /**
+     * Parses a {@code type,name,x,y} robot line. The name is everything between the first and the
+     * second-to-last comma.
+     *
+     * @param line The line to parse.
+     * @return The robot.
+     * @throws IllegalArgumentException If the line is malformed.
+     */
+    private static RobotEntity parseRobot(String line) {
+        int typeEnd = line.indexOf(',');
+        int yStart = line.lastIndexOf(',') + 1;
+        int xStart = yStart > 0 ? line.lastIndexOf(',', yStart - 2) + 1 : 0;
+        if (typeEnd < 0 || xStart <= typeEnd + 1) {
+            throw new IllegalArgumentException("Expected type,name,x,y");
+        }
+        EntityType type = EntityType.fromFileName(line.substring(0, typeEnd));
+        String name = line.substring(typeEnd + 1, xStart - 1);
+        double x = parseNumber(line, xStart, yStart - 1);
+        double y = parseNumber(line, yStart, line.length());
+        return type.createRobot(name, x, y, ArenaTextFormat.DEFAULT_ROBOT_SIZE);
+    }
+
+    /**
+     * Parses a {@code type,x,y,size} obstacle line.
+     *
+     * @param line The line to parse.
+     * @return The obstacle.
+     * @throws IllegalArgumentException If the line is malformed.
+     */
+    private static ObstacleEntity parseObstacle(String line) {
+        int typeEnd = line.indexOf(',');
+        int xEnd = typeEnd < 0 ? -1 : line.indexOf(',', typeEnd + 1);
+        int yEnd = xEnd < 0 ? -1 : line.indexOf(',', xEnd + 1);
+        if (yEnd < 0 || line.indexOf(',', yEnd + 1) >= 0) {
+            throw new IllegalArgumentException("Expected type,x,y,size");
+        }
+        EntityType type = EntityType.fromFileName(line.substring(0, typeEnd));
+        double x = parseNumber(line, typeEnd + 1, xEnd);
+        double y = parseNumber(line, xEnd + 1, yEnd);
+        double size = parseNumber(line, yEnd + 1, line.length());
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive: " + size);
+        }
+        return type.createObstacle(x, y, size);
+    }
+
+    /**
+     * Parses a number from part of a line.
+     *
+     * @param line  The line.
+     * @param start The index of the first character of the number.
+     * @param end   The index after the last character of the number.
+     * @return The number.
+     * @throws IllegalArgumentException If the text is not a finite number.
+     */
+    private static double parseNumber(String line, int start, int end) {
+        String text = line.substring(start, end).trim();
+        double number;
+        try {
+            number = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number '" + text + "'");
+        }
+        if (!Double.isFinite(number)) {
+            throw new IllegalArgumentException("Number must be finite: '" + text + "'");
+        }
+        return number;
+    }
+}
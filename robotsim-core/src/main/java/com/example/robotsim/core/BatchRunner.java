@@ -0,0 +1,347 @@
+package com.example.robotsim.core;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The BatchRunner class is a command-line entry point that runs a simulation without a display,
+ * e.g. in CI or on a compute box. It loads an arena file into a {@link World}, steps it as fast as
+ * possible for a number of ticks or a wall-clock budget, and reports the throughput and the final state.
+ * The robots and obstacles behave exactly as in the user interface, which only mirrors the same world.
+ * <p>
+ * Usage: {@code java -jar robotsim-core.jar <arena file> [options]}, see {@link #USAGE}. The results are
+ * printed as {@code key=value} lines, and optionally written to a report file in the same format.
+ */
+public final class BatchRunner {
+
+    /** Command-line usage. */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar robotsim-core.jar <arena file> [options]",
+            "  --ticks <n>          Ticks to run (default " + Options.DEFAULT_TICKS + " unless --seconds is given)",
+            "  --seconds <s>        Wall-clock budget; stops at whichever limit is reached first",
+            "  --warmup <n>         Ticks to run before measuring (default 0)",
+            "  --seed <n>           Master seed of the world (default random)",
+            "  --width <w>          Width of the arena (default " + (int) Options.DEFAULT_WIDTH + ")",
+            "  --height <h>         Height of the arena (default " + (int) Options.DEFAULT_HEIGHT + ")",
+            "  --tick-millis <n>    Simulated time per tick; longer ticks take larger steps (default " + Options.DEFAULT_TICK_MILLIS + ")",
+            "  --hunt               Let predators steer towards the nearest prey",
+            "  --output <file>      Save the final arena (.rsim or .txt)",
+            "  --report <file>      Write the results to a file as key=value lines");
+
+    private static final int EXIT_USAGE = 2;  // Exit status for invalid arguments
+    private static final int EXIT_ERROR = 1;  // Exit status for failed runs
+
+    /**
+     * The settings of a batch run.
+     *
+     * @param arena      The arena file to load.
+     * @param ticks      The number of ticks to run, or -1 for no limit.
+     * @param seconds    The wall-clock budget in seconds, or 0 for no limit.
+     * @param warmup     The number of ticks to run before measuring.
+     * @param seed       The master seed, or null for a random one.
+     * @param width      The width of the arena.
+     * @param height     The height of the arena.
+     * @param tickMillis The simulated time per tick, in milliseconds.
+     * @param hunt       Whether predators hunt.
+     * @param output     The file to save the final arena to, or null.
+     * @param report     The file to write the results to, or null.
+     */
+    public record Options(Path arena, long ticks, double seconds, long warmup, Long seed,
+                          double width, double height, long tickMillis, boolean hunt, Path output, Path report) {
+
+        /** Ticks run when neither a tick count nor a budget is given. */
+        public static final long DEFAULT_TICKS = 1000;
+
+        /** Default width of the arena, that of the arena window. */
+        public static final double DEFAULT_WIDTH = 1920;
+
+        /** Default height of the arena, that of the arena window. */
+        public static final double DEFAULT_HEIGHT = 1080;
+
+        /** Default simulated time per tick, as in the user interface. */
+        public static final long DEFAULT_TICK_MILLIS = 50;
+
+        /**
+         * Parses the command-line arguments.
+         *
+         * @param args The arguments.
+         * @return The options.
+         * @throws IllegalArgumentException If the arguments are invalid.
+         */
+        public static Options parse(String[] args) {
+            Path arena = null;
+            long ticks = -1;
+            double seconds = 0;
+            long warmup = 0;
+            Long seed = null;
+            double width = DEFAULT_WIDTH;
+            double height = DEFAULT_HEIGHT;
+            long tickMillis = DEFAULT_TICK_MILLIS;
+            boolean hunt = false;
+            Path output = null;
+            Path report = null;
+
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    if (arena != null) {
+                        throw new IllegalArgumentException("More than one arena file given: " + arg);
+                    }
+                    arena = Path.of(arg);
+                    continue;
+                }
+                if (arg.equals("--hunt")) {
+                    hunt = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+                String value = args[++i];
+                try {
+                    switch (arg) {
+                        case "--ticks" -> ticks = positive(arg, Long.parseLong(value));
+                        case "--seconds" -> seconds = positive(arg, Double.parseDouble(value));
+                        case "--warmup" -> warmup = Math.max(0, Long.parseLong(value));
+                        case "--seed" -> seed = Long.parseLong(value);
+                        case "--width" -> width = positive(arg, Double.parseDouble(value));
+                        case "--height" -> height = positive(arg, Double.parseDouble(value));
+                        case "--tick-millis" -> tickMillis = positive(arg, Long.parseLong(value));
+                        case "--output" -> output = Path.of(value);
+                        case "--report" -> report = Path.of(value);
+                        default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid number for " + arg + ": " + value);
+                }
+            }
+
+            if (arena == null) {
+                throw new IllegalArgumentException("No arena file given");
+            }
+            if (ticks < 0 && seconds == 0) {
+                ticks = DEFAULT_TICKS;
+            }
+            return new Options(arena, ticks, seconds, warmup, seed, width, height, tickMillis, hunt, output, report);
+        }
+
+        /**
+         * Checks that the value of an option is positive.
+         *
+         * @param option The option.
+         * @param value  The value.
+         * @return The value.
+         * @throws IllegalArgumentException If the value is not positive.
+         */
+        static long positive(String option, long value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(option + " must be positive: " + value);
+            }
+            return value;
+        }
+
+        /**
+         * Checks that the value of an option is positive.
+         *
+         * @param option The option.
+         * @param value  The value.
+         * @return The value.
+         * @throws IllegalArgumentException If the value is not positive.
+         */
+        static double positive(String option, double value) {
+            if (!(value > 0)) {
+                throw new IllegalArgumentException(option + " must be positive: " + value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The outcome of a batch run.
+     *
+     * @param ticks        The number of measured ticks.
+     * @param elapsedNanos The wall-clock time of the measured ticks.
+     * @param robotUpdates The number of robot updates in the measured ticks, i.e. awake robots stepped per tick summed up.
+     */
+    public record Result(long ticks, long elapsedNanos, long robotUpdates) {
+
+        /**
+         * Returns the measured ticks per second of wall-clock time.
+         *
+         * @return The tick rate, 0 if no time elapsed.
+         */
+        public double ticksPerSecond() {
+            return elapsedNanos == 0 ? 0 : ticks * 1e9 / elapsedNanos;
+        }
+
+        /**
+         * Returns the measured robot updates per second of wall-clock time.
+         *
+         * @return The update rate, 0 if no time elapsed.
+         */
+        public double updatesPerSecond() {
+            return elapsedNanos == 0 ? 0 : robotUpdates * 1e9 / elapsedNanos;
+        }
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private BatchRunner() {
+    }
+
+    /**
+     * Runs a batch simulation from the command line. Exits with status 2 for invalid arguments
+     * and 1 if the arena cannot be loaded or saved.
+     *
+     * @param args The command-line arguments, see {@link #USAGE}.
+     */
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
+        try {
+            World world = load(options, System.err);
+            Result result = run(world, options);
+            if (options.output() != null) {
+                ArenaSaver.write(ArenaSnapshot.capture(world), options.output());
+            }
+            Map<String, Object> report = report(world, options, result);
+            write(report, System.out);
+            if (options.report() != null) {
+                try (PrintStream out = new PrintStream(Files.newOutputStream(options.report()), false, "UTF-8")) {
+                    write(report, out);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Batch run failed: " + e.getMessage());
+            System.exit(EXIT_ERROR);
+        }
+    }
+
+    /**
+     * Creates the world of a run and fills it from the arena file.
+     *
+     * @param options The settings of the run.
+     * @param log     The stream receiving warnings about malformed lines of a text file.
+     * @return The loaded world.
+     * @throws IOException If the arena file cannot be read.
+     */
+    public static World load(Options options, PrintStream log) throws IOException {
+        List<Entity> entities = readArena(options.arena(), log);
+        World world = options.seed() != null
+                ? new World(options.width(), options.height(), options.tickMillis(), options.seed())
+                : new World(options.width(), options.height(), options.tickMillis());
+        world.setHunting(options.hunt());
+        world.addAll(entities);
+        return world;
+    }
+
+    /**
+     * Reads the entities of an arena file. Binary snapshots and text files are told apart by the extension,
+     * as in the user interface.
+     *
+     * @param arena The arena file.
+     * @param log   The stream receiving warnings about malformed lines of a text file.
+     * @return The entities, in file order.
+     * @throws IOException If the arena file cannot be read.
+     */
+    public static List<Entity> readArena(Path arena, PrintStream log) throws IOException {
+        if (arena.getFileName().toString().toLowerCase().endsWith(ArenaTextFormat.EXTENSION)) {
+            ArenaTextLoader.Result loaded = new ArenaTextLoader().load(arena, null);
+            for (ArenaTextLoader.LineError error : loaded.errors()) {
+                log.println("Skipped " + error);
+            }
+            return loaded.entities();
+        }
+        return ArenaSnapshotFormat.read(arena);
+    }
+
+    /**
+     * Steps a world for the warm-up ticks, then for the measured ticks until the tick count or the
+     * wall-clock budget of the options is reached, whichever comes first.
+     *
+     * @param world   The world to step.
+     * @param options The settings of the run.
+     * @return The throughput of the measured ticks.
+     */
+    public static Result run(World world, Options options) {
+        for (long i = 0; i < options.warmup(); i++) {
+            world.step();
+        }
+
+        long start = System.nanoTime();
+        long deadline = options.seconds() > 0 ? start + (long) (options.seconds() * 1e9) : Long.MAX_VALUE;
+        long ticks = 0;
+        long robotUpdates = 0;
+        long now = start;
+        while ((options.ticks() < 0 || ticks < options.ticks()) && now - deadline < 0) {
+            world.step();
+            robotUpdates += world.getActiveRobotCount();  // Sleeping robots are skipped, so they are not updates
+            ticks++;
+            now = System.nanoTime();
+        }
+        return new Result(ticks, now - start, robotUpdates);
+    }
+
+    /**
+     * Collects the results of a run and the final state of its world.
+     *
+     * @param world   The world after the run.
+     * @param options The settings of the run.
+     * @param result  The throughput of the run.
+     * @return The report entries, in output order.
+     */
+    public static Map<String, Object> report(World world, Options options, Result result) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("arena", options.arena());
+        report.put("seed", world.getSeed());
+        report.put("warmupTicks", options.warmup());
+        report.put("ticks", result.ticks());
+        report.put("elapsedMillis", String.format(Locale.ROOT, "%.3f", result.elapsedNanos() / 1e6));
+        report.put("ticksPerSecond", String.format(Locale.ROOT, "%.1f", result.ticksPerSecond()));
+        report.put("robotUpdates", result.robotUpdates());
+        report.put("robotUpdatesPerSecond", String.format(Locale.ROOT, "%.1f", result.updatesPerSecond()));
+        report.put("finalTick", world.getTick());
+        report.put("robots", world.getRobots().size());
+        report.put("obstacles", world.getObstacles().size());
+        for (EntityType type : EntityType.values()) {
+            report.put("count." + type.getFileName(), world.getCount(type));
+        }
+        report.put("obstacleHits", world.getObstacleHitCount());
+        report.put("activeRobots", world.getActiveRobotCount());
+        report.put("sleepingRobots", world.getSleepingRobotCount());
+        report.put("sleepingRobotTicks", world.getSleepingRobotTicks());
+        report.put("hunting", world.isHunting());
+        report.put("preyQueries", world.getPreyIndex().getTotalQueries());
+        report.put("preyNodesVisited", world.getPreyIndex().getTotalVisitedNodes());
+        report.put("pendingEffects", world.getTimerWheel().getPendingCount());
+        return report;
+    }
+
+    /**
+     * Writes report entries as {@code key=value} lines.
+     *
+     * @param report The report entries.
+     * @param out    The stream to write to.
+     */
+    private static void write(Map<String, Object> report, PrintStream out) {
+        for (Map.Entry<String, Object> entry : report.entrySet()) {
+            out.println(entry.getKey() + "=" + entry.getValue());
+        }
+        out.flush();
+    }
+}
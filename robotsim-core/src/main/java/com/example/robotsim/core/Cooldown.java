@@ -0,0 +1,54 @@
+package com.example.robotsim.core;
+
+/**
+ * The Cooldown class is a countdown kept directly in an entity's state and advanced by the
+ * simulation tick. It replaces one-off timers for short "ignore this for a while" states:
+ * starting or re-starting a cooldown only overwrites a counter, so it needs no thread, no
+ * scheduled effect and no allocation, and it naturally follows pause and fast-forward.
+ */
+public final class Cooldown {
+    private long remainingTicks = 0;  // Ticks left until the cooldown is over
+
+    /**
+     * Starts the cooldown, replacing any cooldown still running.
+     *
+     * @param durationTicks The number of ticks the cooldown lasts.
+     */
+    public void start(long durationTicks) {
+        remainingTicks = Math.max(0, durationTicks);
+    }
+
+    /**
+     * Advances the cooldown by one tick. Should be called once per tick by the owning entity.
+     */
+    public void advance() {
+        if (remainingTicks > 0) {
+            remainingTicks--;
+        }
+    }
+
+    /**
+     * Ends the cooldown immediately.
+     */
+    public void reset() {
+        remainingTicks = 0;
+    }
+
+    /**
+     * Returns whether the cooldown is still running.
+     *
+     * @return true if the cooldown is running, false if it is over.
+     */
+    public boolean isActive() {
+        return remainingTicks > 0;
+    }
+
+    /**
+     * Returns the number of ticks left until the cooldown is over.
+     *
+     * @return The remaining ticks, 0 if the cooldown is over.
+     */
+    public long getRemainingTicks() {
+        return remainingTicks;
+    }
+}
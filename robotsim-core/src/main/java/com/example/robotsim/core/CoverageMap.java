@@ -0,0 +1,88 @@
+package com.example.robotsim.core;
+
+import java.util.BitSet;
+
+/**
+ * The CoverageMap class measures how much of an arena the robots have explored. The arena is divided
+ * into square cells, and a cell counts as visited once any robot has overlapped it at the end of a tick.
+ */
+public class CoverageMap {
+
+    private final double cellSize;  // Side length of a cell
+    private final int columns;  // Number of cells across the arena
+    private final int rows;  // Number of cells down the arena
+    private final BitSet visited;  // Visited cells, row by row
+
+    /**
+     * Constructs an empty CoverageMap for an arena.
+     *
+     * @param width    The width of the arena.
+     * @param height   The height of the arena.
+     * @param cellSize The side length of a cell.
+     * @throws IllegalArgumentException If a dimension is not positive.
+     */
+    public CoverageMap(double width, double height, double cellSize) {
+        if (width <= 0 || height <= 0 || cellSize <= 0) {
+            throw new IllegalArgumentException("Arena and cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = (int) Math.ceil(width / cellSize);
+        this.rows = (int) Math.ceil(height / cellSize);
+        this.visited = new BitSet(columns * rows);
+    }
+
+    /**
+     * Marks the cells every robot of a world overlaps as visited.
+     *
+     * @param world The world.
+     */
+    public void mark(World world) {
+        for (RobotEntity robot : world.getRobots()) {
+            int minColumn = clamp((int) Math.floor(robot.getX() / cellSize), columns);
+            int maxColumn = clamp((int) Math.floor((robot.getX() + robot.getWidth()) / cellSize), columns);
+            int minRow = clamp((int) Math.floor(robot.getY() / cellSize), rows);
+            int maxRow = clamp((int) Math.floor((robot.getY() + robot.getHeight()) / cellSize), rows);
+            for (int row = minRow; row <= maxRow; row++) {
+                visited.set(row * columns + minColumn, row * columns + maxColumn + 1);
+            }
+        }
+    }
+
+    /**
+     * Clamps a cell index into the map.
+     *
+     * @param index The index.
+     * @param count The number of cells along the axis.
+     * @return The clamped index.
+     */
+    private static int clamp(int index, int count) {
+        return Math.max(0, Math.min(index, count - 1));
+    }
+
+    /**
+     * Returns the number of visited cells.
+     *
+     * @return The visited cell count.
+     */
+    public int getVisitedCells() {
+        return visited.cardinality();
+    }
+
+    /**
+     * Returns the number of cells in the map.
+     *
+     * @return The cell count.
+     */
+    public int getCellCount() {
+        return columns * rows;
+    }
+
+    /**
+     * Returns the fraction of the arena that has been visited.
+     *
+     * @return The coverage, between 0 and 1.
+     */
+    public double getCoverage() {
+        return (double) getVisitedCells() / getCellCount();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.robotsim.core;
+
+/**
+ * The DefaultRobotEntity class models a basic robot with standard behaviour:
+ * it moves along its heading and bounces off walls and obstacles.
+ */
+public class DefaultRobotEntity extends RobotEntity {
+
+    /**
+     * Constructs a new DefaultRobotEntity with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public DefaultRobotEntity(String name, double x, double y, double size) {
+        super(name, x, y, size);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.robotsim.core;
+
+/**
+ * The EffectKind enum names the delayed effects entities schedule on the world's {@link TimerWheel}.
+ * Together with the affected entity it forms the key under which duplicate pending effects are coalesced.
+ */
+public enum EffectKind {
+    /** A robot stopped by a rock starts moving again. */
+    ROCK_RESUME,
+    /** A robot released by a rock cannot be stopped by a rock again for a moment, so it can drive off. */
+    ROCK_RELEASE,
+    /** A robot slowed down by a lake gets its normal speed back. */
+    LAKE_SPEED_RESTORE,
+    /** A lamp knocked over by a robot stands up again. */
+    LAMP_STAND_UP
+}
@@ -0,0 +1,129 @@
+package com.example.robotsim.core;
+
+/**
+ * The Entity class is the plain-Java base of everything that lives in the simulated world.
+ * It holds the position and axis-aligned extent of an entity without any dependency on JavaFX,
+ * so the simulation can run headless while views merely mirror this state.
+ */
+public abstract class Entity {
+    private double x;  // X-coordinate of the entity's top-left corner
+    private double y;  // Y-coordinate of the entity's top-left corner
+    private boolean removed = false;  // Whether the entity has been removed from its world
+    int gridSlot = -1;  // Slot of the entity in the world's SpatialGrid, -1 when not registered
+    long registryId = EntityRegistry.NO_ID;  // Id of the entity in the world's EntityRegistry
+    int registryIndex = -1;  // Position of the entity in the registry's dense storage, -1 when not registered
+
+    /**
+     * Constructs an Entity at the specified position.
+     *
+     * @param x The X-coordinate of the entity's position.
+     * @param y The Y-coordinate of the entity's position.
+     */
+    protected Entity(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns the X-coordinate of the entity's position.
+     *
+     * @return The X-coordinate.
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Returns the Y-coordinate of the entity's position.
+     *
+     * @return The Y-coordinate.
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Moves the entity to the specified position.
+     *
+     * @param x The new X-coordinate.
+     * @param y The new Y-coordinate.
+     */
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns the width of the entity's bounding box.
+     *
+     * @return The width.
+     */
+    public abstract double getWidth();
+
+    /**
+     * Returns the height of the entity's bounding box.
+     *
+     * @return The height.
+     */
+    public abstract double getHeight();
+
+    /**
+     * Returns the name used to identify the entity in the user interface.
+     *
+     * @return The name of the entity.
+     */
+    public abstract String getName();
+
+    /**
+     * Checks whether this entity's bounding box intersects another entity's bounding box.
+     * Touching edges count as an intersection.
+     *
+     * @param other The entity to test against.
+     * @return true if the bounding boxes intersect, false otherwise.
+     */
+    public boolean intersects(Entity other) {
+        return intersects(other.x, other.y, other.getWidth(), other.getHeight());
+    }
+
+    /**
+     * Checks whether this entity's bounding box intersects the given rectangle.
+     * Touching edges count as an intersection.
+     *
+     * @param minX   The X-coordinate of the rectangle's top-left corner.
+     * @param minY   The Y-coordinate of the rectangle's top-left corner.
+     * @param width  The width of the rectangle.
+     * @param height The height of the rectangle.
+     * @return true if the rectangle intersects the entity, false otherwise.
+     */
+    public boolean intersects(double minX, double minY, double width, double height) {
+        return !(minX + width < x || minY + height < y || minX > x + getWidth() || minY > y + getHeight());
+    }
+
+    /**
+     * Returns the id the entity was given when it was added to its world. The id of a removed entity
+     * is never given to another one, so it can be kept to look the entity up later.
+     *
+     * @return The id, or {@link EntityRegistry#NO_ID} if the entity is not in a world.
+     */
+    public long getId() {
+        return registryId;
+    }
+
+    /**
+     * Returns whether the entity has been removed from its world.
+     *
+     * @return true if the entity was removed, false otherwise.
+     */
+    public boolean isRemoved() {
+        return removed;
+    }
+
+    /**
+     * Marks the entity as removed or re-added. Called by the {@link World}.
+     *
+     * @param removed The new removal state.
+     */
+    void setRemoved(boolean removed) {
+        this.removed = removed;
+    }
+}
@@ -0,0 +1,354 @@
+package com.example.robotsim.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * The EntityRegistry class stores the entities of a {@link World} so that every operation on a single entity
+ * takes constant time, whatever the number of entities.
+ * <ul>
+ *     <li>Every registered entity gets a generational id: the index of a slot in the id table in the low 32 bits,
+ *     and the generation of that slot in the high 32 bits. A slot is reused once its entity is removed, but with the
+ *     next generation, so the id of a removed entity never finds the entity registered after it.</li>
+ *     <li>Robots and obstacles are kept densely in one array each. Removing an entity moves the last one of its kind
+ *     into its place, so the order is insertion order only until the first removal.</li>
+ *     <li>Each kind has a case-insensitive name index. Obstacles are named after their type, so a name can be
+ *     shared by many entities; they are kept in registration order, and the earliest is found first.</li>
+ * </ul>
+ */
+public class EntityRegistry {
+
+    /** Id of an entity that is not registered. No registered entity has this id. */
+    public static final long NO_ID = 0;
+
+    private static final int INITIAL_CAPACITY = 16;  // Capacity of the arrays before the first growth
+
+    private Entity[] slots = new Entity[INITIAL_CAPACITY];  // Entity of every id slot, null if free
+    private int[] generations = new int[INITIAL_CAPACITY];  // Generation of every id slot, 0 before first use
+    private int[] freeSlots = new int[INITIAL_CAPACITY];  // Stack of slots freed by removals
+    private int freeCount = 0;  // Number of freed slots on the stack
+    private int slotCount = 0;  // Number of slots ever used
+    private final Dense<RobotEntity> robots = new Dense<>();  // Robots, densely
+    private final Dense<ObstacleEntity> obstacles = new Dense<>();  // Obstacles, densely
+
+    /**
+     * Registers an entity, giving it a new id.
+     *
+     * @param entity The robot or obstacle to register.
+     * @return The id of the entity.
+     * @throws IllegalArgumentException If the entity is neither a robot nor an obstacle, or already registered.
+     */
+    public long register(Entity entity) {
+        if (entity.registryId != NO_ID) {
+            throw new IllegalArgumentException("Entity is already registered: " + entity.getName());
+        }
+        if (entity instanceof RobotEntity robot) {
+            robots.append(robot);
+        } else if (entity instanceof ObstacleEntity obstacle) {
+            obstacles.append(obstacle);
+        } else {
+            throw new IllegalArgumentException("Unknown entity class: " + entity.getClass().getName());
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == slots.length) {
+                slots = Arrays.copyOf(slots, slotCount * 2);
+                generations = Arrays.copyOf(generations, slotCount * 2);
+            }
+            slot = slotCount++;
+        }
+        slots[slot] = entity;
+        if (++generations[slot] == 0) {
+            generations[slot] = 1;  // Wrapped round; generation 0 marks ids that were never handed out
+        }
+        entity.registryId = (long) generations[slot] << 32 | slot;
+        return entity.registryId;
+    }
+
+    /**
+     * Unregisters an entity, freeing its id.
+     *
+     * @param entity The entity to unregister.
+     * @return true if the entity was registered, false otherwise.
+     */
+    public boolean unregister(Entity entity) {
+        if (get(entity.registryId) != entity) {
+            return false;
+        }
+        if (entity instanceof RobotEntity robot) {
+            robots.swapRemove(robot);
+        } else {
+            obstacles.swapRemove((ObstacleEntity) entity);
+        }
+
+        int slot = (int) entity.registryId;
+        slots[slot] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        entity.registryId = NO_ID;
+        return true;
+    }
+
+    /**
+     * Returns the entity registered with an id.
+     *
+     * @param id The id.
+     * @return The entity, or {@code null} if no entity is registered with the id, e.g. because it was removed.
+     */
+    public Entity get(long id) {
+        int slot = (int) id;
+        int generation = (int) (id >>> 32);
+        if (slot < 0 || slot >= slotCount || generation == 0 || generations[slot] != generation) {
+            return null;
+        }
+        return slots[slot];
+    }
+
+    /**
+     * Returns the earliest registered robot with a name, ignoring case.
+     *
+     * @param name The name.
+     * @return The robot, or {@code null} if there is none.
+     */
+    public RobotEntity findRobot(String name) {
+        return robots.find(name);
+    }
+
+    /**
+     * Returns the earliest registered obstacle with a name, ignoring case.
+     *
+     * @param name The name.
+     * @return The obstacle, or {@code null} if there is none.
+     */
+    public ObstacleEntity findObstacle(String name) {
+        return obstacles.find(name);
+    }
+
+    /**
+     * Returns the registered robots.
+     *
+     * @return An unmodifiable view of the robots, in registry order.
+     */
+    public List<RobotEntity> getRobots() {
+        return robots;
+    }
+
+    /**
+     * Returns the registered obstacles.
+     *
+     * @return An unmodifiable view of the obstacles, in registry order.
+     */
+    public List<ObstacleEntity> getObstacles() {
+        return obstacles;
+    }
+
+    /**
+     * Returns the number of registered entities.
+     *
+     * @return The entity count.
+     */
+    public int size() {
+        return robots.size() + obstacles.size();
+    }
+
+    /**
+     * Unregisters every entity. The generations of the id slots are kept, so ids handed out before
+     * never find an entity registered after.
+     */
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slots[slot] != null) {
+                slots[slot].registryId = NO_ID;
+                slots[slot] = null;
+            }
+        }
+        freeCount = 0;
+        for (int slot = slotCount - 1; slot >= 0; slot--) {
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeCount++] = slot;  // Lowest slot on top, so they are reused in order
+        }
+        robots.reset();
+        obstacles.reset();
+    }
+
+    /**
+     * Entities of one kind, stored densely and indexed by name. As a list it is read-only.
+     *
+     * @param <E> The kind of entity.
+     */
+    private static final class Dense<E extends Entity> extends AbstractList<E> implements RandomAccess {
+
+        private Entity[] entities = new Entity[INITIAL_CAPACITY];  // The entities, densely
+        private int size = 0;  // Number of entities
+        private final Map<String, Object> byName = new HashMap<>();  // Entity, or LinkedHashSet of entities, per name
+
+        /**
+         * Appends an entity.
+         *
+         * @param entity The entity.
+         */
+        void append(E entity) {
+            if (size == entities.length) {
+                entities = Arrays.copyOf(entities, size * 2);
+            }
+            entity.registryIndex = size;
+            entities[size++] = entity;
+
+            String key = key(entity.getName());
+            Object named = byName.get(key);
+            if (named == null) {
+                byName.put(key, entity);
+            } else if (named instanceof Entity first) {
+                LinkedHashSet<Entity> shared = new LinkedHashSet<>();
+                shared.add(first);
+                shared.add(entity);
+                byName.put(key, shared);
+            } else {
+                asSet(named).add(entity);
+            }
+        }
+
+        /**
+         * Removes an entity, moving the last entity into its place.
+         *
+         * @param entity The entity, which must be stored here.
+         */
+        void swapRemove(E entity) {
+            int index = entity.registryIndex;
+            Entity last = entities[--size];
+            entities[index] = last;
+            last.registryIndex = index;
+            entities[size] = null;
+            entity.registryIndex = -1;
+
+            String key = key(entity.getName());
+            Object named = byName.get(key);
+            if (named == entity) {
+                byName.remove(key);
+            } else {
+                LinkedHashSet<Entity> shared = asSet(named);
+                shared.remove(entity);
+                if (shared.size() == 1) {
+                    byName.put(key, shared.iterator().next());
+                }
+            }
+        }
+
+        /**
+         * Returns the earliest added entity with a name, ignoring case.
+         *
+         * @param name The name.
+         * @return The entity, or {@code null} if there is none.
+         */
+        @SuppressWarnings("unchecked")
+        E find(String name) {
+            Object named = byName.get(key(name));
+            if (named == null || named instanceof Entity) {
+                return (E) named;
+            }
+            return (E) asSet(named).iterator().next();
+        }
+
+        /**
+         * Removes every entity.
+         */
+        void reset() {
+            for (int i = 0; i < size; i++) {
+                entities[i].registryIndex = -1;
+            }
+            Arrays.fill(entities, 0, size, null);
+            size = 0;
+            byName.clear();
+        }
+
+        /**
+         * Returns the entity at a position.
+         *
+         * @param index The position.
+         * @return The entity.
+         * @throws IndexOutOfBoundsException If the position is out of range.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+            }
+            return (E) entities[index];
+        }
+
+        /**
+         * Returns the number of entities.
+         *
+         * @return The entity count.
+         */
+        @Override
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Copies the entities into an array in one go rather than through an iterator.
+         *
+         * @return A new array of the entities.
+         */
+        @Override
+        public Object[] toArray() {
+            return Arrays.copyOf(entities, size, Object[].class);
+        }
+
+        /**
+         * Copies the entities into an array in one go rather than through an iterator.
+         *
+         * @param array The array to fill if large enough; otherwise one of its type is created.
+         * @param <T>   The component type of the array.
+         * @return The array holding the entities.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] toArray(T[] array) {
+            if (array.length < size) {
+                return (T[]) Arrays.copyOf(entities, size, array.getClass());
+            }
+            System.arraycopy(entities, 0, array, 0, size);
+            if (array.length > size) {
+                array[size] = null;
+            }
+            return array;
+        }
+
+        /**
+         * Returns the name index key of a name.
+         *
+         * @param name The name.
+         * @return The key, the same for names that differ only in case.
+         */
+        private static String key(String name) {
+            return name.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * Casts an entry of the name index holding several entities.
+         *
+         * @param named The entry.
+         * @return The entities sharing the name.
+         */
+        @SuppressWarnings("unchecked")
+        private static LinkedHashSet<Entity> asSet(Object named) {
+            return (LinkedHashSet<Entity>) named;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.robotsim.core;
+
+/**
+ * The EntityType enum lists every kind of robot and obstacle the simulation knows about.
+ * Each constant carries the name used for it in arena files and knows how to create a fresh entity,
+ * so file formats and tools can work with types without depending on the concrete classes.
+ */
+public enum EntityType {
+    DEFAULT_ROBOT("DefaultRobot", true),
+    SENSOR_ROBOT("SensorRobot", true),
+    PREDATOR_ROBOT("PredatorRobot", true),
+    USER_CONTROLLED_ROBOT("UserControlledRobot", true),
+    WHISKER_ROBOT("WhiskerRobot", true),
+    LAMP_OBSTACLE("LampObstacle", false),
+    ROCK_OBSTACLE("RockObstacle", false),
+    LAKE_OBSTACLE("LakeObstacle", false);
+
+    private final String fileName;  // Name of the type in arena files
+    private final boolean robot;  // Whether the type is a robot rather than an obstacle
+
+    /**
+     * Constructs an EntityType.
+     *
+     * @param fileName The name of the type in arena files.
+     * @param robot    Whether the type is a robot.
+     */
+    EntityType(String fileName, boolean robot) {
+        this.fileName = fileName;
+        this.robot = robot;
+    }
+
+    /**
+     * Returns the name of the type in arena files (e.g. "SensorRobot", "LakeObstacle").
+     *
+     * @return The file name of the type.
+     */
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Returns whether this type is a robot.
+     *
+     * @return true for robot types, false for obstacle types.
+     */
+    public boolean isRobot() {
+        return robot;
+    }
+
+    /**
+     * Creates a new robot of this type.
+     *
+     * @param name The name of the robot.
+     * @param x    The X-coordinate of the robot's position.
+     * @param y    The Y-coordinate of the robot's position.
+     * @param size The size of the robot.
+     * @return The new robot.
+     * @throws IllegalStateException If this type is not a robot type.
+     */
+    public RobotEntity createRobot(String name, double x, double y, double size) {
+        return switch (this) {
+            case DEFAULT_ROBOT -> new DefaultRobotEntity(name, x, y, size);
+            case SENSOR_ROBOT -> new SensorRobotEntity(name, x, y, size);
+            case PREDATOR_ROBOT -> new PredatorRobotEntity(name, x, y, size);
+            case USER_CONTROLLED_ROBOT -> new UserControlledRobotEntity(name, x, y, size);
+            case WHISKER_ROBOT -> new WhiskerRobotEntity(name, x, y, size);
+            default -> throw new IllegalStateException("Not a robot type: " + this);
+        };
+    }
+
+    /**
+     * Creates a new obstacle of this type.
+     *
+     * @param x    The X-coordinate of the obstacle's position.
+     * @param y    The Y-coordinate of the obstacle's position.
+     * @param size The size of the obstacle.
+     * @return The new obstacle.
+     * @throws IllegalStateException If this type is not an obstacle type.
+     */
+    public ObstacleEntity createObstacle(double x, double y, double size) {
+        return switch (this) {
+            case LAMP_OBSTACLE -> new LampObstacleEntity(x, y, size);
+            case ROCK_OBSTACLE -> new RockObstacleEntity(x, y, size);
+            case LAKE_OBSTACLE -> new LakeObstacleEntity(x, y, size);
+            default -> throw new IllegalStateException("Not an obstacle type: " + this);
+        };
+    }
+
+    /**
+     * Looks up a type by its name in arena files.
+     *
+     * @param fileName The file name of the type.
+     * @return The matching type.
+     * @throws IllegalArgumentException If no type has that name.
+     */
+    public static EntityType fromFileName(String fileName) {
+        for (EntityType type : values()) {
+            if (type.fileName.equals(fileName)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity type: " + fileName);
+    }
+
+    /**
+     * Returns the type of an existing entity.
+     *
+     * @param entity The entity.
+     * @return The type of the entity.
+     * @throws IllegalArgumentException If the entity's class is not a known type.
+     */
+    public static EntityType of(Entity entity) {
+        if (entity instanceof SensorRobotEntity) return SENSOR_ROBOT;
+        if (entity instanceof PredatorRobotEntity) return PREDATOR_ROBOT;
+        if (entity instanceof UserControlledRobotEntity) return USER_CONTROLLED_ROBOT;
+        if (entity instanceof WhiskerRobotEntity) return WHISKER_ROBOT;
+        if (entity instanceof DefaultRobotEntity) return DEFAULT_ROBOT;
+        if (entity instanceof LampObstacleEntity) return LAMP_OBSTACLE;
+        if (entity instanceof RockObstacleEntity) return ROCK_OBSTACLE;
+        if (entity instanceof LakeObstacleEntity) return LAKE_OBSTACLE;
+        throw new IllegalArgumentException("Unknown entity class: " + entity.getClass().getName());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.robotsim.core;
+
+/**
+ * The LakeObstacleEntity class models a lake.
+ * When a robot collides with the lake, it bounces off in both horizontal and vertical directions,
+ * and its speed is reduced temporarily.
+ */
+public class LakeObstacleEntity extends ObstacleEntity {
+
+    /**
+     * Constructs a LakeObstacleEntity at the specified position (x, y) with the given size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param size The size (width and height) of the obstacle.
+     */
+    public LakeObstacleEntity(double x, double y, double size) {
+        super(x, y, "Lake", size);
+    }
+
+    /**
+     * Bounces the robot off the lake and halves its speed; 2 seconds after the last contact the speed is reset to 3.
+     *
+     * @param robot The robot that collided with the lake.
+     * @param world The world, used to schedule the delayed effect.
+     */
+    @Override
+    public void handleCollision(RobotEntity robot, World world) {
+        // Bounce the robot off the lake in both horizontal and vertical directions
+        robot.bounceHorizontally();
+        robot.bounceVertically();
+
+        // Reduce the robot's speed by 50% upon collision with the lake
+        robot.setSpeed(robot.getSpeed() * 0.5);
+
+        // 2 seconds after the last contact, restore the robot's speed to its normal value (3)
+        world.schedule(robot, EffectKind.LAKE_SPEED_RESTORE, 2000, () -> robot.setSpeed(3));
+    }
+}
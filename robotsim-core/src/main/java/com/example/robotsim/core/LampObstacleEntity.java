@@ -0,0 +1,34 @@
+package com.example.robotsim.core;
+
+/**
+ * The LampObstacleEntity class models a lamp that, when collided with, falls over
+ * and reverts to its original position after a set time.
+ */
+public class LampObstacleEntity extends ObstacleEntity {
+
+    /**
+     * Constructs a LampObstacleEntity at the specified position (x, y) with the given size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param size The size (width and height) of the obstacle.
+     */
+    public LampObstacleEntity(double x, double y, double size) {
+        super(x, y, "Lamp", size);
+    }
+
+    /**
+     * Rotates the lamp by 90 degrees to show it has fallen over; 5 seconds after the last hit it is upright again.
+     *
+     * @param robot The robot that collided with the lamp.
+     * @param world The world, used to schedule the delayed effect.
+     */
+    @Override
+    public void handleCollision(RobotEntity robot, World world) {
+        // Rotate the lamp to simulate it falling over
+        setRotation(90);
+
+        // 5 seconds after the last hit, restore the lamp's rotation to its original state (0 degrees)
+        world.schedule(this, EffectKind.LAMP_STAND_UP, 5000, () -> setRotation(0));
+    }
+}
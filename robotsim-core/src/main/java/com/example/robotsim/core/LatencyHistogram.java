@@ -0,0 +1,188 @@
+package com.example.robotsim.core;
+
+import java.util.Arrays;
+
+/**
+ * The LatencyHistogram class counts durations in buckets whose bounds double from one microsecond up to
+ * about 17 seconds, so recording is a constant-time array update and the memory use is fixed however
+ * many durations are recorded. Percentiles are reported as the upper bound of the bucket they fall into.
+ * <p>
+ * Durations are recorded by the simulation or a background thread and read by JMX clients,
+ * so all methods are synchronized; the lock is uncontended in practice.
+ */
+public class LatencyHistogram implements LatencyHistogramMXBean {
+
+    private static final int FIRST_BUCKET_SHIFT = 10;  // The first bucket holds durations up to 2^10 ns, about 1 µs
+    private static final int BUCKET_COUNT = 26;  // Bounded buckets up to 2^34 ns, plus one unbounded bucket
+
+    private final long[] buckets = new long[BUCKET_COUNT];  // Number of durations per bucket
+    private long count = 0;  // Number of recorded durations
+    private long sumNanos = 0;  // Sum of all recorded durations
+    private long maxNanos = 0;  // Longest recorded duration
+    private long lastNanos = 0;  // Most recently recorded duration
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds; negative values are recorded as 0.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucketOf(value)]++;
+        count++;
+        sumNanos += value;
+        maxNanos = Math.max(maxNanos, value);
+        lastNanos = value;
+    }
+
+    /**
+     * Returns the bucket a duration falls into.
+     *
+     * @param nanos The duration in nanoseconds.
+     * @return The bucket index.
+     */
+    private static int bucketOf(long nanos) {
+        if (nanos <= 1L << FIRST_BUCKET_SHIFT) {
+            return 0;
+        }
+        int bits = Long.SIZE - Long.numberOfLeadingZeros(nanos - 1);  // Smallest power of two holding the duration
+        return Math.min(bits - FIRST_BUCKET_SHIFT, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Returns the upper bound of a bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The bound in nanoseconds, {@link Long#MAX_VALUE} for the last bucket.
+     */
+    private static long upperBoundOf(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << (FIRST_BUCKET_SHIFT + bucket);
+    }
+
+    /**
+     * Returns a percentile of the recorded durations.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the bucket holding the percentile, capped at the maximum, in nanoseconds.
+     */
+    public synchronized long getPercentileNanos(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return The sample count.
+     */
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return The mean in nanoseconds, 0 if nothing was recorded.
+     */
+    @Override
+    public synchronized double getMeanNanos() {
+        return count == 0 ? 0 : (double) sumNanos / count;
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    @Override
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Returns the most recently recorded duration.
+     *
+     * @return The last duration in nanoseconds.
+     */
+    @Override
+    public synchronized long getLastNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * Returns the median of the recorded durations.
+     *
+     * @return The 50th percentile in nanoseconds.
+     */
+    @Override
+    public long getP50Nanos() {
+        return getPercentileNanos(50);
+    }
+
+    /**
+     * Returns the 90th percentile of the recorded durations.
+     *
+     * @return The 90th percentile in nanoseconds.
+     */
+    @Override
+    public long getP90Nanos() {
+        return getPercentileNanos(90);
+    }
+
+    /**
+     * Returns the 99th percentile of the recorded durations.
+     *
+     * @return The 99th percentile in nanoseconds.
+     */
+    @Override
+    public long getP99Nanos() {
+        return getPercentileNanos(99);
+    }
+
+    /**
+     * Returns the upper bound of every bucket; the last bucket is unbounded.
+     *
+     * @return The bucket bounds in nanoseconds.
+     */
+    @Override
+    public long[] getBucketUpperBoundsNanos() {
+        long[] bounds = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bounds[i] = upperBoundOf(i);
+        }
+        return bounds;
+    }
+
+    /**
+     * Returns the number of durations recorded in every bucket.
+     *
+     * @return A copy of the bucket counts.
+     */
+    @Override
+    public synchronized long[] getBucketCounts() {
+        return buckets.clone();
+    }
+
+    /**
+     * Discards all recorded durations.
+     */
+    @Override
+    public synchronized void reset() {
+        Arrays.fill(buckets, 0);
+        count = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+        lastNanos = 0;
+    }
+}
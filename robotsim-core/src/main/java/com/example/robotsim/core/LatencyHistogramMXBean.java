@@ -0,0 +1,75 @@
+package com.example.robotsim.core;
+
+/**
+ * Management interface of a {@link LatencyHistogram}, exposing its statistics to JMX clients.
+ */
+public interface LatencyHistogramMXBean {
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return The sample count.
+     */
+    long getCount();
+
+    /**
+     * Returns the mean of the recorded durations.
+     *
+     * @return The mean in nanoseconds, 0 if nothing was recorded.
+     */
+    double getMeanNanos();
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return The maximum in nanoseconds.
+     */
+    long getMaxNanos();
+
+    /**
+     * Returns the most recently recorded duration.
+     *
+     * @return The last duration in nanoseconds.
+     */
+    long getLastNanos();
+
+    /**
+     * Returns the median of the recorded durations, to the precision of a bucket.
+     *
+     * @return The 50th percentile in nanoseconds.
+     */
+    long getP50Nanos();
+
+    /**
+     * Returns the 90th percentile of the recorded durations, to the precision of a bucket.
+     *
+     * @return The 90th percentile in nanoseconds.
+     */
+    long getP90Nanos();
+
+    /**
+     * Returns the 99th percentile of the recorded durations, to the precision of a bucket.
+     *
+     * @return The 99th percentile in nanoseconds.
+     */
+    long getP99Nanos();
+
+    /**
+     * Returns the upper bound of every bucket; the last bucket is unbounded.
+     *
+     * @return The bucket bounds in nanoseconds.
+     */
+    long[] getBucketUpperBoundsNanos();
+
+    /**
+     * Returns the number of durations recorded in every bucket.
+     *
+     * @return The bucket counts, in the order of {@link #getBucketUpperBoundsNanos()}.
+     */
+    long[] getBucketCounts();
+
+    /**
+     * Discards all recorded durations.
+     */
+    void reset();
+}
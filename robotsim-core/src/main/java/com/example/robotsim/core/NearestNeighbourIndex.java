@@ -0,0 +1,301 @@
+package com.example.robotsim.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * The NearestNeighbourIndex class finds the entities nearest to a point, e.g. the prey nearest to a hunting
+ * predator. It is a kd-tree over the centres of a set of entities, stored implicitly in arrays: the median of
+ * every range is its root, splitting the range alternately along the X- and the Y-axis. The tree is not updated
+ * as entities move; it is rebuilt in O(n log n) from their current centres, typically once per tick.
+ * <p>
+ * The index counts its queries and the tree nodes they visit since the last rebuild, the cost of a query
+ * in the way collision tests are the cost of the spatial grid.
+ */
+public class NearestNeighbourIndex {
+
+    private static final int INITIAL_CAPACITY = 16;  // Capacity of the arrays before the first growth
+
+    private Entity[] entities = new Entity[INITIAL_CAPACITY];  // Indexed entities, in tree order
+    private double[] centreX = new double[INITIAL_CAPACITY];  // X-coordinates of their centres when indexed
+    private double[] centreY = new double[INITIAL_CAPACITY];  // Y-coordinates of their centres when indexed
+    private int size = 0;  // Number of indexed entities
+
+    private long queries = 0;  // Queries since the last rebuild
+    private long visitedNodes = 0;  // Tree nodes visited by the queries since the last rebuild
+    private long totalQueries = 0;  // Queries since the index was created
+    private long totalVisitedNodes = 0;  // Tree nodes visited since the index was created
+
+    // State of the running query, kept in fields so the recursion does not have to pass it along
+    private double queryX;
+    private double queryY;
+    private int queryK;
+    private Predicate<Entity> queryFilter;
+    private Entity[] queryFound;
+    private double[] queryDistances;  // Squared distances while the query runs
+    private int queryCount;
+
+    /**
+     * Rebuilds the index from the current centres of the given entities that satisfy the filter.
+     * The query counters are reset.
+     *
+     * @param candidates The entities to index.
+     * @param include    The filter entities must satisfy to be indexed.
+     */
+    public void rebuild(List<? extends Entity> candidates, Predicate<Entity> include) {
+        clear();
+        for (Entity entity : candidates) {
+            if (!include.test(entity)) {
+                continue;
+            }
+            if (size == entities.length) {
+                int capacity = entities.length * 2;
+                entities = Arrays.copyOf(entities, capacity);
+                centreX = Arrays.copyOf(centreX, capacity);
+                centreY = Arrays.copyOf(centreY, capacity);
+            }
+            entities[size] = entity;
+            centreX[size] = entity.getX() + entity.getWidth() / 2;
+            centreY[size] = entity.getY() + entity.getHeight() / 2;
+            size++;
+        }
+        build(0, size, true);
+    }
+
+    /**
+     * Empties the index and resets the query counters. The totals are kept.
+     */
+    public void clear() {
+        Arrays.fill(entities, 0, size, null);
+        size = 0;
+        queries = 0;
+        visitedNodes = 0;
+    }
+
+    /**
+     * Arranges a range of the arrays into a kd-tree: its median along the axis becomes the root,
+     * and the halves on either side are arranged along the other axis.
+     *
+     * @param from   The start of the range, inclusive.
+     * @param to     The end of the range, exclusive.
+     * @param alongX Whether the range is split along the X-axis.
+     */
+    private void build(int from, int to, boolean alongX) {
+        while (to - from > 1) {
+            int median = (from + to) >>> 1;
+            select(from, to - 1, median, alongX ? centreX : centreY);
+            build(from, median, !alongX);
+            from = median + 1;  // Arrange the upper half without growing the stack
+            alongX = !alongX;
+        }
+    }
+
+    /**
+     * Partially sorts a range of the arrays by a key so that the entry at the given position is the one
+     * that would be there if the range were sorted, with no larger keys before and no smaller keys after it.
+     *
+     * @param left   The start of the range, inclusive.
+     * @param right  The end of the range, inclusive.
+     * @param target The position to settle.
+     * @param keys   The coordinates to sort by.
+     */
+    private void select(int left, int right, int target, double[] keys) {
+        while (right > left) {
+            // Median of three as the pivot, so sorted input does not degrade the selection
+            int middle = (left + right) >>> 1;
+            if (keys[middle] < keys[left]) swap(middle, left);
+            if (keys[right] < keys[left]) swap(right, left);
+            if (keys[right] < keys[middle]) swap(right, middle);
+            double pivot = keys[middle];
+
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (keys[i] < pivot) i++;
+                while (keys[j] > pivot) j--;
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;  // Between the partitions, so equal to the pivot
+            }
+        }
+    }
+
+    /**
+     * Swaps two entries of the arrays.
+     *
+     * @param a The position of the first entry.
+     * @param b The position of the second entry.
+     */
+    private void swap(int a, int b) {
+        Entity entity = entities[a];
+        entities[a] = entities[b];
+        entities[b] = entity;
+        double x = centreX[a];
+        centreX[a] = centreX[b];
+        centreX[b] = x;
+        double y = centreY[a];
+        centreY[a] = centreY[b];
+        centreY[b] = y;
+    }
+
+    /**
+     * Returns the indexed entity whose centre is nearest to a point and that satisfies the filter.
+     *
+     * @param x      The X-coordinate of the point.
+     * @param y      The Y-coordinate of the point.
+     * @param filter The filter the entity must satisfy, e.g. to skip entities removed since the rebuild.
+     * @return The nearest entity, or {@code null} if no indexed entity satisfies the filter.
+     */
+    public Entity findNearest(double x, double y, Predicate<Entity> filter) {
+        Entity[] found = new Entity[1];
+        return findNearest(x, y, 1, filter, found, new double[1]) == 0 ? null : found[0];
+    }
+
+    /**
+     * Finds the k indexed entities whose centres are nearest to a point and that satisfy the filter,
+     * nearest first. Only the branches of the tree that can hold a nearer entity than the k-th found so far
+     * are visited.
+     *
+     * @param x         The X-coordinate of the point.
+     * @param y         The Y-coordinate of the point.
+     * @param k         The number of entities to find.
+     * @param filter    The filter the entities must satisfy.
+     * @param found     Receives the entities found; must hold at least k entries.
+     * @param distances Receives the distances from the point to their centres; must hold at least k entries.
+     * @return The number of entities found, k unless fewer indexed entities satisfy the filter.
+     * @throws IllegalArgumentException If k is not positive or an output array is too short.
+     */
+    public int findNearest(double x, double y, int k, Predicate<Entity> filter, Entity[] found, double[] distances) {
+        if (k <= 0 || found.length < k || distances.length < k) {
+            throw new IllegalArgumentException("Invalid neighbour count or output arrays: k=" + k);
+        }
+        queryX = x;
+        queryY = y;
+        queryK = k;
+        queryFilter = filter;
+        queryFound = found;
+        queryDistances = distances;
+        queryCount = 0;
+        search(0, size, true);
+
+        queries++;
+        totalQueries++;
+        queryFilter = null;
+        queryFound = null;
+        queryDistances = null;
+        for (int i = 0; i < queryCount; i++) {
+            distances[i] = Math.sqrt(distances[i]);
+        }
+        return queryCount;
+    }
+
+    /**
+     * Searches a subtree for entities nearer than the k-th found so far.
+     *
+     * @param from   The start of the subtree's range, inclusive.
+     * @param to     The end of the subtree's range, exclusive.
+     * @param alongX Whether the subtree is split along the X-axis.
+     */
+    private void search(int from, int to, boolean alongX) {
+        while (from < to) {
+            int median = (from + to) >>> 1;
+            visitedNodes++;
+            totalVisitedNodes++;
+
+            double dx = centreX[median] - queryX;
+            double dy = centreY[median] - queryY;
+            double distance = dx * dx + dy * dy;
+            if ((queryCount < queryK || distance < queryDistances[queryCount - 1]) && queryFilter.test(entities[median])) {
+                offer(entities[median], distance);
+            }
+
+            // Descend into the half holding the point first, then into the other one if it can be nearer
+            double split = alongX ? -dx : -dy;  // Offset of the point from the splitting line
+            boolean below = split < 0;
+            if (below) {
+                search(from, median, !alongX);
+            } else {
+                search(median + 1, to, !alongX);
+            }
+            if (queryCount == queryK && split * split >= queryDistances[queryCount - 1]) {
+                return;
+            }
+            if (below) {
+                from = median + 1;
+            } else {
+                to = median;
+            }
+            alongX = !alongX;
+        }
+    }
+
+    /**
+     * Inserts an entity into the entities found so far, keeping them sorted and at most k.
+     *
+     * @param entity   The entity.
+     * @param distance The squared distance to its centre.
+     */
+    private void offer(Entity entity, double distance) {
+        int i = queryCount < queryK ? queryCount++ : queryCount - 1;  // Drop the furthest when full
+        while (i > 0 && queryDistances[i - 1] > distance) {
+            queryFound[i] = queryFound[i - 1];
+            queryDistances[i] = queryDistances[i - 1];
+            i--;
+        }
+        queryFound[i] = entity;
+        queryDistances[i] = distance;
+    }
+
+    /**
+     * Returns the number of indexed entities.
+     *
+     * @return The entity count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of queries since the last rebuild.
+     *
+     * @return The query count.
+     */
+    public long getQueries() {
+        return queries;
+    }
+
+    /**
+     * Returns the number of tree nodes the queries since the last rebuild visited.
+     *
+     * @return The visited node count.
+     */
+    public long getVisitedNodes() {
+        return visitedNodes;
+    }
+
+    /**
+     * Returns the number of queries since the index was created.
+     *
+     * @return The query count.
+     */
+    public long getTotalQueries() {
+        return totalQueries;
+    }
+
+    /**
+     * Returns the number of tree nodes visited since the index was created.
+     *
+     * @return The visited node count.
+     */
+    public long getTotalVisitedNodes() {
+        return totalVisitedNodes;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.robotsim.core;
+
+/**
+ * The ObstacleEntity class is the plain-Java model of an obstacle in the arena.
+ * Subclasses define how the obstacle affects robots that collide with it.
+ */
+public abstract class ObstacleEntity extends Entity {
+    private final String type;  // Type of the obstacle (e.g., "Lamp", "Rock")
+    private final double size;  // Size of the obstacle (width and height)
+    private double rotation = 0;  // Rotation of the obstacle in degrees
+    World world;  // World the obstacle lives in, told when the obstacle is moved; null when not in one
+    boolean moved;  // Whether the obstacle moved since its world last re-indexed it
+
+    /**
+     * Constructs an ObstacleEntity at the specified position with the given type and size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param type The type name of the obstacle.
+     * @param size The size (width and height) of the obstacle.
+     */
+    protected ObstacleEntity(double x, double y, String type, double size) {
+        super(x, y);
+        this.type = type;
+        this.size = size;
+    }
+
+    /**
+     * Returns the size (width/height) of the obstacle.
+     *
+     * @return The size of the obstacle.
+     */
+    public double getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the width of the obstacle.
+     *
+     * @return The width of the obstacle.
+     */
+    @Override
+    public double getWidth() {
+        return size;
+    }
+
+    /**
+     * Returns the height of the obstacle.
+     *
+     * @return The height of the obstacle.
+     */
+    @Override
+    public double getHeight() {
+        return size;
+    }
+
+    /**
+     * Returns the type of the obstacle (e.g., "Lamp", "Lake").
+     *
+     * @return The type of the obstacle.
+     */
+    @Override
+    public String getName() {
+        return type;
+    }
+
+    /**
+     * Moves the obstacle to the specified position. Obstacles never move by themselves, so their world
+     * keeps them in a static layer and re-indexes one only when it is told the obstacle was moved,
+     * e.g. dragged by the user.
+     *
+     * @param x The new X-coordinate.
+     * @param y The new Y-coordinate.
+     */
+    @Override
+    public void setPosition(double x, double y) {
+        super.setPosition(x, y);
+        if (world != null && !moved) {
+            moved = true;
+            world.obstacleMoved(this);
+        }
+    }
+
+    /**
+     * Returns the rotation of the obstacle in degrees.
+     *
+     * @return The rotation.
+     */
+    public double getRotation() {
+        return rotation;
+    }
+
+    /**
+     * Sets the rotation of the obstacle in degrees.
+     *
+     * @param rotation The new rotation.
+     */
+    public void setRotation(double rotation) {
+        this.rotation = rotation;
+    }
+
+    /**
+     * Handles a collision between the obstacle and a robot.
+     *
+     * @param robot The robot that collided with the obstacle.
+     * @param world The world, used to schedule delayed effects.
+     */
+    public abstract void handleCollision(RobotEntity robot, World world);
+}
@@ -0,0 +1,552 @@
+package com.example.robotsim.core;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ParameterSweep class runs many short, independent simulations of a base arena with varied seeds,
+ * robot mixes and robot sizes, and aggregates their outcomes. Every run gets its own {@link World} built
+ * from an immutable snapshot of the base arena, so runs share no state and are spread over a
+ * work-stealing pool using all cores. A run's outcome depends only on its parameters and seed, never on
+ * the thread or order it ran in.
+ * <p>
+ * The parameters form a grid: every combination of the extra robot counts and the robot size is run once
+ * per seed. The outcomes of a combination, i.e. the survivors of predator hunting, the obstacle hits and
+ * the coverage of the arena, are summarised over its seeds as mean, standard deviation, minimum and maximum.
+ * <p>
+ * Usage: {@code java -cp robotsim-core.jar com.example.robotsim.core.ParameterSweep <arena file> [options]},
+ * see {@link #USAGE}.
+ */
+public class ParameterSweep {
+
+    /** Command-line usage. */
+    public static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -cp robotsim-core.jar com.example.robotsim.core.ParameterSweep <arena file> [options]",
+            "  --seeds <n>              Runs per parameter combination (default " + Settings.DEFAULT_SEEDS + ")",
+            "  --base-seed <n>          Seed of the first run of every combination (default 1)",
+            "  --robots <type>=<range>  Extra robots of a type per run, e.g. PredatorRobot=0..8:2 (repeatable)",
+            "  --robot-size <range>     Size of the extra robots (default " + (int) ArenaTextFormat.DEFAULT_ROBOT_SIZE + ")",
+            "  --ticks <n>              Ticks per run (default " + Settings.DEFAULT_TICKS + ")",
+            "  --width <w>              Width of the arena (default " + (int) BatchRunner.Options.DEFAULT_WIDTH + ")",
+            "  --height <h>             Height of the arena (default " + (int) BatchRunner.Options.DEFAULT_HEIGHT + ")",
+            "  --tick-millis <n>        Simulated time per tick; longer ticks take larger steps (default " + BatchRunner.Options.DEFAULT_TICK_MILLIS + ")",
+            "  --coverage-cell <s>      Cell size of the coverage map (default " + (int) Settings.DEFAULT_COVERAGE_CELL + ")",
+            "  --threads <n>            Runs in parallel (default: available processors)",
+            "  --summary <file>         Write the outcomes per combination as CSV",
+            "  --runs <file>            Write the outcome of every run as CSV",
+            "A range is <n>, <from>..<to> or <from>..<to>:<step>.");
+
+    private static final long PLACEMENT_SALT = 0x9E3779B97F4A7C15L;  // Separates the placement generator from the world seed
+    private static final int EXIT_USAGE = 2;  // Exit status for invalid arguments
+    private static final int EXIT_ERROR = 1;  // Exit status for failed sweeps
+
+    /**
+     * An inclusive range of whole numbers.
+     *
+     * @param from The first value.
+     * @param to   The last value.
+     * @param step The distance between values.
+     */
+    public record Range(long from, long to, long step) {
+
+        /**
+         * Constructs a Range.
+         *
+         * @throws IllegalArgumentException If the range is empty or the step is not positive.
+         */
+        public Range {
+            if (step <= 0 || to < from) {
+                throw new IllegalArgumentException("Invalid range: " + from + ".." + to + ":" + step);
+            }
+        }
+
+        /**
+         * Parses a range given as {@code n}, {@code from..to} or {@code from..to:step}.
+         *
+         * @param text The text.
+         * @return The range.
+         * @throws IllegalArgumentException If the text is not a valid range.
+         */
+        public static Range parse(String text) {
+            try {
+                String bounds = text;
+                long step = 1;
+                int colon = text.indexOf(':');
+                if (colon >= 0) {
+                    bounds = text.substring(0, colon);
+                    step = Long.parseLong(text.substring(colon + 1).trim());
+                }
+                int dots = bounds.indexOf("..");
+                if (dots < 0) {
+                    long value = Long.parseLong(bounds.trim());
+                    return new Range(value, value, step);
+                }
+                return new Range(Long.parseLong(bounds.substring(0, dots).trim()),
+                        Long.parseLong(bounds.substring(dots + 2).trim()), step);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid range: " + text);
+            }
+        }
+
+        /**
+         * Returns the values of the range in ascending order.
+         *
+         * @return The values.
+         */
+        public List<Long> values() {
+            List<Long> values = new ArrayList<>();
+            for (long value = from; value <= to; value += step) {
+                values.add(value);
+            }
+            return values;
+        }
+    }
+
+    /**
+     * The settings of a sweep.
+     *
+     * @param arena        The base arena file.
+     * @param seeds        The number of runs per parameter combination.
+     * @param baseSeed     The seed of the first run of every combination.
+     * @param extraRobots  The range of extra robots per robot type.
+     * @param robotSize    The range of sizes of the extra robots.
+     * @param ticks        The number of ticks per run.
+     * @param width        The width of the arena.
+     * @param height       The height of the arena.
+     * @param tickMillis   The simulated time per tick, in milliseconds.
+     * @param coverageCell The cell size of the coverage map.
+     * @param threads      The number of runs in parallel.
+     * @param summary      The file to write the outcomes per combination to, or null.
+     * @param runs         The file to write the outcome of every run to, or null.
+     */
+    public record Settings(Path arena, int seeds, long baseSeed, Map<EntityType, Range> extraRobots, Range robotSize,
+                           long ticks, double width, double height, long tickMillis, double coverageCell,
+                           int threads, Path summary, Path runs) {
+
+        /** Default number of runs per parameter combination. */
+        public static final int DEFAULT_SEEDS = 10;
+
+        /** Default number of ticks per run. */
+        public static final long DEFAULT_TICKS = 1000;
+
+        /** Default cell size of the coverage map. */
+        public static final double DEFAULT_COVERAGE_CELL = 50;
+
+        /**
+         * Parses the command-line arguments.
+         *
+         * @param args The arguments.
+         * @return The settings.
+         * @throws IllegalArgumentException If the arguments are invalid.
+         */
+        public static Settings parse(String[] args) {
+            Path arena = null;
+            int seeds = DEFAULT_SEEDS;
+            long baseSeed = 1;
+            Map<EntityType, Range> extraRobots = new LinkedHashMap<>();
+            Range robotSize = Range.parse(String.valueOf((long) ArenaTextFormat.DEFAULT_ROBOT_SIZE));
+            long ticks = DEFAULT_TICKS;
+            double width = BatchRunner.Options.DEFAULT_WIDTH;
+            double height = BatchRunner.Options.DEFAULT_HEIGHT;
+            long tickMillis = BatchRunner.Options.DEFAULT_TICK_MILLIS;
+            double coverageCell = DEFAULT_COVERAGE_CELL;
+            int threads = Runtime.getRuntime().availableProcessors();
+            Path summary = null;
+            Path runs = null;
+
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                if (!arg.startsWith("--")) {
+                    if (arena != null) {
+                        throw new IllegalArgumentException("More than one arena file given: " + arg);
+                    }
+                    arena = Path.of(arg);
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + arg);
+                }
+                String value = args[++i];
+                try {
+                    switch (arg) {
+                        case "--seeds" -> seeds = (int) BatchRunner.Options.positive(arg, Integer.parseInt(value));
+                        case "--base-seed" -> baseSeed = Long.parseLong(value);
+                        case "--robots" -> putExtraRobots(extraRobots, value);
+                        case "--robot-size" -> robotSize = Range.parse(value);
+                        case "--ticks" -> ticks = BatchRunner.Options.positive(arg, Long.parseLong(value));
+                        case "--width" -> width = BatchRunner.Options.positive(arg, Double.parseDouble(value));
+                        case "--height" -> height = BatchRunner.Options.positive(arg, Double.parseDouble(value));
+                        case "--tick-millis" -> tickMillis = BatchRunner.Options.positive(arg, Long.parseLong(value));
+                        case "--coverage-cell" -> coverageCell = BatchRunner.Options.positive(arg, Double.parseDouble(value));
+                        case "--threads" -> threads = (int) BatchRunner.Options.positive(arg, Integer.parseInt(value));
+                        case "--summary" -> summary = Path.of(value);
+                        case "--runs" -> runs = Path.of(value);
+                        default -> throw new IllegalArgumentException("Unknown option: " + arg);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid number for " + arg + ": " + value);
+                }
+            }
+
+            if (arena == null) {
+                throw new IllegalArgumentException("No arena file given");
+            }
+            if (robotSize.from() <= 0) {
+                throw new IllegalArgumentException("Robot sizes must be positive: " + robotSize);
+            }
+            return new Settings(arena, seeds, baseSeed, extraRobots, robotSize, ticks, width, height, tickMillis,
+                    coverageCell, threads, summary, runs);
+        }
+
+        /**
+         * Parses a {@code type=range} value of the {@code --robots} option.
+         *
+         * @param extraRobots The map receiving the range.
+         * @param value       The value.
+         * @throws IllegalArgumentException If the value is invalid or names an obstacle.
+         */
+        private static void putExtraRobots(Map<EntityType, Range> extraRobots, String value) {
+            int equals = value.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected <type>=<range>: " + value);
+            }
+            EntityType type = EntityType.fromFileName(value.substring(0, equals).trim());
+            if (!type.isRobot()) {
+                throw new IllegalArgumentException("Not a robot type: " + type.getFileName());
+            }
+            Range range = Range.parse(value.substring(equals + 1));
+            if (range.from() < 0) {
+                throw new IllegalArgumentException("Robot counts must not be negative: " + value);
+            }
+            extraRobots.put(type, range);
+        }
+    }
+
+    /**
+     * One point of the parameter grid.
+     *
+     * @param extraRobots The number of extra robots per robot type.
+     * @param robotSize   The size of the extra robots.
+     */
+    public record Combination(Map<EntityType, Long> extraRobots, long robotSize) {
+    }
+
+    /**
+     * The outcome of one run.
+     *
+     * @param combination   The parameters of the run.
+     * @param seed          The master seed of the run.
+     * @param robotsLeft    The number of robots left at the end.
+     * @param preyLeft      The number of robots other than predators left at the end.
+     * @param obstaclesLeft The number of obstacles left at the end.
+     * @param obstacleHits  The number of robot-obstacle collisions, once per robot, obstacle and tick.
+     * @param coverage      The fraction of the arena visited by any robot.
+     * @param elapsedNanos  The wall-clock time of the run.
+     */
+    public record Outcome(Combination combination, long seed, int robotsLeft, int preyLeft, int obstaclesLeft,
+                          long obstacleHits, double coverage, long elapsedNanos) {
+    }
+
+    private final Settings settings;  // Settings of the sweep
+    private final ArenaSnapshot base;  // Base arena every run starts from
+
+    /**
+     * Constructs a ParameterSweep.
+     *
+     * @param settings The settings of the sweep.
+     * @param base     The base arena every run starts from.
+     */
+    public ParameterSweep(Settings settings, ArenaSnapshot base) {
+        this.settings = settings;
+        this.base = base;
+    }
+
+    /**
+     * Runs a sweep from the command line. Exits with status 2 for invalid arguments
+     * and 1 if the arena cannot be loaded or a run fails.
+     *
+     * @param args The command-line arguments, see {@link #USAGE}.
+     */
+    public static void main(String[] args) {
+        Settings settings;
+        try {
+            settings = Settings.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE);
+            return;
+        }
+
+        try {
+            ParameterSweep sweep = new ParameterSweep(settings, readBase(settings.arena(), System.err));
+            long start = System.nanoTime();
+            List<Outcome> outcomes = sweep.run(System.err);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            List<String> summary = sweep.summarize(outcomes);
+            summary.forEach(System.out::println);
+            System.out.printf(Locale.ROOT, "# %d runs in %.2f s (%.1f runs/s) on %d threads%n",
+                    outcomes.size(), seconds, outcomes.size() / seconds, settings.threads());
+            if (settings.summary() != null) {
+                Files.write(settings.summary(), summary);
+            }
+            if (settings.runs() != null) {
+                Files.write(settings.runs(), sweep.listRuns(outcomes));
+            }
+        } catch (IOException e) {
+            System.err.println("Sweep failed: " + e.getMessage());
+            System.exit(EXIT_ERROR);
+        } catch (ExecutionException e) {
+            System.err.println("Sweep failed: " + e.getCause());
+            System.exit(EXIT_ERROR);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.exit(EXIT_ERROR);
+        }
+    }
+
+    /**
+     * Reads an arena file into a snapshot every run can build its entities from.
+     *
+     * @param arena The arena file.
+     * @param log   The stream receiving warnings about malformed lines of a text file.
+     * @return The snapshot of the arena.
+     * @throws IOException If the arena file cannot be read.
+     */
+    public static ArenaSnapshot readBase(Path arena, PrintStream log) throws IOException {
+        List<RobotEntity> robots = new ArrayList<>();
+        List<ObstacleEntity> obstacles = new ArrayList<>();
+        for (Entity entity : BatchRunner.readArena(arena, log)) {
+            if (entity instanceof RobotEntity robot) {
+                robots.add(robot);
+            } else if (entity instanceof ObstacleEntity obstacle) {
+                obstacles.add(obstacle);
+            }
+        }
+        return ArenaSnapshot.of(0, robots, obstacles);
+    }
+
+    /**
+     * Returns every point of the parameter grid, varying the last robot type fastest and the robot size slowest.
+     *
+     * @return The combinations.
+     */
+    public List<Combination> combinations() {
+        List<Map<EntityType, Long>> mixes = new ArrayList<>();
+        mixes.add(new LinkedHashMap<>());
+        for (Map.Entry<EntityType, Range> entry : settings.extraRobots().entrySet()) {
+            List<Map<EntityType, Long>> expanded = new ArrayList<>();
+            for (Map<EntityType, Long> mix : mixes) {
+                for (long count : entry.getValue().values()) {
+                    Map<EntityType, Long> next = new LinkedHashMap<>(mix);
+                    next.put(entry.getKey(), count);
+                    expanded.add(next);
+                }
+            }
+            mixes = expanded;
+        }
+
+        List<Combination> combinations = new ArrayList<>();
+        for (long size : settings.robotSize().values()) {
+            for (Map<EntityType, Long> mix : mixes) {
+                combinations.add(new Combination(Collections.unmodifiableMap(mix), size));
+            }
+        }
+        return combinations;
+    }
+
+    /**
+     * Runs every combination once per seed on a work-stealing pool.
+     *
+     * @param progress The stream receiving progress messages, or null.
+     * @return The outcomes, ordered by combination and then by seed.
+     * @throws ExecutionException   If a run failed.
+     * @throws InterruptedException If the sweep was interrupted.
+     */
+    public List<Outcome> run(PrintStream progress) throws ExecutionException, InterruptedException {
+        List<Callable<Outcome>> tasks = new ArrayList<>();
+        for (Combination combination : combinations()) {
+            for (int i = 0; i < settings.seeds(); i++) {
+                long seed = settings.baseSeed() + i;
+                tasks.add(() -> runOne(combination, seed));
+            }
+        }
+
+        AtomicInteger completed = new AtomicInteger();
+        int reportEvery = Math.max(1, tasks.size() / 10);
+        ExecutorService pool = Executors.newWorkStealingPool(settings.threads());
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>(tasks.size());
+            for (Callable<Outcome> task : tasks) {
+                futures.add(pool.submit(() -> {
+                    Outcome outcome = task.call();
+                    int done = completed.incrementAndGet();
+                    if (progress != null && (done % reportEvery == 0 || done == tasks.size())) {
+                        progress.println("Completed " + done + "/" + tasks.size() + " runs");
+                    }
+                    return outcome;
+                }));
+            }
+            List<Outcome> outcomes = new ArrayList<>(futures.size());
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get());
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs one simulation: builds a world from the base arena, adds the extra robots at positions drawn
+     * from the seed, and steps it for the configured number of ticks while tracking the coverage.
+     *
+     * @param combination The parameters of the run.
+     * @param seed        The master seed of the run.
+     * @return The outcome.
+     */
+    public Outcome runOne(Combination combination, long seed) {
+        long start = System.nanoTime();
+        World world = new World(settings.width(), settings.height(), settings.tickMillis(), seed);
+        List<Entity> entities = base.toEntities();
+        SplittableRandom placement = new SplittableRandom(seed ^ PLACEMENT_SALT);
+        double size = combination.robotSize();
+        for (Map.Entry<EntityType, Long> entry : combination.extraRobots().entrySet()) {
+            for (long i = 0; i < entry.getValue(); i++) {
+                double x = placement.nextDouble() * Math.max(0, settings.width() - size);
+                double y = placement.nextDouble() * Math.max(0, settings.height() - size);
+                entities.add(entry.getKey().createRobot(entry.getKey().getFileName() + "-" + i, x, y, size));
+            }
+        }
+        world.addAll(entities);
+
+        CoverageMap coverage = new CoverageMap(settings.width(), settings.height(), settings.coverageCell());
+        coverage.mark(world);
+        for (long tick = 0; tick < settings.ticks(); tick++) {
+            world.step();
+            coverage.mark(world);
+        }
+
+        int robotsLeft = world.getRobots().size();
+        int preyLeft = robotsLeft - world.getCount(EntityType.PREDATOR_ROBOT);
+        return new Outcome(combination, seed, robotsLeft, preyLeft, world.getObstacles().size(),
+                world.getObstacleHitCount(), coverage.getCoverage(), System.nanoTime() - start);
+    }
+
+    /**
+     * Summarises the outcomes per combination as CSV lines, headed by the column names.
+     *
+     * @param outcomes The outcomes, ordered by combination.
+     * @return The CSV lines.
+     */
+    public List<String> summarize(List<Outcome> outcomes) {
+        Map<Combination, List<Outcome>> byCombination = new LinkedHashMap<>();
+        for (Outcome outcome : outcomes) {
+            byCombination.computeIfAbsent(outcome.combination(), combination -> new ArrayList<>()).add(outcome);
+        }
+
+        List<String> lines = new ArrayList<>();
+        StringBuilder header = new StringBuilder(parameterHeader()).append(",runs");
+        for (String metric : new String[] {"robotsLeft", "preyLeft", "obstaclesLeft", "obstacleHits", "coverage"}) {
+            header.append(',').append(metric).append("Mean,").append(metric).append("Sd,")
+                    .append(metric).append("Min,").append(metric).append("Max");
+        }
+        lines.add(header.toString());
+
+        for (Map.Entry<Combination, List<Outcome>> entry : byCombination.entrySet()) {
+            List<Outcome> runs = entry.getValue();
+            StringBuilder line = new StringBuilder(parameterValues(entry.getKey())).append(',').append(runs.size());
+            appendStatistics(line, runs.stream().mapToDouble(Outcome::robotsLeft).toArray());
+            appendStatistics(line, runs.stream().mapToDouble(Outcome::preyLeft).toArray());
+            appendStatistics(line, runs.stream().mapToDouble(Outcome::obstaclesLeft).toArray());
+            appendStatistics(line, runs.stream().mapToDouble(Outcome::obstacleHits).toArray());
+            appendStatistics(line, runs.stream().mapToDouble(Outcome::coverage).toArray());
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Lists the outcome of every run as CSV lines, headed by the column names.
+     *
+     * @param outcomes The outcomes.
+     * @return The CSV lines.
+     */
+    public List<String> listRuns(List<Outcome> outcomes) {
+        List<String> lines = new ArrayList<>();
+        lines.add(parameterHeader() + ",seed,robotsLeft,preyLeft,obstaclesLeft,obstacleHits,coverage,elapsedMillis");
+        for (Outcome outcome : outcomes) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%d,%d,%d,%d,%.4f,%.3f", parameterValues(outcome.combination()),
+                    outcome.seed(), outcome.robotsLeft(), outcome.preyLeft(), outcome.obstaclesLeft(),
+                    outcome.obstacleHits(), outcome.coverage(), outcome.elapsedNanos() / 1e6));
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the CSV column names of the parameters.
+     *
+     * @return The column names, separated by commas.
+     */
+    private String parameterHeader() {
+        StringBuilder header = new StringBuilder("robotSize");
+        for (EntityType type : settings.extraRobots().keySet()) {
+            header.append(",extra").append(type.getFileName());
+        }
+        return header.toString();
+    }
+
+    /**
+     * Returns the CSV values of the parameters of a combination.
+     *
+     * @param combination The combination.
+     * @return The values, separated by commas.
+     */
+    private String parameterValues(Combination combination) {
+        StringBuilder values = new StringBuilder(String.valueOf(combination.robotSize()));
+        for (EntityType type : settings.extraRobots().keySet()) {
+            values.append(',').append(combination.extraRobots().get(type));
+        }
+        return values.toString();
+    }
+
+    /**
+     * Appends the mean, the sample standard deviation, the minimum and the maximum of some values.
+     *
+     * @param line   The line to append to.
+     * @param values The values, at least one.
+     */
+    private static void appendStatistics(StringBuilder line, double[] values) {
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (double value : values) {
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        double mean = sum / values.length;
+        double squares = 0;
+        for (double value : values) {
+            squares += (value - mean) * (value - mean);
+        }
+        double sd = values.length > 1 ? Math.sqrt(squares / (values.length - 1)) : 0;
+        line.append(String.format(Locale.ROOT, ",%.4f,%.4f,%.4f,%.4f", mean, sd, min, max));
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.robotsim.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a phase of a tick that runs in one piece, i.e. the delayed effects
+ * run by the world and the user interface update after a tick.
+ * Only create it when {@link SimulationEvents#ENABLED} is set.
+ */
+@Name("com.example.robotsim.Phase")
+@Label("Simulation Phase")
+@Category({"RobotSim", "Simulation"})
+@Description("A phase of a tick that runs in one piece")
+@Registered(false)
+@StackTrace(false)
+public class PhaseEvent extends Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Robots")
+    int robotCount;
+
+    @Label("Obstacles")
+    int obstacleCount;
+
+    /**
+     * Creates an event for a phase and starts timing it.
+     *
+     * @param phase The phase that starts.
+     * @return The running event.
+     */
+    public static PhaseEvent start(TickProfiler.Phase phase) {
+        PhaseEvent event = new PhaseEvent();
+        event.phase = phase.name();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Stops timing the phase and commits the event with the entity counts of the world,
+     * if a recording is interested in it.
+     *
+     * @param world The world the phase ran on.
+     */
+    public void finish(World world) {
+        end();
+        if (shouldCommit()) {
+            tick = world.getTick();
+            robotCount = world.getRobots().size();
+            obstacleCount = world.getObstacles().size();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.robotsim.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a predator removing the entities it collides with from the world.
+ */
+@Name("com.example.robotsim.PredatorConsumption")
+@Label("Predator Consumption")
+@Category({"RobotSim", "Entities"})
+@Description("A predator consuming the robots and obstacles it collides with")
+@Registered(false)
+@StackTrace(false)
+class PredatorConsumptionEvent extends Event {
+
+    @Label("Predator")
+    String predator;
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Robots Consumed")
+    int robotsConsumed;
+
+    @Label("Obstacles Consumed")
+    int obstaclesConsumed;
+
+    @Label("Robots Left")
+    int robotCount;
+
+    @Label("Obstacles Left")
+    int obstacleCount;
+}
@@ -0,0 +1,112 @@
+package com.example.robotsim.core;
+
+import java.util.List;
+
+/**
+ * The PredatorRobotEntity class models a robot that consumes any robots or obstacles it collides with.
+ * While the world lets predators hunt, it also turns towards the nearest prey every tick.
+ */
+public class PredatorRobotEntity extends RobotEntity {
+    private static final double MAX_TURN = 15;  // Largest turn towards the prey per reference tick, in degrees
+
+    /**
+     * Constructs a PredatorRobotEntity with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public PredatorRobotEntity(String name, double x, double y, double size) {
+        super(name, x, y, size);
+    }
+
+    /**
+     * Consumes every entity the predator collides with after moving, then turns towards the nearest prey
+     * if the predator is hunting.
+     *
+     * @param world The world the robot lives in.
+     */
+    @Override
+    protected void sense(World world) {
+        consume(world);
+        if (world.isHunting()) {
+            hunt(world);
+        }
+    }
+
+    /**
+     * Predators consume the entities that run into them even while they stand still, so they never sleep.
+     *
+     * @return false
+     */
+    @Override
+    public boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Turns towards the nearest prey, at most by a limited angle so the predator sweeps round in an arc.
+     *
+     * @param world The world the robot lives in.
+     */
+    private void hunt(World world) {
+        double centreX = getX() + getWidth() / 2;
+        double centreY = getY() + getHeight() / 2;
+        Entity target = world.findNearestPrey(centreX, centreY);
+        if (target == null) {
+            return;
+        }
+        double bearing = Math.toDegrees(Math.atan2(target.getY() + target.getHeight() / 2 - centreY,
+                target.getX() + target.getWidth() / 2 - centreX));
+        double turn = Math.IEEEremainder(bearing - getDirection(), 360);  // Shortest way round, in [-180, 180]
+        double maxTurn = MAX_TURN * world.getMotionScale();
+        setDirection(getDirection() + Math.max(-maxTurn, Math.min(turn, maxTurn)));
+    }
+
+    /**
+     * Consumes every entity the predator collides with.
+     *
+     * @param world The world the robot lives in.
+     */
+    private void consume(World world) {
+        List<Entity> prey = world.findAllIntersecting(this, entity -> true);
+        if (prey.isEmpty()) {
+            return;
+        }
+        PredatorConsumptionEvent event = SimulationEvents.ENABLED ? new PredatorConsumptionEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        for (Entity entity : prey) {
+            world.remove(entity);  // Consume the entity
+        }
+        if (event != null) {
+            commitConsumptionEvent(event, prey, world);
+        }
+    }
+
+    /**
+     * Commits the event of a consumption with the entities consumed and left, if a recording is interested in it.
+     *
+     * @param event The event of the consumption.
+     * @param prey  The consumed entities.
+     * @param world The world the robot lives in.
+     */
+    private void commitConsumptionEvent(PredatorConsumptionEvent event, List<Entity> prey, World world) {
+        event.end();
+        if (event.shouldCommit()) {
+            int robotsConsumed = 0;
+            for (Entity entity : prey) {
+                robotsConsumed += entity instanceof RobotEntity ? 1 : 0;
+            }
+            event.predator = getName();
+            event.tick = world.getTick();
+            event.robotsConsumed = robotsConsumed;
+            event.obstaclesConsumed = prey.size() - robotsConsumed;
+            event.robotCount = world.getRobots().size();
+            event.obstacleCount = world.getObstacles().size();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.robotsim.core;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Constants and record layouts shared by {@link SimulationRecorder} and {@link SimulationReplay}.
+ * <p>
+ * A recording starts with a header: magic {@code "RREC"}, format version, tick length in milliseconds,
+ * master seed, keyframe interval and a type table mapping type ids to {@link EntityType} file names.
+ * It is followed by one frame per recorded tick. Every frame starts with its kind, frame number,
+ * world tick and body length, so a reader can index a recording without decoding the bodies:
+ * <ul>
+ *     <li>A keyframe body holds the full state of every entity.</li>
+ *     <li>A delta body holds the entities spawned since the last frame (full state), the ids of the
+ *     entities removed, e.g. consumed by a predator, and for every entity whose state changed
+ *     a bit mask of the changed fields followed by their new values.</li>
+ * </ul>
+ * Values are stored as floats, and only changes visible at float precision are recorded.
+ * All numbers are big-endian.
+ */
+final class RecordingFormat {
+
+    static final int MAGIC = 0x52524543;  // "RREC"
+    static final int VERSION = 1;
+
+    static final byte KEYFRAME = 1;
+    static final byte DELTA = 2;
+    static final int FRAME_HEADER_BYTES = 1 + Long.BYTES + Long.BYTES + Integer.BYTES;  // Kind, frame, world tick, body length
+
+    // Bits of the change mask, in the order the changed values follow it
+    static final int CHANGED_X = 1;
+    static final int CHANGED_Y = 1 << 1;
+    static final int CHANGED_DIRECTION = 1 << 2;
+    static final int CHANGED_SPEED = 1 << 3;
+    static final int CHANGED_ROTATION = 1 << 4;
+
+    private RecordingFormat() {
+    }
+
+    /**
+     * The recorded state of one entity.
+     */
+    static class EntityState {
+        int id;
+        EntityType type;
+        String name = "";
+        float x;
+        float y;
+        float size;
+        float direction;
+        float speed;
+        float rotation;
+
+        /**
+         * Copies the current state of an entity.
+         *
+         * @param entity The entity.
+         */
+        void capture(Entity entity) {
+            x = (float) entity.getX();
+            y = (float) entity.getY();
+            if (entity instanceof RobotEntity robot) {
+                direction = (float) robot.getDirection();
+                speed = (float) robot.getSpeed();
+            } else if (entity instanceof ObstacleEntity obstacle) {
+                rotation = (float) obstacle.getRotation();
+            }
+        }
+
+        /**
+         * Writes the full state.
+         *
+         * @param out The stream to write to.
+         * @throws IOException If writing fails.
+         */
+        void write(DataOutputStream out) throws IOException {
+            byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(id);
+            out.writeByte(type.ordinal());
+            out.writeInt(nameBytes.length);
+            out.write(nameBytes);
+            out.writeFloat(x);
+            out.writeFloat(y);
+            out.writeFloat(size);
+            out.writeFloat(direction);
+            out.writeFloat(speed);
+            out.writeFloat(rotation);
+        }
+
+        /**
+         * Reads a full state.
+         *
+         * @param buffer The buffer to read from.
+         * @param types  The type table of the recording.
+         * @return The state.
+         */
+        static EntityState read(ByteBuffer buffer, EntityType[] types) {
+            EntityState state = new EntityState();
+            state.id = buffer.getInt();
+            state.type = types[Byte.toUnsignedInt(buffer.get())];
+            byte[] nameBytes = new byte[buffer.getInt()];
+            buffer.get(nameBytes);
+            state.name = new String(nameBytes, StandardCharsets.UTF_8);
+            state.x = buffer.getFloat();
+            state.y = buffer.getFloat();
+            state.size = buffer.getFloat();
+            state.direction = buffer.getFloat();
+            state.speed = buffer.getFloat();
+            state.rotation = buffer.getFloat();
+            return state;
+        }
+    }
+}
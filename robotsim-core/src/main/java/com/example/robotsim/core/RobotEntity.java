@@ -0,0 +1,263 @@
+package com.example.robotsim.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Abstract model of a robot in the arena. Robots have movement capabilities and random attributes
+ * (direction and speed). This class holds only plain state and behaviour; the JavaFX robot classes
+ * are thin views that mirror it.
+ * <p>
+ * Every robot owns its own random generator. When the robot is added to a {@link World} the generator
+ * is replaced by one split from the world's master seed, so runs of the same arena are reproducible
+ * and robots never contend on a shared generator.
+ */
+public abstract class RobotEntity extends Entity {
+
+    private final String name;  // Name of the robot
+    private final double width;  // Width of the robot
+    private final double height;  // Height of the robot
+    private double direction;  // Angle in degrees (0 to 360) representing the robot's direction
+    private double speed;  // Speed of the robot (distance moved per reference tick, see World#REFERENCE_TICK_MILLIS)
+    private SplittableRandom random = new SplittableRandom();  // Random number generator for speed, direction and steering
+    private boolean sleeping = false;  // Whether the world skips the robot until something moves it
+
+    /**
+     * Constructs a new RobotEntity with the specified name, position (x, y), and size.
+     * Direction and speed are initialised with random values.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    protected RobotEntity(String name, double x, double y, double size) {
+        super(x, y);
+        this.name = name;
+        this.width = size;
+        this.height = size;
+
+        randomizeMovement();
+    }
+
+    /**
+     * Initializes the movement parameters with random values from the robot's generator.
+     */
+    private void randomizeMovement() {
+        direction = random.nextDouble() * 360;  // Random direction between 0 and 360 degrees
+        speed = 2 + random.nextDouble() * 2;  // Random speed between 2 and 4 units
+    }
+
+    /**
+     * Replaces the robot's random generator and re-rolls its direction and speed from it.
+     * Called by the {@link World} with a generator split from its master seed.
+     *
+     * @param random The new random generator.
+     */
+    void setRandom(SplittableRandom random) {
+        this.random = random;
+        randomizeMovement();
+    }
+
+    /**
+     * Returns the robot's own random generator, for behaviour that needs randomness.
+     *
+     * @return The random generator.
+     */
+    protected SplittableRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Returns the name of the robot.
+     *
+     * @return The name of the robot.
+     */
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the width of the robot.
+     *
+     * @return The width of the robot.
+     */
+    @Override
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the robot.
+     *
+     * @return The height of the robot.
+     */
+    @Override
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the speed of the robot.
+     *
+     * @return The speed of the robot.
+     */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Sets the speed of the robot. Ensures that the speed is non-negative.
+     *
+     * @param speed The new speed of the robot.
+     */
+    public void setSpeed(double speed) {
+        this.speed = Math.max(0, speed);  // Ensure speed is non-negative
+        if (this.speed > 0) {
+            sleeping = false;
+        }
+    }
+
+    /**
+     * Returns the current direction of the robot in degrees.
+     *
+     * @return The direction of the robot.
+     */
+    public double getDirection() {
+        return direction;
+    }
+
+    /**
+     * Sets the direction of the robot.
+     *
+     * @param direction The new direction of the robot in degrees.
+     */
+    public void setDirection(double direction) {
+        this.direction = direction;
+    }
+
+    /**
+     * Moves the robot to the specified position, waking it if it was asleep.
+     *
+     * @param x The new X-coordinate.
+     * @param y The new Y-coordinate.
+     */
+    @Override
+    public void setPosition(double x, double y) {
+        super.setPosition(x, y);
+        sleeping = false;
+    }
+
+    /**
+     * Returns whether the robot is asleep. The {@link World} puts a robot to sleep once it stands still and
+     * skips it until it is given a speed or moved, e.g. by a delayed effect or by the user dragging it.
+     *
+     * @return true if the robot is asleep, false otherwise.
+     */
+    public boolean isSleeping() {
+        return sleeping;
+    }
+
+    /**
+     * Puts the robot to sleep or wakes it. Called by the {@link World}.
+     *
+     * @param sleeping Whether the robot sleeps.
+     */
+    void setSleeping(boolean sleeping) {
+        this.sleeping = sleeping;
+    }
+
+    /**
+     * Returns whether the robot may sleep while it stands still. Robots that act on their surroundings
+     * without moving, such as a predator consuming the robots that run into it, must stay awake.
+     *
+     * @return true if the robot may sleep, false otherwise.
+     */
+    public boolean canSleep() {
+        return true;
+    }
+
+    /**
+     * Advances the robot by one tick: it moves, then senses its surroundings.
+     *
+     * @param world The world the robot lives in.
+     */
+    public void update(World world) {
+        move(world);
+        sense(world);
+    }
+
+    /**
+     * Moves the robot for one tick. The default behaviour moves it along its heading by the distance
+     * it covers in one tick of the world; subclasses also advance their per-tick state here.
+     *
+     * @param world The world the robot lives in.
+     */
+    protected void move(World world) {
+        updatePosition(world.getMotionScale());
+    }
+
+    /**
+     * Lets the robot react to its surroundings after it moved. The default robot senses nothing;
+     * subclasses add their sensing and interaction logic here.
+     *
+     * @param world The world the robot lives in.
+     */
+    protected void sense(World world) {
+    }
+
+    /**
+     * Updates the robot's position based on its direction and speed, moving it by one reference tick.
+     * The robot moves in the direction specified by its current heading (direction).
+     */
+    public void updatePosition() {
+        updatePosition(1);
+    }
+
+    /**
+     * Updates the robot's position based on its direction and speed, moving it by a multiple of
+     * its speed, e.g. for ticks longer than the reference tick.
+     *
+     * @param scale The number of reference ticks to move for.
+     */
+    public void updatePosition(double scale) {
+        // Convert the direction from degrees to radians
+        double radians = Math.toRadians(direction);
+
+        // Move by the speed along the current heading
+        double distance = speed * scale;
+        setPosition(getX() + Math.cos(radians) * distance, getY() + Math.sin(radians) * distance);
+    }
+
+    /**
+     * Makes the robot bounce horizontally by reversing its horizontal direction.
+     */
+    public void bounceHorizontally() {
+        // Reverse the horizontal component of the direction
+        direction = 180 - direction;
+
+        // Ensure the direction remains within the range [0, 360]
+        if (direction < 0) direction += 360;
+    }
+
+    /**
+     * Makes the robot bounce vertically by reversing its vertical direction.
+     */
+    public void bounceVertically() {
+        // Reverse the vertical component of the direction
+        direction = 360 - direction;
+
+        // Ensure the direction remains within the range [0, 360]
+        if (direction < 0) direction += 360;
+    }
+
+    /**
+     * Returns whether obstacles apply their collision effects to this robot.
+     * Robots that sense and steer around obstacles themselves override this.
+     *
+     * @return true if obstacle collisions are handled for this robot, false otherwise.
+     */
+    public boolean interactsWithObstacles() {
+        return true;
+    }
+}
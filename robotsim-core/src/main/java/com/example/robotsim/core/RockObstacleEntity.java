@@ -0,0 +1,44 @@
+package com.example.robotsim.core;
+
+/**
+ * The RockObstacleEntity class models a rock.
+ * This obstacle stops the robot for 3 seconds when a collision occurs, and then resumes its movement.
+ * A released robot is not stopped again for a moment, so it can drive off the rock.
+ */
+public class RockObstacleEntity extends ObstacleEntity {
+    private static final long RESUME_MILLIS = 3000;  // How long a robot stays stopped
+    private static final long RELEASE_MILLIS = 2000;  // How long a released robot ignores rocks
+
+    /**
+     * Constructs a RockObstacleEntity at the specified position (x, y) with the given size.
+     *
+     * @param x The X-coordinate of the obstacle's position.
+     * @param y The Y-coordinate of the obstacle's position.
+     * @param size The size (width and height) of the obstacle.
+     */
+    public RockObstacleEntity(double x, double y, double size) {
+        super(x, y, "Rock", size);
+    }
+
+    /**
+     * Stops the robot and resumes its movement with speed 5 after 3 seconds.
+     * Robots already stopped or just released are left alone.
+     *
+     * @param robot The robot that collided with the rock.
+     * @param world The world, used to schedule the delayed effect.
+     */
+    @Override
+    public void handleCollision(RobotEntity robot, World world) {
+        if (world.isEffectPending(robot, EffectKind.ROCK_RESUME) || world.isEffectPending(robot, EffectKind.ROCK_RELEASE)) {
+            return;  // Already stopped, or driving off a rock
+        }
+
+        robot.setSpeed(0);  // Set the robot's speed to 0 (stop it)
+
+        // After 3 seconds, resume the robot's movement by setting speed to 5
+        world.schedule(robot, EffectKind.ROCK_RESUME, RESUME_MILLIS, () -> {
+            robot.setSpeed(5);
+            world.schedule(robot, EffectKind.ROCK_RELEASE, RELEASE_MILLIS, () -> { });
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.robotsim.core;
+
+import java.util.List;
+
+/**
+ * The SensorRobotEntity class models a robot equipped with a sensor cone.
+ * The cone reaches out from the centre of the robot around its direction. Whenever the sensor sees
+ * another entity the robot steers away from the nearest one, then keeps its course for a short cooldown
+ * so it does not jitter while the same entity is still in view.
+ */
+public class SensorRobotEntity extends RobotEntity {
+    /** Angle between the direction of the robot and either edge of its sensor cone, in degrees. */
+    public static final double SENSOR_HALF_ANGLE = 30;
+
+    /** Reach of the sensor cone from the centre of the robot, relative to the robot's size. */
+    public static final double SENSOR_RANGE = 1.7;
+
+    private static final long DETECTION_COOLDOWN_MILLIS = 250;  // Delay before the sensor steers away again
+    private static final double MIN_TURN = 15;  // Smallest turn away from a detected entity, in degrees
+    private static final double MAX_TURN = 45;  // Largest turn away from a detected entity, in degrees
+
+    private final Cooldown detectionCooldown = new Cooldown();  // Running to prevent immediate re-detection
+    private boolean obstacleDetected = false;  // Whether the sensor detected something during the last tick
+    private double nearestDistance = Double.POSITIVE_INFINITY;  // Distance to the nearest entity seen during the last tick
+
+    /**
+     * Constructs a SensorRobotEntity with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public SensorRobotEntity(String name, double x, double y, double size) {
+        super(name, x, y, size);
+    }
+
+    /**
+     * Moves the robot and counts down the detection cooldown.
+     *
+     * @param world The world the robot lives in.
+     */
+    @Override
+    protected void move(World world) {
+        detectionCooldown.advance();
+        updatePosition(world.getMotionScale());
+    }
+
+    /**
+     * Looks for interactable entities inside the sensor cone, steering away from the nearest one seen.
+     *
+     * @param world The world the robot lives in.
+     */
+    @Override
+    protected void sense(World world) {
+        List<World.Sighting> sightings = world.findInCone(this, getX() + getWidth() / 2, getY() + getHeight() / 2,
+                getDirection(), SENSOR_HALF_ANGLE, getSensorRange(), this::isInteractable);
+        obstacleDetected = !sightings.isEmpty();
+        nearestDistance = obstacleDetected ? sightings.get(0).distance() : Double.POSITIVE_INFINITY;
+        if (obstacleDetected) {
+            avoidObstacle(world, sightings.get(0).entity());
+        }
+    }
+
+    /**
+     * Defines the criteria for interactable entities. Other sensor robots are ignored.
+     *
+     * @param entity The entity to check for interactability.
+     * @return true if the entity is interactable, false otherwise.
+     */
+    private boolean isInteractable(Entity entity) {
+        return !(entity instanceof SensorRobotEntity);
+    }
+
+    /**
+     * Avoids an entity by turning away from the side it was seen on, unless the detection cooldown is still running.
+     * An entity straight ahead is avoided to the right.
+     *
+     * @param world  The world, used to convert the cooldown into ticks.
+     * @param threat The entity to avoid.
+     */
+    public void avoidObstacle(World world, Entity threat) {
+        if (!detectionCooldown.isActive()) {
+            // Which side the threat is on follows from the cross product of the direction and the bearing to it
+            double radians = Math.toRadians(getDirection());
+            double toThreatX = threat.getX() + threat.getWidth() / 2 - (getX() + getWidth() / 2);
+            double toThreatY = threat.getY() + threat.getHeight() / 2 - (getY() + getHeight() / 2);
+            double side = Math.cos(radians) * toThreatY - Math.sin(radians) * toThreatX;  // Positive to the right
+
+            // Randomize the size of the turn so robots do not fall into a fixed pattern
+            double turn = MIN_TURN + getRandom().nextDouble() * (MAX_TURN - MIN_TURN);
+            setDirection(getDirection() + (side > 0 ? -turn : turn));
+
+            // Ignore further detections for a brief delay
+            detectionCooldown.start(world.millisToTicks(DETECTION_COOLDOWN_MILLIS));
+        }
+    }
+
+    /**
+     * Returns whether the sensor detected an entity during the last tick.
+     *
+     * @return true if something was detected, false otherwise.
+     */
+    public boolean isObstacleDetected() {
+        return obstacleDetected;
+    }
+
+    /**
+     * Returns the distance from the centre of the robot to the nearest entity the sensor saw during the last tick.
+     *
+     * @return The distance, or {@link Double#POSITIVE_INFINITY} if nothing was seen.
+     */
+    public double getNearestDistance() {
+        return nearestDistance;
+    }
+
+    /**
+     * Returns how far the sensor cone reaches from the centre of the robot.
+     *
+     * @return The range of the sensor.
+     */
+    public double getSensorRange() {
+        return Math.max(getWidth(), getHeight()) * SENSOR_RANGE;
+    }
+
+    /**
+     * Sensor robots steer around obstacles themselves, so obstacle effects do not apply to them.
+     *
+     * @return false
+     */
+    @Override
+    public boolean interactsWithObstacles() {
+        return false;
+    }
+}
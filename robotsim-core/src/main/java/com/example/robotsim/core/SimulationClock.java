@@ -0,0 +1,222 @@
+package com.example.robotsim.core;
+
+/**
+ * The SimulationClock class drives the simulation with a single fixed timestep.
+ * Real elapsed time is accumulated and converted into a whole number of ticks, and every tick
+ * calls the registered {@link TickHandler} exactly once, so all entities are stepped in the same
+ * defined order regardless of the frame rate. Ticks that take longer than the tick length are
+ * counted as overruns, and backlog beyond {@code maxCatchUpTicks} is dropped instead of being
+ * replayed, so one slow frame cannot snowball into an ever-growing backlog.
+ * <p>
+ * A speed multiplier scales how much simulated time passes per real second, so the simulation
+ * can be fast-forwarded; everything driven by ticks, including delayed effects, follows along.
+ * <p>
+ * The clock has no dependency on JavaFX; the UI feeds it timestamps from an {@code AnimationTimer},
+ * but it can equally be stepped directly with {@link #step()}.
+ */
+public class SimulationClock {
+
+    /**
+     * Callback invoked once per simulation tick.
+     */
+    public interface TickHandler {
+        /**
+         * Advances the simulation by one fixed tick.
+         *
+         * @param tick The number of the tick being executed, starting at 1.
+         */
+        void onTick(long tick);
+    }
+
+    /**
+     * Callback invoked whenever a tick takes longer than the fixed tick length.
+     */
+    public interface OverrunHandler {
+        /**
+         * Reports a tick that overran its time budget.
+         *
+         * @param tick          The number of the tick that overran.
+         * @param durationNanos How long the tick took to execute, in nanoseconds.
+         * @param budgetNanos   The fixed tick length, in nanoseconds.
+         */
+        void onOverrun(long tick, long durationNanos, long budgetNanos);
+    }
+
+    private final long tickNanos;  // Length of one simulation tick in nanoseconds
+    private final int maxCatchUpTicks;  // Maximum number of ticks executed for a single advance call
+    private final TickHandler tickHandler;  // Handler stepping the simulation
+    private OverrunHandler overrunHandler;  // Optional handler notified about overruns
+    private double speedMultiplier = 1.0;  // Simulated time per real time, above 1 for fast-forward
+
+    private long lastTimestamp = -1;  // Timestamp of the previous advance call, -1 when not running
+    private long accumulatedNanos = 0;  // Elapsed time that has not yet been turned into ticks
+    private long tickCount = 0;  // Number of ticks executed so far
+    private long overrunCount = 0;  // Number of ticks that took longer than tickNanos
+    private long droppedTicks = 0;  // Number of ticks discarded because the backlog was too large
+    private long lastTickDurationNanos = 0;  // Execution time of the most recent tick
+    private long maxTickDurationNanos = 0;  // Longest execution time of any tick
+
+    /**
+     * Constructs a SimulationClock with the given tick length.
+     *
+     * @param tickMillis      The length of one simulation tick in milliseconds.
+     * @param maxCatchUpTicks The maximum number of ticks executed per {@link #advance(long)} call.
+     * @param tickHandler     The handler that steps the simulation once per tick.
+     */
+    public SimulationClock(long tickMillis, int maxCatchUpTicks, TickHandler tickHandler) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickMillis);
+        }
+        if (maxCatchUpTicks < 1) {
+            throw new IllegalArgumentException("At least one catch-up tick is required: " + maxCatchUpTicks);
+        }
+        this.tickNanos = tickMillis * 1_000_000L;
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.tickHandler = tickHandler;
+    }
+
+    /**
+     * Sets the handler notified when a tick overruns its time budget.
+     *
+     * @param overrunHandler The overrun handler, or {@code null} to disable notifications.
+     */
+    public void setOverrunHandler(OverrunHandler overrunHandler) {
+        this.overrunHandler = overrunHandler;
+    }
+
+    /**
+     * Advances the clock to the given timestamp and executes every tick that has become due.
+     * The first call after construction or {@link #reset()} only records the timestamp.
+     *
+     * @param nowNanos The current time in nanoseconds (e.g. the value passed to an AnimationTimer).
+     * @return The number of ticks executed.
+     */
+    public int advance(long nowNanos) {
+        if (lastTimestamp < 0) {
+            lastTimestamp = nowNanos;
+            return 0;
+        }
+
+        accumulatedNanos += (long) (Math.max(0, nowNanos - lastTimestamp) * speedMultiplier);
+        lastTimestamp = nowNanos;
+
+        // Fast-forward legitimately runs several ticks per frame, so the catch-up limit scales with it
+        int maxTicks = (int) Math.ceil(maxCatchUpTicks * Math.max(1.0, speedMultiplier));
+        int executed = 0;
+        while (accumulatedNanos >= tickNanos && executed < maxTicks) {
+            accumulatedNanos -= tickNanos;
+            step();
+            executed++;
+        }
+
+        // Drop any backlog we could not catch up on, keeping the remainder below one tick
+        if (accumulatedNanos >= tickNanos) {
+            droppedTicks += accumulatedNanos / tickNanos;
+            accumulatedNanos %= tickNanos;
+        }
+        return executed;
+    }
+
+    /**
+     * Executes exactly one tick immediately, measuring its duration.
+     */
+    public void step() {
+        long tick = ++tickCount;
+        long start = System.nanoTime();
+        tickHandler.onTick(tick);
+        long duration = System.nanoTime() - start;
+
+        lastTickDurationNanos = duration;
+        maxTickDurationNanos = Math.max(maxTickDurationNanos, duration);
+        if (duration > tickNanos) {
+            overrunCount++;
+            if (overrunHandler != null) {
+                overrunHandler.onOverrun(tick, duration, tickNanos);
+            }
+        }
+    }
+
+    /**
+     * Forgets the previous timestamp and any accumulated time, so that time spent paused
+     * is not replayed when the clock is advanced again.
+     */
+    public void reset() {
+        lastTimestamp = -1;
+        accumulatedNanos = 0;
+    }
+
+    /**
+     * Sets how fast simulated time passes relative to real time.
+     *
+     * @param speedMultiplier The multiplier, e.g. 1 for real time or 4 for fast-forward.
+     */
+    public void setSpeedMultiplier(double speedMultiplier) {
+        if (!(speedMultiplier > 0)) {
+            throw new IllegalArgumentException("Speed multiplier must be positive: " + speedMultiplier);
+        }
+        this.speedMultiplier = speedMultiplier;
+    }
+
+    /**
+     * Returns how fast simulated time passes relative to real time.
+     *
+     * @return The speed multiplier.
+     */
+    public double getSpeedMultiplier() {
+        return speedMultiplier;
+    }
+
+    /**
+     * Returns the length of one tick in nanoseconds.
+     *
+     * @return The tick length.
+     */
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    /**
+     * Returns the number of ticks executed so far.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Returns the number of ticks whose execution took longer than the tick length.
+     *
+     * @return The overrun count.
+     */
+    public long getOverrunCount() {
+        return overrunCount;
+    }
+
+    /**
+     * Returns the number of ticks skipped because the clock fell too far behind.
+     *
+     * @return The dropped tick count.
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    /**
+     * Returns the execution time of the most recent tick.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getLastTickDurationNanos() {
+        return lastTickDurationNanos;
+    }
+
+    /**
+     * Returns the longest execution time of any tick so far.
+     *
+     * @return The duration in nanoseconds.
+     */
+    public long getMaxTickDurationNanos() {
+        return maxTickDurationNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.robotsim.core;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * The SimulationEvents class switches the Java Flight Recorder events of the simulation on. The events
+ * are only registered, and only created, when the JVM is started with {@code -Drobotsim.jfr=true}; without
+ * the flag every emission site is a branch on a constant, which the JIT compiler removes. To record them,
+ * also start a recording, e.g.
+ * {@code -Drobotsim.jfr=true -XX:StartFlightRecording=filename=robotsim.jfr}.
+ * <p>
+ * The events, all in the "RobotSim" category:
+ * <ul>
+ *     <li>{@link TickEvent}: every tick, with the time spent in each phase and the entity counts.</li>
+ *     <li>{@link PhaseEvent}: the contiguous phases, i.e. the delayed effects and the user interface update.</li>
+ *     <li>{@link PredatorConsumptionEvent}: a predator consuming the entities it collides with.</li>
+ *     <li>{@link ArenaIoEvent}: saving and loading an arena file.</li>
+ * </ul>
+ */
+public final class SimulationEvents {
+
+    /** System property enabling the events. */
+    public static final String PROPERTY = "robotsim.jfr";
+
+    /** Whether the events are enabled, read once at startup. */
+    public static final boolean ENABLED = Boolean.getBoolean(PROPERTY);
+
+    static {
+        if (ENABLED) {
+            FlightRecorder.register(TickEvent.class);
+            FlightRecorder.register(PhaseEvent.class);
+            FlightRecorder.register(PredatorConsumptionEvent.class);
+            FlightRecorder.register(ArenaIoEvent.class);
+        }
+    }
+
+    /**
+     * Prevents instantiation.
+     */
+    private SimulationEvents() {
+    }
+}
@@ -0,0 +1,370 @@
+package com.example.robotsim.core;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The SimulationMetrics class publishes the internals of a running simulation as JMX MBeans,
+ * so that standard tools such as JConsole, VisualVM or a JMX exporter can scrape them:
+ * <ul>
+ *     <li>{@code com.example.robotsim:type=Simulation}: entity counts by type, collision tests per tick,
+ *     pending delayed effects, clock overruns and save counters.</li>
+ *     <li>{@code com.example.robotsim:type=TickPhase,name=<phase>}: a duration histogram per tick phase
+ *     (see {@link TickProfiler.Phase}), plus {@code name=Tick} for the simulation part of whole ticks.</li>
+ *     <li>{@code com.example.robotsim:type=Io,name=Save} and {@code name=Load}: save and load durations.</li>
+ *     <li>{@code com.example.robotsim:type=<type>}: MBeans of the user interface, such as its sprite cache,
+ *     registered with {@link #register(String, Object)}.</li>
+ * </ul>
+ * Counters are read from the simulation without locking, so a value may lag behind by a tick.
+ */
+public class SimulationMetrics implements SimulationMetricsMXBean {
+
+    /** JMX domain of all simulation MBeans. */
+    public static final String DOMAIN = "com.example.robotsim";
+
+    private final World world;  // World being monitored
+    private final TickProfiler profiler;  // Profiler measuring the tick phases
+    private final SimulationClock clock;  // Clock driving the world, null if stepped directly
+    private final ArenaSaver saver;  // Saver writing the arena, null if the arena is never saved
+    private final LatencyHistogram loadDurations = new LatencyHistogram();  // Durations of the arena loads
+    private final List<ObjectName> registeredNames = new ArrayList<>();  // MBeans registered by this instance
+
+    /**
+     * Constructs SimulationMetrics for a world.
+     *
+     * @param world    The world to monitor.
+     * @param profiler The profiler set on the world.
+     * @param clock    The clock driving the world, or null.
+     * @param saver    The saver writing the arena, or null.
+     */
+    public SimulationMetrics(World world, TickProfiler profiler, SimulationClock clock, ArenaSaver saver) {
+        this.world = world;
+        this.profiler = profiler;
+        this.clock = clock;
+        this.saver = saver;
+    }
+
+    /**
+     * Registers the MBeans with the platform MBean server. MBeans of an earlier instance registered under
+     * the same names, e.g. of an arena that was closed, are replaced.
+     *
+     * @throws JMException If an MBean cannot be registered.
+     */
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        register(server, new ObjectName(DOMAIN + ":type=Simulation"), this);
+        for (TickProfiler.Phase phase : TickProfiler.Phase.values()) {
+            register(server, phaseName(toCamelCase(phase.name())), profiler.getHistogram(phase));
+        }
+        register(server, phaseName("Tick"), profiler.getTickHistogram());
+        if (saver != null) {
+            register(server, new ObjectName(DOMAIN + ":type=Io,name=Save"), saver.getSaveDurations());
+        }
+        register(server, new ObjectName(DOMAIN + ":type=Io,name=Load"), loadDurations);
+    }
+
+    /**
+     * Registers a further MBean in the simulation's domain, e.g. of a cache outside the core, replacing any
+     * MBean registered under its name. It is unregistered along with the others.
+     *
+     * @param type The type key of the MBean's name.
+     * @param bean The MBean, typically implementing an MXBean interface.
+     * @throws JMException If the MBean cannot be registered.
+     */
+    public void register(String type, Object bean) throws JMException {
+        register(ManagementFactory.getPlatformMBeanServer(), new ObjectName(DOMAIN + ":type=" + type), bean);
+    }
+
+    /**
+     * Registers one MBean, replacing any MBean registered under its name.
+     *
+     * @param server The MBean server.
+     * @param name   The name of the MBean.
+     * @param bean   The MBean.
+     * @throws JMException If the MBean cannot be registered.
+     */
+    private void register(MBeanServer server, ObjectName name, Object bean) throws JMException {
+        if (server.isRegistered(name)) {
+            server.unregisterMBean(name);
+        }
+        server.registerMBean(bean, name);
+        registeredNames.add(name);
+    }
+
+    /**
+     * Unregisters the MBeans registered by {@link #register()}.
+     */
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registeredNames) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                // Already unregistered
+            }
+        }
+        registeredNames.clear();
+    }
+
+    /**
+     * Returns the name of the MBean of a tick phase.
+     *
+     * @param phase The name of the phase.
+     * @return The object name.
+     * @throws JMException If the name is malformed.
+     */
+    private static ObjectName phaseName(String phase) throws JMException {
+        return new ObjectName(DOMAIN + ":type=TickPhase,name=" + phase);
+    }
+
+    /**
+     * Converts an enum constant name like "OBSTACLE_COLLISION" to "ObstacleCollision".
+     *
+     * @param name The constant name.
+     * @return The camel-case name.
+     */
+    private static String toCamelCase(String name) {
+        StringBuilder result = new StringBuilder(name.length());
+        for (String part : name.split("_")) {
+            result.append(part.charAt(0)).append(part.substring(1).toLowerCase());
+        }
+        return result.toString();
+    }
+
+    /**
+     * Records how long loading an arena file took.
+     *
+     * @param nanos The duration in nanoseconds.
+     */
+    public void recordLoad(long nanos) {
+        loadDurations.record(nanos);
+    }
+
+    /**
+     * Returns the histogram of the load durations.
+     *
+     * @return The durations of the arena loads.
+     */
+    public LatencyHistogram getLoadDurations() {
+        return loadDurations;
+    }
+
+    /**
+     * Returns the number of ticks simulated since the world was last cleared.
+     *
+     * @return The tick count.
+     */
+    @Override
+    public long getTick() {
+        return world.getTick();
+    }
+
+    /**
+     * Returns the number of robots in the world.
+     *
+     * @return The robot count.
+     */
+    @Override
+    public int getRobotCount() {
+        int count = 0;
+        for (EntityType type : EntityType.values()) {
+            count += type.isRobot() ? world.getCount(type) : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of obstacles in the world.
+     *
+     * @return The obstacle count.
+     */
+    @Override
+    public int getObstacleCount() {
+        int count = 0;
+        for (EntityType type : EntityType.values()) {
+            count += type.isRobot() ? 0 : world.getCount(type);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of robots stepped in the last tick.
+     *
+     * @return The active robot count.
+     */
+    @Override
+    public int getActiveRobotCount() {
+        return world.getActiveRobotCount();
+    }
+
+    /**
+     * Returns the number of robots skipped in the last tick because they were asleep.
+     *
+     * @return The sleeping robot count.
+     */
+    @Override
+    public int getSleepingRobotCount() {
+        return world.getSleepingRobotCount();
+    }
+
+    /**
+     * Returns the number of robot steps skipped because the robot was asleep, since the world was last cleared.
+     *
+     * @return The skipped robot step count.
+     */
+    @Override
+    public long getSleepingRobotTicks() {
+        return world.getSleepingRobotTicks();
+    }
+
+    /**
+     * Returns the number of entities of every type, keyed by the type's name in arena files.
+     *
+     * @return The entity counts by type.
+     */
+    @Override
+    public Map<String, Integer> getEntityCountsByType() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (EntityType type : EntityType.values()) {
+            counts.put(type.getFileName(), world.getCount(type));
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the number of collision tests in the last tick.
+     *
+     * @return The collision test count.
+     */
+    @Override
+    public long getLastCollisionTests() {
+        return profiler.getLastCollisionTests();
+    }
+
+    /**
+     * Returns the largest number of collision tests in any tick.
+     *
+     * @return The collision test count.
+     */
+    @Override
+    public long getMaxCollisionTests() {
+        return profiler.getMaxCollisionTests();
+    }
+
+    /**
+     * Returns the average number of collision tests per tick.
+     *
+     * @return The mean collision test count, 0 before the first tick.
+     */
+    @Override
+    public double getMeanCollisionTestsPerTick() {
+        long ticks = profiler.getTickCount();
+        return ticks == 0 ? 0 : (double) profiler.getTotalCollisionTests() / ticks;
+    }
+
+    /**
+     * Returns the number of delayed effects waiting to run.
+     *
+     * @return The pending effect count.
+     */
+    @Override
+    public int getPendingEffects() {
+        return world.getTimerWheel().getPendingCount();
+    }
+
+    /**
+     * Returns the number of delayed effects that have run.
+     *
+     * @return The fired effect count.
+     */
+    @Override
+    public long getFiredEffects() {
+        return world.getTimerWheel().getFiredCount();
+    }
+
+    /**
+     * Returns the number of delayed effects merged into one already pending.
+     *
+     * @return The coalesced effect count.
+     */
+    @Override
+    public long getCoalescedEffects() {
+        return world.getTimerWheel().getCoalescedCount();
+    }
+
+    /**
+     * Returns the number of ticks that took longer than the tick length.
+     *
+     * @return The overrun count, 0 without a clock.
+     */
+    @Override
+    public long getTickOverruns() {
+        return clock != null ? clock.getOverrunCount() : 0;
+    }
+
+    /**
+     * Returns the number of ticks dropped because the simulation fell too far behind.
+     *
+     * @return The dropped tick count, 0 without a clock.
+     */
+    @Override
+    public long getDroppedTicks() {
+        return clock != null ? clock.getDroppedTicks() : 0;
+    }
+
+    /**
+     * Returns the number of arena saves written successfully.
+     *
+     * @return The save count, 0 without a saver.
+     */
+    @Override
+    public long getSaveCount() {
+        return saver != null ? saver.getSaveCount() : 0;
+    }
+
+    /**
+     * Returns the number of arena saves that failed.
+     *
+     * @return The failed save count, 0 without a saver.
+     */
+    @Override
+    public long getFailedSaveCount() {
+        return saver != null ? saver.getFailedSaveCount() : 0;
+    }
+
+    /**
+     * Returns the number of autosaves skipped because the previous one was still being written.
+     *
+     * @return The skipped autosave count, 0 without a saver.
+     */
+    @Override
+    public long getSkippedAutosaveCount() {
+        return saver != null ? saver.getSkippedAutosaveCount() : 0;
+    }
+
+    /**
+     * Returns the size of the last arena file saved.
+     *
+     * @return The number of bytes, 0 without a saver.
+     */
+    @Override
+    public long getLastSaveBytes() {
+        return saver != null ? saver.getLastBytesWritten() : 0;
+    }
+
+    /**
+     * Returns the number of arena files loaded.
+     *
+     * @return The load count.
+     */
+    @Override
+    public long getLoadCount() {
+        return loadDurations.getCount();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.robotsim.core;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link SimulationMetrics}, exposing the state of a running simulation to JMX clients.
+ * Durations are exposed by separate {@link LatencyHistogramMXBean}s.
+ */
+public interface SimulationMetricsMXBean {
+
+    /**
+     * Returns the number of ticks simulated since the world was last cleared.
+     *
+     * @return The tick count.
+     */
+    long getTick();
+
+    /**
+     * Returns the number of robots in the world.
+     *
+     * @return The robot count.
+     */
+    int getRobotCount();
+
+    /**
+     * Returns the number of obstacles in the world.
+     *
+     * @return The obstacle count.
+     */
+    int getObstacleCount();
+
+    /**
+     * Returns the number of robots stepped in the last tick.
+     *
+     * @return The active robot count.
+     */
+    int getActiveRobotCount();
+
+    /**
+     * Returns the number of robots skipped in the last tick because they were asleep.
+     *
+     * @return The sleeping robot count.
+     */
+    int getSleepingRobotCount();
+
+    /**
+     * Returns the number of robot steps skipped because the robot was asleep, since the world was last cleared.
+     *
+     * @return The skipped robot step count.
+     */
+    long getSleepingRobotTicks();
+
+    /**
+     * Returns the number of entities of every type, keyed by the type's name in arena files.
+     *
+     * @return The entity counts by type.
+     */
+    Map<String, Integer> getEntityCountsByType();
+
+    /**
+     * Returns the number of collision tests in the last tick.
+     *
+     * @return The collision test count.
+     */
+    long getLastCollisionTests();
+
+    /**
+     * Returns the largest number of collision tests in any tick.
+     *
+     * @return The collision test count.
+     */
+    long getMaxCollisionTests();
+
+    /**
+     * Returns the average number of collision tests per tick.
+     *
+     * @return The mean collision test count, 0 before the first tick.
+     */
+    double getMeanCollisionTestsPerTick();
+
+    /**
+     * Returns the number of delayed effects waiting to run.
+     *
+     * @return The pending effect count.
+     */
+    int getPendingEffects();
+
+    /**
+     * Returns the number of delayed effects that have run.
+     *
+     * @return The fired effect count.
+     */
+    long getFiredEffects();
+
+    /**
+     * Returns the number of delayed effects merged into one already pending.
+     *
+     * @return The coalesced effect count.
+     */
+    long getCoalescedEffects();
+
+    /**
+     * Returns the number of ticks that took longer than the tick length.
+     *
+     * @return The overrun count.
+     */
+    long getTickOverruns();
+
+    /**
+     * Returns the number of ticks dropped because the simulation fell too far behind.
+     *
+     * @return The dropped tick count.
+     */
+    long getDroppedTicks();
+
+    /**
+     * Returns the number of arena saves written successfully.
+     *
+     * @return The save count.
+     */
+    long getSaveCount();
+
+    /**
+     * Returns the number of arena saves that failed.
+     *
+     * @return The failed save count.
+     */
+    long getFailedSaveCount();
+
+    /**
+     * Returns the number of autosaves skipped because the previous one was still being written.
+     *
+     * @return The skipped autosave count.
+     */
+    long getSkippedAutosaveCount();
+
+    /**
+     * Returns the size of the last arena file saved.
+     *
+     * @return The number of bytes.
+     */
+    long getLastSaveBytes();
+
+    /**
+     * Returns the number of arena files loaded.
+     *
+     * @return The load count.
+     */
+    long getLoadCount();
+}
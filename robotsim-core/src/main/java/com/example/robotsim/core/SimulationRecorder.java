@@ -0,0 +1,366 @@
+package com.example.robotsim.core;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The SimulationRecorder class records a running world to an append-only file for later replay
+ * with {@link SimulationReplay}. It is called once after every tick and writes one frame: a keyframe
+ * with the full state every {@code keyframeInterval} frames, and otherwise a delta holding only the
+ * spawned and removed entities and the fields that changed. See {@link RecordingFormat} for the layout.
+ * <p>
+ * The recorder compares the world against the state it recorded last, so it needs no hooks in the
+ * entities and also notices entities that disappeared without notification, e.g. when the world is cleared.
+ * <p>
+ * Frames are encoded on the thread stepping the world and written to the file on a background thread,
+ * like the saves of {@link ArenaSaver}, so a slow disk does not stall the simulation. At most
+ * {@link #MAX_PENDING_FRAMES} encoded frames wait for the writer; beyond that, recording a tick waits
+ * for the writer to catch up rather than letting the backlog grow without bound. A write error is
+ * thrown by the next call to {@link #recordTick()} or by {@link #close()}.
+ */
+public class SimulationRecorder implements AutoCloseable {
+
+    /** Number of frames between two keyframes by default. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 200;
+
+    /** Extension of recording files. */
+    public static final String EXTENSION = ".rrec";
+
+    /** Number of encoded frames that may wait for the background writer. */
+    public static final int MAX_PENDING_FRAMES = 256;
+
+    /**
+     * The last recorded state of an entity.
+     */
+    private static final class Tracked extends RecordingFormat.EntityState {
+        private long seenFrame;  // Last frame the entity was part of the world
+    }
+
+    private final World world;  // World being recorded
+    private final int keyframeInterval;  // Number of frames between two keyframes
+    private final DataOutputStream out;  // Recording file, written by the background writer only
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "simulation-recorder");
+        thread.setDaemon(true);  // Never keep the application alive
+        return thread;
+    });
+    private final Semaphore pendingFrames = new Semaphore(MAX_PENDING_FRAMES);  // Free places in the writer's queue
+    private volatile IOException writeError;  // First error of the background writer, null while writing works
+    private final FrameBuffer bodyBytes = new FrameBuffer();  // Body of the frame being written
+    private final DataOutputStream body = new DataOutputStream(bodyBytes);
+    private final ByteArrayOutputStream changeBytes = new ByteArrayOutputStream();  // Changes of the delta being written
+    private final DataOutputStream changes = new DataOutputStream(changeBytes);
+    private final List<Entity> entities = new ArrayList<>();  // Entities of the frame being written
+    private final List<Tracked> spawned = new ArrayList<>();  // Entities spawned since the last frame
+    private int[] removedIds = new int[16];  // Ids of the entities removed since the last frame
+    private int removedCount = 0;  // Number of ids in removedIds
+    private final Map<Entity, Tracked> tracked = new IdentityHashMap<>();  // Last recorded state of every entity
+    private int nextId = 0;  // Id given to the next spawned entity
+    private long frame = 0;  // Number of frames recorded so far
+    private long bytesWritten = 0;  // Size of the recording so far
+
+    /**
+     * Starts recording a world to a new file, replacing any existing file.
+     *
+     * @param world            The world to record.
+     * @param path             The file to write.
+     * @param keyframeInterval The number of frames between two keyframes; seeking replays at most this many deltas.
+     * @throws IOException If the file cannot be created.
+     */
+    public SimulationRecorder(World world, Path path, int keyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        this.world = world;
+        this.keyframeInterval = keyframeInterval;
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+
+        EntityType[] types = EntityType.values();
+        out.writeInt(RecordingFormat.MAGIC);
+        out.writeInt(RecordingFormat.VERSION);
+        out.writeLong(world.getTickMillis());
+        out.writeLong(world.getSeed());
+        out.writeInt(keyframeInterval);
+        out.writeInt(types.length);
+        for (EntityType type : types) {
+            byte[] fileName = type.getFileName().getBytes(StandardCharsets.US_ASCII);
+            out.writeByte(fileName.length);
+            out.write(fileName);
+        }
+        bytesWritten = out.size();
+    }
+
+    /**
+     * Records the current state of the world as the next frame. Call once after every tick.
+     * The frame is encoded right away and written in the background.
+     *
+     * @throws IOException If writing an earlier frame failed.
+     */
+    public void recordTick() throws IOException {
+        IOException error = writeError;
+        if (error != null) {
+            throw error;
+        }
+        bodyBytes.reset();
+        boolean keyframe = frame % keyframeInterval == 0;
+        if (keyframe) {
+            writeKeyframe();
+        } else {
+            writeDelta();
+        }
+
+        byte[] encoded = new byte[RecordingFormat.FRAME_HEADER_BYTES + bodyBytes.size()];
+        ByteBuffer.wrap(encoded)
+                .put(keyframe ? RecordingFormat.KEYFRAME : RecordingFormat.DELTA)
+                .putLong(frame)
+                .putLong(world.getTick())
+                .putInt(bodyBytes.size());
+        bodyBytes.copyTo(encoded, RecordingFormat.FRAME_HEADER_BYTES);
+        pendingFrames.acquireUninterruptibly();
+        writer.execute(() -> writeFrame(encoded));
+        bytesWritten += encoded.length;
+        frame++;
+    }
+
+    /**
+     * Writes an encoded frame to the file. Runs on the background writer; after an error,
+     * the remaining frames are dropped.
+     *
+     * @param encoded The frame, header and body.
+     */
+    private void writeFrame(byte[] encoded) {
+        try {
+            if (writeError == null) {
+                out.write(encoded);
+            }
+        } catch (IOException e) {
+            writeError = e;
+        } finally {
+            pendingFrames.release();
+        }
+    }
+
+    /**
+     * Writes the full state of every entity, updating the tracked state.
+     *
+     * @throws IOException If writing fails.
+     */
+    private void writeKeyframe() throws IOException {
+        body.writeInt(world.getRobots().size() + world.getObstacles().size());
+        for (Entity entity : collectEntities()) {
+            Tracked state = track(entity);
+            state.capture(entity);
+            state.write(body);
+        }
+        forgetUnseen();
+    }
+
+    /**
+     * Writes the entities spawned and removed since the last frame and the changed fields of all others.
+     *
+     * @throws IOException If writing fails.
+     */
+    private void writeDelta() throws IOException {
+        spawned.clear();
+        changeBytes.reset();
+        int changeCount = 0;
+
+        for (Entity entity : collectEntities()) {
+            Tracked state = tracked.get(entity);
+            if (state == null) {
+                state = track(entity);
+                state.capture(entity);
+                spawned.add(state);
+                continue;
+            }
+            state.seenFrame = frame;
+            int mask = 0;
+            float x = (float) entity.getX();
+            float y = (float) entity.getY();
+            float direction = state.direction;
+            float speed = state.speed;
+            float rotation = state.rotation;
+            if (entity instanceof RobotEntity robot) {
+                direction = (float) robot.getDirection();
+                speed = (float) robot.getSpeed();
+            } else if (entity instanceof ObstacleEntity obstacle) {
+                rotation = (float) obstacle.getRotation();
+            }
+            if (x != state.x) mask |= RecordingFormat.CHANGED_X;
+            if (y != state.y) mask |= RecordingFormat.CHANGED_Y;
+            if (direction != state.direction) mask |= RecordingFormat.CHANGED_DIRECTION;
+            if (speed != state.speed) mask |= RecordingFormat.CHANGED_SPEED;
+            if (rotation != state.rotation) mask |= RecordingFormat.CHANGED_ROTATION;
+            if (mask == 0) {
+                continue;
+            }
+
+            changes.writeInt(state.id);
+            changes.writeByte(mask);
+            if ((mask & RecordingFormat.CHANGED_X) != 0) changes.writeFloat(x);
+            if ((mask & RecordingFormat.CHANGED_Y) != 0) changes.writeFloat(y);
+            if ((mask & RecordingFormat.CHANGED_DIRECTION) != 0) changes.writeFloat(direction);
+            if ((mask & RecordingFormat.CHANGED_SPEED) != 0) changes.writeFloat(speed);
+            if ((mask & RecordingFormat.CHANGED_ROTATION) != 0) changes.writeFloat(rotation);
+            state.x = x;
+            state.y = y;
+            state.direction = direction;
+            state.speed = speed;
+            state.rotation = rotation;
+            changeCount++;
+        }
+
+        body.writeInt(spawned.size());
+        for (Tracked state : spawned) {
+            state.write(body);
+        }
+        spawned.clear();
+        forgetUnseen();
+        body.writeInt(removedCount);
+        for (int i = 0; i < removedCount; i++) {
+            body.writeInt(removedIds[i]);
+        }
+        body.writeInt(changeCount);
+        changeBytes.writeTo(body);
+    }
+
+    /**
+     * Returns the tracked state of an entity, registering it with a new id if it is not tracked yet.
+     *
+     * @param entity The entity.
+     * @return The tracked state, marked as seen in the current frame.
+     */
+    private Tracked track(Entity entity) {
+        Tracked state = tracked.get(entity);
+        if (state == null) {
+            state = new Tracked();
+            state.id = nextId++;
+            state.type = EntityType.of(entity);
+            state.name = entity instanceof RobotEntity ? entity.getName() : "";
+            state.size = (float) entity.getWidth();
+            tracked.put(entity, state);
+        }
+        state.seenFrame = frame;
+        return state;
+    }
+
+    /**
+     * Stops tracking every entity that was not seen in the current frame, collecting their ids
+     * in {@code removedIds}.
+     */
+    private void forgetUnseen() {
+        removedCount = 0;
+        for (Iterator<Tracked> iterator = tracked.values().iterator(); iterator.hasNext(); ) {
+            Tracked state = iterator.next();
+            if (state.seenFrame != frame) {
+                if (removedCount == removedIds.length) {
+                    removedIds = Arrays.copyOf(removedIds, removedCount * 2);
+                }
+                removedIds[removedCount++] = state.id;
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Collects all robots and obstacles of the world into the reused entity list.
+     *
+     * @return The entities, robots first.
+     */
+    private List<Entity> collectEntities() {
+        entities.clear();
+        entities.addAll(world.getRobots());
+        entities.addAll(world.getObstacles());
+        return entities;
+    }
+
+    /**
+     * Returns the number of frames recorded so far.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frame;
+    }
+
+    /**
+     * Returns the size of the recording so far, including the frames still waiting for the background writer.
+     *
+     * @return The number of bytes recorded.
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Waits for the background writer to write the pending frames, then to flush and close the recording file.
+     * The file is closed by the writer itself, after its last frame, so it is never closed during a write.
+     * Closing a closed recorder has no effect.
+     *
+     * @throws IOException If writing a frame or closing the file fails, or the wait is interrupted; in that case
+     *                     the writer still closes the file once it is done.
+     */
+    @Override
+    public void close() throws IOException {
+        if (writer.isShutdown()) {
+            return;
+        }
+        writer.execute(this::closeFile);  // Runs after the frames already queued
+        writer.shutdown();
+        try {
+            writer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);  // The recorded frames must reach the file
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing the recording");
+        }
+        if (writeError != null) {
+            throw writeError;
+        }
+    }
+
+    /**
+     * Flushes and closes the recording file. Runs on the background writer, after the last frame.
+     */
+    private void closeFile() {
+        try {
+            out.close();
+        } catch (IOException e) {
+            if (writeError == null) {
+                writeError = e;
+            }
+        }
+    }
+
+    /**
+     * A byte array output stream whose content can be copied into an existing array.
+     */
+    private static final class FrameBuffer extends ByteArrayOutputStream {
+
+        /**
+         * Copies the content into an array.
+         *
+         * @param target The array.
+         * @param offset The position in the array to copy to.
+         */
+        void copyTo(byte[] target, int offset) {
+            System.arraycopy(buf, 0, target, offset, count);
+        }
+    }
+}
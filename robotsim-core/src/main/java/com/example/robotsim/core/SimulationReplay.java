@@ -0,0 +1,418 @@
+package com.example.robotsim.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The SimulationReplay class plays back a recording written by {@link SimulationRecorder} without
+ * re-simulating anything: it holds one entity per recorded entity and applies the recorded states to them.
+ * Listeners are notified when entities appear or disappear, so views can follow the replay like a live world.
+ * <p>
+ * Opening a recording indexes the offset of every frame without decoding the bodies. {@link #seek(long)}
+ * then jumps to the closest keyframe at or before the target and applies the deltas from there, so it
+ * never reads more than one keyframe interval of frames. A recording cut off by a crash is replayed up
+ * to its last complete frame.
+ */
+public class SimulationReplay implements AutoCloseable {
+
+    private final FileChannel channel;  // Recording file
+    private final long tickMillis;  // Simulated time covered by one frame
+    private final long seed;  // Master seed of the recorded world
+    private final int keyframeInterval;  // Number of frames between two keyframes
+    private final EntityType[] types;  // Type table of the recording
+    private long[] frameOffsets = new long[1024];  // File offset of every frame
+    private long frameCount = 0;  // Number of complete frames
+    private long[] keyframes = new long[64];  // Frame numbers of the keyframes, ascending
+    private int keyframeCount = 0;
+    private final Map<Integer, Entity> entities = new HashMap<>();  // Entities of the current frame by recorded id
+    private final List<WorldListener> listeners = new ArrayList<>();  // Listeners notified about entity changes
+    private long currentFrame = -1;  // Frame currently applied, -1 before the first one
+    private long currentTick = 0;  // World tick of the current frame
+    private ByteBuffer frameBuffer = ByteBuffer.allocate(1 << 16);  // Reused buffer for frame bodies
+
+    /**
+     * Opens a recording and indexes its frames.
+     *
+     * @param path The recording file.
+     * @throws IOException If the file cannot be read or is not a recording.
+     */
+    public SimulationReplay(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer header = read(0, 32);
+            if (header.getInt() != RecordingFormat.MAGIC) {
+                throw new IOException("Not a simulation recording: " + path);
+            }
+            int version = header.getInt();
+            if (version != RecordingFormat.VERSION) {
+                throw new IOException("Unsupported recording version: " + version);
+            }
+            tickMillis = header.getLong();
+            seed = header.getLong();
+            keyframeInterval = header.getInt();
+            types = new EntityType[header.getInt()];
+
+            long position = 32;
+            for (int i = 0; i < types.length; i++) {
+                int length = Byte.toUnsignedInt(read(position, 1).get());
+                byte[] fileName = new byte[length];
+                read(position + 1, length).get(fileName);
+                types[i] = EntityType.fromFileName(new String(fileName, StandardCharsets.US_ASCII));
+                position += 1 + length;
+            }
+            indexFrames(position);
+        } catch (IOException | IllegalArgumentException e) {
+            channel.close();
+            throw e instanceof IOException io ? io : new IOException("Invalid recording: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Records the offset of every complete frame, stopping at a truncated one.
+     *
+     * @param position The offset of the first frame.
+     * @throws IOException If reading fails.
+     */
+    private void indexFrames(long position) throws IOException {
+        long size = channel.size();
+        while (position + RecordingFormat.FRAME_HEADER_BYTES <= size) {
+            ByteBuffer header = read(position, RecordingFormat.FRAME_HEADER_BYTES);
+            byte kind = header.get();
+            long frame = header.getLong();
+            header.getLong();  // World tick, read when the frame is applied
+            int bodyLength = header.getInt();
+            long end = position + RecordingFormat.FRAME_HEADER_BYTES + bodyLength;
+            if (frame != frameCount || bodyLength < 0 || end > size) {
+                break;  // Truncated or corrupt tail
+            }
+
+            if (frameCount == frameOffsets.length) {
+                frameOffsets = Arrays.copyOf(frameOffsets, frameOffsets.length * 2);
+            }
+            frameOffsets[(int) frameCount] = position;
+            if (kind == RecordingFormat.KEYFRAME) {
+                if (keyframeCount == keyframes.length) {
+                    keyframes = Arrays.copyOf(keyframes, keyframes.length * 2);
+                }
+                keyframes[keyframeCount++] = frame;
+            }
+            frameCount++;
+            position = end;
+        }
+        if (frameCount > 0 && (keyframeCount == 0 || keyframes[0] != 0)) {
+            throw new IOException("Recording does not start with a keyframe");
+        }
+    }
+
+    /**
+     * Registers a listener notified when entities appear or disappear during the replay.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(WorldListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Moves the replay to the given frame, starting from the closest keyframe at or before it
+     * unless the target lies shortly ahead of the current frame.
+     *
+     * @param frame The frame to move to, clamped to the recorded frames.
+     * @throws IOException If reading fails.
+     */
+    public void seek(long frame) throws IOException {
+        if (frameCount == 0) {
+            return;
+        }
+        long target = Math.max(0, Math.min(frame, frameCount - 1));
+        int index = Arrays.binarySearch(keyframes, 0, keyframeCount, target);
+        long keyframe = keyframes[index >= 0 ? index : -index - 2];
+
+        // Continue from the current frame if that is cheaper than going back to the keyframe
+        long from = currentFrame >= keyframe && currentFrame <= target ? currentFrame + 1 : keyframe;
+        for (long f = from; f <= target; f++) {
+            apply(f);
+        }
+    }
+
+    /**
+     * Advances the replay by one frame.
+     *
+     * @return true if a frame was applied, false if the end of the recording was reached.
+     * @throws IOException If reading fails.
+     */
+    public boolean step() throws IOException {
+        if (currentFrame + 1 >= frameCount) {
+            return false;
+        }
+        apply(currentFrame + 1);
+        return true;
+    }
+
+    /**
+     * Applies one frame to the entities.
+     *
+     * @param frame The frame to apply.
+     * @throws IOException If reading fails.
+     */
+    private void apply(long frame) throws IOException {
+        long offset = frameOffsets[(int) frame];
+        ByteBuffer header = read(offset, RecordingFormat.FRAME_HEADER_BYTES);
+        byte kind = header.get();
+        header.getLong();
+        long tick = header.getLong();
+        int bodyLength = header.getInt();
+        ByteBuffer body = readBody(offset + RecordingFormat.FRAME_HEADER_BYTES, bodyLength);
+
+        if (kind == RecordingFormat.KEYFRAME) {
+            applyKeyframe(body);
+        } else {
+            applyDelta(body);
+        }
+        currentFrame = frame;
+        currentTick = tick;
+    }
+
+    /**
+     * Replaces the state of all entities with the keyframe's, creating and removing entities as needed.
+     *
+     * @param body The keyframe body.
+     */
+    private void applyKeyframe(ByteBuffer body) {
+        int count = body.getInt();
+        Set<Integer> present = new HashSet<>();
+        List<RecordingFormat.EntityState> spawned = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RecordingFormat.EntityState state = RecordingFormat.EntityState.read(body, types);
+            present.add(state.id);
+            Entity entity = entities.get(state.id);
+            if (entity == null) {
+                spawned.add(state);
+            } else {
+                applyState(entity, state);
+            }
+        }
+        entities.keySet().removeIf(id -> {
+            if (present.contains(id)) {
+                return false;
+            }
+            notifyRemoved(entities.get(id));
+            return true;
+        });
+        for (RecordingFormat.EntityState state : spawned) {
+            spawn(state);
+        }
+    }
+
+    /**
+     * Applies the spawns, removals and changes of a delta frame.
+     *
+     * @param body The delta body.
+     */
+    private void applyDelta(ByteBuffer body) {
+        int spawnCount = body.getInt();
+        for (int i = 0; i < spawnCount; i++) {
+            spawn(RecordingFormat.EntityState.read(body, types));
+        }
+        int removeCount = body.getInt();
+        for (int i = 0; i < removeCount; i++) {
+            Entity entity = entities.remove(body.getInt());
+            if (entity != null) {
+                notifyRemoved(entity);
+            }
+        }
+        int changeCount = body.getInt();
+        for (int i = 0; i < changeCount; i++) {
+            Entity entity = entities.get(body.getInt());
+            int mask = body.get();
+            double x = (mask & RecordingFormat.CHANGED_X) != 0 ? body.getFloat() : entity.getX();
+            double y = (mask & RecordingFormat.CHANGED_Y) != 0 ? body.getFloat() : entity.getY();
+            entity.setPosition(x, y);
+            if (entity instanceof RobotEntity robot) {
+                if ((mask & RecordingFormat.CHANGED_DIRECTION) != 0) robot.setDirection(body.getFloat());
+                if ((mask & RecordingFormat.CHANGED_SPEED) != 0) robot.setSpeed(body.getFloat());
+            } else if (entity instanceof ObstacleEntity obstacle) {
+                if ((mask & RecordingFormat.CHANGED_ROTATION) != 0) obstacle.setRotation(body.getFloat());
+            }
+        }
+    }
+
+    /**
+     * Creates the entity for a recorded state and notifies the listeners.
+     *
+     * @param state The recorded state.
+     */
+    private void spawn(RecordingFormat.EntityState state) {
+        Entity entity = state.type.isRobot()
+                ? state.type.createRobot(state.name, state.x, state.y, state.size)
+                : state.type.createObstacle(state.x, state.y, state.size);
+        applyState(entity, state);
+        entities.put(state.id, entity);
+        for (WorldListener listener : listeners) {
+            listener.entityAdded(entity);
+        }
+    }
+
+    /**
+     * Sets an entity to a recorded state.
+     *
+     * @param entity The entity.
+     * @param state  The recorded state.
+     */
+    private static void applyState(Entity entity, RecordingFormat.EntityState state) {
+        entity.setPosition(state.x, state.y);
+        if (entity instanceof RobotEntity robot) {
+            robot.setDirection(state.direction);
+            robot.setSpeed(state.speed);
+        } else if (entity instanceof ObstacleEntity obstacle) {
+            obstacle.setRotation(state.rotation);
+        }
+    }
+
+    /**
+     * Notifies the listeners that an entity disappeared.
+     *
+     * @param entity The entity.
+     */
+    private void notifyRemoved(Entity entity) {
+        for (WorldListener listener : listeners) {
+            listener.entityRemoved(entity);
+        }
+    }
+
+    /**
+     * Reads a small part of the file into a new buffer.
+     *
+     * @param position The offset to read from.
+     * @param length   The number of bytes to read.
+     * @return The buffer, ready for reading.
+     * @throws IOException If reading fails or the file ends early.
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        fill(buffer, position);
+        return buffer;
+    }
+
+    /**
+     * Reads a frame body into the reused frame buffer.
+     *
+     * @param position The offset of the body.
+     * @param length   The length of the body.
+     * @return The frame buffer, ready for reading.
+     * @throws IOException If reading fails or the file ends early.
+     */
+    private ByteBuffer readBody(long position, int length) throws IOException {
+        if (frameBuffer.capacity() < length) {
+            frameBuffer = ByteBuffer.allocate(Math.max(length, frameBuffer.capacity() * 2));
+        }
+        frameBuffer.clear().limit(length);
+        fill(frameBuffer, position);
+        return frameBuffer;
+    }
+
+    /**
+     * Fills a buffer from the file and flips it.
+     *
+     * @param buffer   The buffer to fill up to its limit.
+     * @param position The offset to read from.
+     * @throws IOException If reading fails or the file ends early.
+     */
+    private void fill(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of recording");
+            }
+            position += read;
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Returns the entities of the current frame.
+     *
+     * @return An unmodifiable view of the entities.
+     */
+    public Collection<Entity> getEntities() {
+        return Collections.unmodifiableCollection(entities.values());
+    }
+
+    /**
+     * Returns the number of complete frames in the recording.
+     *
+     * @return The frame count.
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Returns the frame currently applied.
+     *
+     * @return The current frame, -1 before the first one.
+     */
+    public long getCurrentFrame() {
+        return currentFrame;
+    }
+
+    /**
+     * Returns the world tick of the current frame.
+     *
+     * @return The world tick.
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Returns the simulated time covered by one frame.
+     *
+     * @return The tick length in milliseconds.
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Returns the master seed of the recorded world.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of frames between two keyframes.
+     *
+     * @return The keyframe interval.
+     */
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    /**
+     * Closes the recording file.
+     *
+     * @throws IOException If closing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
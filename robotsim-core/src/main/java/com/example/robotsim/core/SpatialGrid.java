@@ -0,0 +1,466 @@
+package com.example.robotsim.core;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * The SpatialGrid class is a uniform-grid broadphase for intersection queries.
+ * The arena is divided into square cells and every entity is registered in each cell its bounding box
+ * overlaps, so a query only tests the entities in the cells around it instead of the whole world.
+ * Entities outside the arena are clamped into the border cells.
+ * <p>
+ * The grid is updated incrementally: {@link #update(Entity)} only touches cell lists when an entity's
+ * cell range actually changed. The grid counts how many candidate pairs reached the exact bounding-box
+ * test and how many of them were hits, which is the ratio to watch when tuning the cell size.
+ */
+public class SpatialGrid {
+
+    /**
+     * Callback receiving the entities found by a query.
+     */
+    public interface Visitor {
+        /**
+         * Visits an entity that intersects the query.
+         *
+         * @param entity The intersecting entity.
+         * @return true to continue the query, false to stop it.
+         */
+        boolean visit(Entity entity);
+    }
+
+    private static final int INITIAL_CELL_CAPACITY = 4;  // Initial number of slots per cell list
+
+    private final double cellSize;  // Width and height of one cell
+    private int columns = 1;  // Number of cell columns
+    private int rows = 1;  // Number of cell rows
+    private int[][] cells = new int[1][];  // Slot indices registered in each cell
+    private int[] cellCounts = new int[1];  // Number of slots registered in each cell
+
+    // Per-slot state, indexed by Entity.gridSlot
+    private Entity[] entities = new Entity[16];
+    private int[] minColumn = new int[16];
+    private int[] minRow = new int[16];
+    private int[] maxColumn = new int[16];
+    private int[] maxRow = new int[16];
+    private int[] queryStamps = new int[16];  // Last query that visited each slot, to skip duplicates
+    private int[] freeSlots = new int[16];  // Stack of released slot indices
+    private int freeSlotCount = 0;
+    private int slotCount = 0;  // Number of slots ever handed out
+    private int queryStamp = 0;  // Identifier of the current query
+
+    private long candidatePairs = 0;  // Candidate pairs tested since the last counter reset
+    private long hits = 0;  // Candidate pairs that intersected since the last counter reset
+    private long totalCandidatePairs = 0;  // Candidate pairs tested since construction
+    private long totalHits = 0;  // Intersections found since construction
+
+    /**
+     * Constructs an empty SpatialGrid.
+     *
+     * @param cellSize The width and height of one cell; should be around the size of a typical entity.
+     */
+    public SpatialGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive: " + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Adapts the grid to the arena size. The cell lists are rebuilt only if the number of columns
+     * or rows changes.
+     *
+     * @param width  The width of the arena.
+     * @param height The height of the arena.
+     */
+    public void resize(double width, double height) {
+        int newColumns = Math.max(1, (int) Math.ceil(width / cellSize));
+        int newRows = Math.max(1, (int) Math.ceil(height / cellSize));
+        if (newColumns == columns && newRows == rows) {
+            return;
+        }
+
+        columns = newColumns;
+        rows = newRows;
+        cells = new int[columns * rows][];
+        cellCounts = new int[columns * rows];
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (entities[slot] != null) {
+                computeRange(slot, entities[slot]);
+                addToCells(slot);
+            }
+        }
+    }
+
+    /**
+     * Registers an entity in the grid. Entities already registered are only updated.
+     *
+     * @param entity The entity to insert.
+     */
+    public void insert(Entity entity) {
+        if (entity.gridSlot >= 0) {
+            update(entity);
+            return;
+        }
+
+        int slot = freeSlotCount > 0 ? freeSlots[--freeSlotCount] : nextSlot();
+        entity.gridSlot = slot;
+        entities[slot] = entity;
+        computeRange(slot, entity);
+        addToCells(slot);
+    }
+
+    /**
+     * Removes an entity from the grid. Entities that are not registered are ignored.
+     *
+     * @param entity The entity to remove.
+     */
+    public void remove(Entity entity) {
+        int slot = entity.gridSlot;
+        if (slot < 0 || entities[slot] != entity) {
+            return;
+        }
+
+        removeFromCells(slot);
+        entities[slot] = null;
+        entity.gridSlot = -1;
+        if (freeSlotCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeSlotCount++] = slot;
+    }
+
+    /**
+     * Re-registers an entity after it moved. Only cells the entity entered or left are touched,
+     * and nothing happens if it stayed within the same cells.
+     *
+     * @param entity The entity that moved.
+     */
+    public void update(Entity entity) {
+        int slot = entity.gridSlot;
+        if (slot < 0 || entities[slot] != entity) {
+            return;
+        }
+
+        int newMinColumn = column(entity.getX());
+        int newMinRow = row(entity.getY());
+        int newMaxColumn = column(entity.getX() + entity.getWidth());
+        int newMaxRow = row(entity.getY() + entity.getHeight());
+        if (newMinColumn == minColumn[slot] && newMinRow == minRow[slot]
+                && newMaxColumn == maxColumn[slot] && newMaxRow == maxRow[slot]) {
+            return;  // Still covering the same cells
+        }
+
+        // Remove from the old cells, then register in the new ones
+        removeFromCells(slot);
+        minColumn[slot] = newMinColumn;
+        minRow[slot] = newMinRow;
+        maxColumn[slot] = newMaxColumn;
+        maxRow[slot] = newMaxRow;
+        addToCells(slot);
+    }
+
+    /**
+     * Removes every entity from the grid.
+     */
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (entities[slot] != null) {
+                entities[slot].gridSlot = -1;
+                entities[slot] = null;
+            }
+        }
+        Arrays.fill(cellCounts, 0);
+        slotCount = 0;
+        freeSlotCount = 0;
+    }
+
+    /**
+     * Visits every registered entity whose bounding box intersects the source entity's bounding box
+     * and that satisfies the filter. The source itself is never visited, and each entity is visited
+     * at most once even if it spans several cells.
+     *
+     * @param source  The entity to test against.
+     * @param filter  The filter candidate entities must satisfy.
+     * @param visitor The visitor receiving the intersecting entities.
+     */
+    public void forEachIntersecting(Entity source, Predicate<Entity> filter, Visitor visitor) {
+        forEachIntersecting(source.getX(), source.getY(), source.getWidth(), source.getHeight(), source, filter, visitor);
+    }
+
+    /**
+     * Visits every registered entity whose bounding box intersects the given rectangle and that satisfies
+     * the filter, e.g. the area a moving entity swept through. Each entity is visited at most once.
+     *
+     * @param minX    The X-coordinate of the rectangle's top-left corner.
+     * @param minY    The Y-coordinate of the rectangle's top-left corner.
+     * @param width   The width of the rectangle.
+     * @param height  The height of the rectangle.
+     * @param exclude An entity never to visit, typically the one asking, or null.
+     * @param filter  The filter candidate entities must satisfy.
+     * @param visitor The visitor receiving the intersecting entities.
+     */
+    public void forEachIntersecting(double minX, double minY, double width, double height, Entity exclude,
+                                    Predicate<Entity> filter, Visitor visitor) {
+        int stamp = ++queryStamp;
+        int fromColumn = column(minX);
+        int toColumn = column(minX + width);
+        int fromRow = row(minY);
+        int toRow = row(minY + height);
+
+        for (int r = fromRow; r <= toRow; r++) {
+            for (int c = fromColumn; c <= toColumn; c++) {
+                int cell = r * columns + c;
+                int[] slots = cells[cell];
+                int count = cellCounts[cell];
+                for (int i = 0; i < count; i++) {
+                    int slot = slots[i];
+                    if (queryStamps[slot] == stamp) {
+                        continue;  // Already visited through another cell
+                    }
+                    queryStamps[slot] = stamp;
+
+                    Entity candidate = entities[slot];
+                    if (candidate == exclude || !filter.test(candidate)) {
+                        continue;
+                    }
+                    candidatePairs++;
+                    totalCandidatePairs++;
+                    if (candidate.intersects(minX, minY, width, height)) {
+                        hits++;
+                        totalHits++;
+                        if (!visitor.visit(candidate)) {
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Casts a ray and returns the distance to the nearest registered entity it hits, walking the cells along the
+     * ray in order (a DDA traversal) and stopping as soon as no later cell can hold a nearer hit. A short ray
+     * therefore visits only the handful of cells it crosses. A ray starting inside an entity hits it at distance 0.
+     *
+     * @param originX     The X-coordinate of the ray's origin.
+     * @param originY     The Y-coordinate of the ray's origin.
+     * @param dirX        The X-component of the ray's direction.
+     * @param dirY        The Y-component of the ray's direction.
+     * @param maxDistance The length of the ray; must be finite.
+     * @param exclude     An entity the ray passes through, typically the one casting it, or null.
+     * @param filter      The filter entities must satisfy to be hit.
+     * @return The distance to the nearest hit, or {@link Double#POSITIVE_INFINITY} if nothing is hit within the length.
+     * @throws IllegalArgumentException If the length is negative or not finite.
+     */
+    public double raycast(double originX, double originY, double dirX, double dirY, double maxDistance,
+                          Entity exclude, Predicate<Entity> filter) {
+        if (!(maxDistance >= 0) || Double.isInfinite(maxDistance)) {
+            throw new IllegalArgumentException("Ray length must be finite and non-negative: " + maxDistance);
+        }
+        double length = Math.hypot(dirX, dirY);
+        if (length == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double stepX = dirX / length * maxDistance;  // The whole ray, as a move for the swept test
+        double stepY = dirY / length * maxDistance;
+
+        // Cells are walked unclamped; entities beyond the grid live in its border cells, so lookups are clamped
+        int cellX = (int) Math.floor(originX / cellSize);
+        int cellY = (int) Math.floor(originY / cellSize);
+        int stepColumn = stepX > 0 ? 1 : -1;
+        int stepRow = stepY > 0 ? 1 : -1;
+        double nextX = stepX == 0 ? Double.POSITIVE_INFINITY  // Ray fraction at the next vertical cell border
+                : ((stepX > 0 ? cellX + 1 : cellX) * cellSize - originX) / stepX;
+        double nextY = stepY == 0 ? Double.POSITIVE_INFINITY  // Ray fraction at the next horizontal cell border
+                : ((stepY > 0 ? cellY + 1 : cellY) * cellSize - originY) / stepY;
+        double deltaX = stepX == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(stepX);
+        double deltaY = stepY == 0 ? Double.POSITIVE_INFINITY : cellSize / Math.abs(stepY);
+
+        int stamp = ++queryStamp;
+        double nearest = Double.POSITIVE_INFINITY;  // Ray fraction of the nearest hit so far
+        double entered = 0;  // Ray fraction at which the current cell was entered
+        while (entered <= 1 && entered <= nearest) {
+            int cell = Math.min(rows - 1, Math.max(0, cellY)) * columns + Math.min(columns - 1, Math.max(0, cellX));
+            int[] slots = cells[cell];
+            int count = cellCounts[cell];
+            for (int i = 0; i < count; i++) {
+                int slot = slots[i];
+                if (queryStamps[slot] == stamp) {
+                    continue;  // Already tested through another cell
+                }
+                queryStamps[slot] = stamp;
+
+                Entity candidate = entities[slot];
+                if (candidate == exclude || !filter.test(candidate)) {
+                    continue;
+                }
+                candidatePairs++;
+                totalCandidatePairs++;
+                double time = World.timeOfImpact(originX, originY, stepX, stepY, 0, 0, candidate);
+                if (time >= 0 && time < nearest) {
+                    hits++;
+                    totalHits++;
+                    nearest = time;
+                }
+            }
+
+            // Step into whichever neighbouring cell the ray reaches first
+            if (nextX < nextY) {
+                entered = nextX;
+                nextX += deltaX;
+                cellX += stepColumn;
+            } else {
+                entered = nextY;
+                nextY += deltaY;
+                cellY += stepRow;
+            }
+        }
+        return nearest <= 1 ? nearest * maxDistance : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Resets the per-tick candidate and hit counters. The totals are kept.
+     */
+    public void resetCounters() {
+        candidatePairs = 0;
+        hits = 0;
+    }
+
+    /**
+     * Returns the number of candidate pairs tested since the last counter reset.
+     *
+     * @return The candidate pair count.
+     */
+    public long getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    /**
+     * Returns the number of candidate pairs that intersected since the last counter reset.
+     *
+     * @return The hit count.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of candidate pairs tested since the grid was created.
+     *
+     * @return The total candidate pair count.
+     */
+    public long getTotalCandidatePairs() {
+        return totalCandidatePairs;
+    }
+
+    /**
+     * Returns the number of intersections found since the grid was created.
+     *
+     * @return The total hit count.
+     */
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Returns the width and height of one cell.
+     *
+     * @return The cell size.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * Hands out a fresh slot index, growing the per-slot arrays if needed.
+     *
+     * @return The new slot index.
+     */
+    private int nextSlot() {
+        if (slotCount == entities.length) {
+            int capacity = entities.length * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            minColumn = Arrays.copyOf(minColumn, capacity);
+            minRow = Arrays.copyOf(minRow, capacity);
+            maxColumn = Arrays.copyOf(maxColumn, capacity);
+            maxRow = Arrays.copyOf(maxRow, capacity);
+            queryStamps = Arrays.copyOf(queryStamps, capacity);
+        }
+        return slotCount++;
+    }
+
+    /**
+     * Computes the range of cells covered by an entity and stores it for the slot.
+     *
+     * @param slot   The slot of the entity.
+     * @param entity The entity.
+     */
+    private void computeRange(int slot, Entity entity) {
+        minColumn[slot] = column(entity.getX());
+        minRow[slot] = row(entity.getY());
+        maxColumn[slot] = column(entity.getX() + entity.getWidth());
+        maxRow[slot] = row(entity.getY() + entity.getHeight());
+    }
+
+    /**
+     * Registers a slot in every cell of its stored range.
+     *
+     * @param slot The slot to register.
+     */
+    private void addToCells(int slot) {
+        for (int r = minRow[slot]; r <= maxRow[slot]; r++) {
+            for (int c = minColumn[slot]; c <= maxColumn[slot]; c++) {
+                int cell = r * columns + c;
+                int[] slots = cells[cell];
+                if (slots == null) {
+                    slots = cells[cell] = new int[INITIAL_CELL_CAPACITY];
+                } else if (cellCounts[cell] == slots.length) {
+                    slots = cells[cell] = Arrays.copyOf(slots, slots.length * 2);
+                }
+                slots[cellCounts[cell]++] = slot;
+            }
+        }
+    }
+
+    /**
+     * Unregisters a slot from every cell of its stored range using swap-remove.
+     *
+     * @param slot The slot to unregister.
+     */
+    private void removeFromCells(int slot) {
+        for (int r = minRow[slot]; r <= maxRow[slot]; r++) {
+            for (int c = minColumn[slot]; c <= maxColumn[slot]; c++) {
+                int cell = r * columns + c;
+                int[] slots = cells[cell];
+                int count = cellCounts[cell];
+                for (int i = 0; i < count; i++) {
+                    if (slots[i] == slot) {
+                        slots[i] = slots[count - 1];
+                        cellCounts[cell] = count - 1;
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the column containing the given X-coordinate, clamped to the grid.
+     *
+     * @param x The X-coordinate.
+     * @return The column index.
+     */
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    /**
+     * Returns the row containing the given Y-coordinate, clamped to the grid.
+     *
+     * @param y The Y-coordinate.
+     * @return The row index.
+     */
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+}
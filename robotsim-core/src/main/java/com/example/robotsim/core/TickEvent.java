@@ -0,0 +1,75 @@
+package com.example.robotsim.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event spanning one {@link World#step()}. The phases of a tick interleave robot by robot,
+ * so instead of one event per phase the tick event carries the total time spent in each of them.
+ */
+@Name("com.example.robotsim.Tick")
+@Label("Simulation Tick")
+@Category({"RobotSim", "Simulation"})
+@Description("One tick of the simulation, with the time spent per phase")
+@Registered(false)
+@StackTrace(false)
+class TickEvent extends Event {
+
+    @Label("Tick")
+    long tick;
+
+    @Label("Robots")
+    int robotCount;
+
+    @Label("Obstacles")
+    int obstacleCount;
+
+    @Label("Active Robots")
+    @Description("Robots stepped in the tick")
+    int activeRobots;
+
+    @Label("Sleeping Robots")
+    @Description("Robots skipped in the tick because they stood still")
+    int sleepingRobots;
+
+    @Label("Pending Effects")
+    int pendingEffects;
+
+    @Label("Collision Tests")
+    @Description("Candidate pairs the spatial grid tested for intersection")
+    long collisionTests;
+
+    @Label("Prey Queries")
+    @Description("Nearest-prey queries of hunting predators")
+    long preyQueries;
+
+    @Label("Prey Nodes Visited")
+    @Description("Nodes of the prey index the nearest-prey queries visited")
+    long preyNodesVisited;
+
+    @Label("Effects")
+    @Timespan
+    long effectsTime;
+
+    @Label("Prey Index")
+    @Timespan
+    long preyIndexTime;
+
+    @Label("Movement")
+    @Timespan
+    long movementTime;
+
+    @Label("Sensing")
+    @Timespan
+    long sensingTime;
+
+    @Label("Obstacle Collision")
+    @Timespan
+    long obstacleCollisionTime;
+}
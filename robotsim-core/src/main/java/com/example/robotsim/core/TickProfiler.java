@@ -0,0 +1,181 @@
+package com.example.robotsim.core;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The TickProfiler class measures where the time of the ticks goes. While a profiler is set on a
+ * {@link World}, the world adds the time spent in each {@link Phase} of a tick and hands the totals to
+ * the profiler at the end of the tick, which records them in one {@link LatencyHistogram} per phase.
+ * Timing the phases reads the clock several times per robot, so only every n-th tick is timed, the
+ * sample interval; the histograms hold the sampled ticks.
+ * The user interface records the time it spends drawing the ticks of a frame as {@link Phase#UI_UPDATE},
+ * once per frame however many ticks it covers.
+ * <p>
+ * The profiler also keeps the number of collision tests, i.e. candidate pairs the spatial grid checked
+ * for intersection, of every tick.
+ */
+public class TickProfiler {
+
+    /**
+     * The phases a tick is split into.
+     */
+    public enum Phase {
+        /** Delayed effects due on the tick. */
+        EFFECTS,
+        /** Rebuilding the index of the prey hunting predators steer towards. */
+        PREY_INDEX,
+        /** Moving the robots and bouncing them off walls and the reserved area. */
+        MOVEMENT,
+        /** Sensing robots looking for, and predators hunting, nearby entities. */
+        SENSING,
+        /** Obstacles applying their effects to the robots that collide with them. */
+        OBSTACLE_COLLISION,
+        /** Drawing the ticks of a frame in the user interface, recorded by the user interface itself once per frame. */
+        UI_UPDATE
+    }
+
+    private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);  // Durations of every phase
+    private final LatencyHistogram tickHistogram = new LatencyHistogram();  // Durations of the simulation part of whole ticks
+    private volatile long lastCollisionTests = 0;  // Collision tests in the last tick
+    private volatile long maxCollisionTests = 0;  // Most collision tests in any tick
+    private volatile long totalCollisionTests = 0;  // Collision tests in all ticks
+    private volatile long tickCount = 0;  // Number of ticks profiled
+
+    /** Number of ticks per timed tick by default. */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private final int sampleInterval;  // Number of ticks per timed tick
+
+    /**
+     * Constructs a TickProfiler with empty histograms that times every {@link #DEFAULT_SAMPLE_INTERVAL}-th tick.
+     */
+    public TickProfiler() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructs a TickProfiler with empty histograms.
+     *
+     * @param sampleInterval The number of ticks per timed tick, 1 to time every tick.
+     * @throws IllegalArgumentException If the interval is not positive.
+     */
+    public TickProfiler(int sampleInterval) {
+        if (sampleInterval <= 0) {
+            throw new IllegalArgumentException("Sample interval must be positive: " + sampleInterval);
+        }
+        this.sampleInterval = sampleInterval;
+        for (Phase phase : Phase.values()) {
+            histograms.put(phase, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * Returns whether the phases of a tick are to be timed.
+     *
+     * @param tick The number of the tick.
+     * @return true if the tick is sampled, false otherwise.
+     */
+    boolean isSampled(long tick) {
+        return tick % sampleInterval == 0;
+    }
+
+    /**
+     * Returns the number of ticks per timed tick.
+     *
+     * @return The sample interval.
+     */
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * Records the tick that just ended: its collision tests, and its phases if it was timed. Called by the world.
+     *
+     * @param phaseNanos     The time spent per phase during the tick, indexed by {@link Phase#ordinal()}.
+     * @param timed          Whether the phases were timed.
+     * @param collisionTests The number of collision tests during the tick.
+     */
+    void endTick(long[] phaseNanos, boolean timed, long collisionTests) {
+        if (timed) {
+            long total = 0;
+            for (Phase phase : Phase.values()) {
+                if (phase != Phase.UI_UPDATE) {
+                    histograms.get(phase).record(phaseNanos[phase.ordinal()]);
+                    total += phaseNanos[phase.ordinal()];
+                }
+            }
+            tickHistogram.record(total);
+        }
+
+        lastCollisionTests = collisionTests;
+        maxCollisionTests = Math.max(maxCollisionTests, collisionTests);
+        totalCollisionTests += collisionTests;
+        tickCount++;
+    }
+
+    /**
+     * Records the time a phase took outside the world, e.g. the user interface update after a tick.
+     *
+     * @param phase The phase.
+     * @param nanos The time spent, in nanoseconds.
+     */
+    public void record(Phase phase, long nanos) {
+        histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * Returns the histogram of a phase.
+     *
+     * @param phase The phase.
+     * @return The durations the phase took per sampled tick.
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms.get(phase);
+    }
+
+    /**
+     * Returns the histogram of the simulation part of whole ticks, i.e. all phases but the user interface update.
+     *
+     * @return The durations of the sampled ticks.
+     */
+    public LatencyHistogram getTickHistogram() {
+        return tickHistogram;
+    }
+
+    /**
+     * Returns the number of collision tests in the last tick.
+     *
+     * @return The collision test count.
+     */
+    public long getLastCollisionTests() {
+        return lastCollisionTests;
+    }
+
+    /**
+     * Returns the largest number of collision tests in any tick.
+     *
+     * @return The collision test count.
+     */
+    public long getMaxCollisionTests() {
+        return maxCollisionTests;
+    }
+
+    /**
+     * Returns the number of collision tests in all profiled ticks.
+     *
+     * @return The collision test count.
+     */
+    public long getTotalCollisionTests() {
+        return totalCollisionTests;
+    }
+
+    /**
+     * Returns the number of profiled ticks.
+     *
+     * @return The tick count.
+     */
+    public long getTickCount() {
+        return tickCount;
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.robotsim.core;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The TimerWheel class schedules delayed effects in simulation ticks using a hashed timer wheel.
+ * Timers are hashed into a fixed number of buckets by their due tick and kept in intrusive doubly
+ * linked lists, so scheduling and cancelling are O(1) and each {@link #advance()} only looks at one
+ * bucket. Timers further away than one revolution simply stay in their bucket until their round comes.
+ * <p>
+ * Timers may be keyed by an owner and a kind. Scheduling a keyed timer while one with the same key
+ * is still pending reschedules the existing timer instead of adding a duplicate, so an effect
+ * triggered on every tick keeps a single pending timer per entity.
+ * <p>
+ * Because the wheel only moves when the simulation ticks, delays honour pausing and fast-forward.
+ */
+public class TimerWheel {
+
+    /**
+     * A pending timer, linked into its bucket.
+     */
+    private static final class Timer {
+        private long dueTick;  // Tick at which the timer fires
+        private Runnable action;  // Action to run when the timer fires
+        private TimerKey key;  // Coalescing key, or null for anonymous timers
+        private Timer previous;  // Previous timer in the bucket
+        private Timer next;  // Next timer in the bucket
+        private int bucket = -1;  // Bucket the timer is linked into, -1 when not linked
+    }
+
+    /**
+     * Coalescing key of a timer.
+     */
+    private record TimerKey(Object owner, Object kind) {
+    }
+
+    private final Timer[] buckets;  // Heads of the per-bucket timer lists
+    private final int mask;  // Bit mask mapping a tick to its bucket
+    private final Map<TimerKey, Timer> keyedTimers = new HashMap<>();  // Pending keyed timers
+    private long currentTick = 0;  // Last tick the wheel advanced to
+    private int pendingCount = 0;  // Number of pending timers
+    private long firedCount = 0;  // Number of timers fired since construction
+    private long coalescedCount = 0;  // Number of schedule calls merged into a pending timer
+
+    /**
+     * Constructs an empty TimerWheel.
+     *
+     * @param bucketCount The number of buckets; must be a power of two. Delays up to this many ticks
+     *                    are fired without any extra rounds.
+     */
+    public TimerWheel(int bucketCount) {
+        if (bucketCount <= 0 || Integer.bitCount(bucketCount) != 1) {
+            throw new IllegalArgumentException("Bucket count must be a power of two: " + bucketCount);
+        }
+        this.buckets = new Timer[bucketCount];
+        this.mask = bucketCount - 1;
+    }
+
+    /**
+     * Schedules an anonymous action after the given number of ticks.
+     *
+     * @param delayTicks The delay in ticks; delays below one tick fire on the next tick.
+     * @param action     The action to run.
+     */
+    public void schedule(long delayTicks, Runnable action) {
+        Timer timer = new Timer();
+        timer.action = action;
+        link(timer, currentTick + Math.max(1, delayTicks));
+    }
+
+    /**
+     * Schedules an action keyed by owner and kind. If a timer with the same key is already pending,
+     * it is moved to the new due tick and its action replaced instead of adding a second timer.
+     *
+     * @param owner      The owner of the timer, usually an entity.
+     * @param kind       The kind of effect.
+     * @param delayTicks The delay in ticks; delays below one tick fire on the next tick.
+     * @param action     The action to run.
+     */
+    public void schedule(Object owner, Object kind, long delayTicks, Runnable action) {
+        TimerKey key = new TimerKey(owner, kind);
+        Timer timer = keyedTimers.get(key);
+        if (timer != null) {
+            unlink(timer);
+            coalescedCount++;
+        } else {
+            timer = new Timer();
+            timer.key = key;
+            keyedTimers.put(key, timer);
+        }
+        timer.action = action;
+        link(timer, currentTick + Math.max(1, delayTicks));
+    }
+
+    /**
+     * Cancels the pending timer with the given key.
+     *
+     * @param owner The owner of the timer.
+     * @param kind  The kind of effect.
+     * @return true if a pending timer was cancelled, false otherwise.
+     */
+    public boolean cancel(Object owner, Object kind) {
+        Timer timer = keyedTimers.remove(new TimerKey(owner, kind));
+        if (timer == null) {
+            return false;
+        }
+        unlink(timer);
+        return true;
+    }
+
+    /**
+     * Returns whether a timer with the given key is pending.
+     *
+     * @param owner The owner of the timer.
+     * @param kind  The kind of effect.
+     * @return true if such a timer is pending, false otherwise.
+     */
+    public boolean isPending(Object owner, Object kind) {
+        return keyedTimers.containsKey(new TimerKey(owner, kind));
+    }
+
+    /**
+     * Advances the wheel by one tick and fires every timer due on it.
+     * Actions may schedule or cancel timers while they run.
+     */
+    public void advance() {
+        currentTick++;
+        int index = (int) (currentTick & mask);
+        Timer timer = buckets[index];
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.dueTick <= currentTick) {
+                unlink(timer);
+                if (timer.key != null) {
+                    keyedTimers.remove(timer.key);
+                }
+                firedCount++;
+                timer.action.run();
+
+                // The action may have unlinked the next timer; start over from the bucket head then
+                if (next != null && next.bucket != index) {
+                    next = buckets[index];
+                }
+            }
+            timer = next;
+        }
+    }
+
+    /**
+     * Removes every pending timer and resets the wheel to tick zero.
+     */
+    public void clear() {
+        Arrays.fill(buckets, null);
+        keyedTimers.clear();
+        pendingCount = 0;
+        currentTick = 0;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return The pending timer count.
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Returns the number of timers fired since the wheel was created.
+     *
+     * @return The fired timer count.
+     */
+    public long getFiredCount() {
+        return firedCount;
+    }
+
+    /**
+     * Returns the number of schedule calls that were merged into an already pending timer.
+     *
+     * @return The coalesced schedule count.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Links a timer into the bucket of its due tick.
+     *
+     * @param timer   The timer to link.
+     * @param dueTick The tick at which the timer fires.
+     */
+    private void link(Timer timer, long dueTick) {
+        int index = (int) (dueTick & mask);
+        timer.dueTick = dueTick;
+        timer.bucket = index;
+        timer.previous = null;
+        timer.next = buckets[index];
+        if (timer.next != null) {
+            timer.next.previous = timer;
+        }
+        buckets[index] = timer;
+        pendingCount++;
+    }
+
+    /**
+     * Unlinks a timer from its bucket.
+     *
+     * @param timer The timer to unlink.
+     */
+    private void unlink(Timer timer) {
+        if (timer.previous != null) {
+            timer.previous.next = timer.next;
+        } else {
+            buckets[timer.bucket] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.previous = timer.previous;
+        }
+        timer.previous = null;
+        timer.next = null;
+        timer.bucket = -1;
+        pendingCount--;
+    }
+}
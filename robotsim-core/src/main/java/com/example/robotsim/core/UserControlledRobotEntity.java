@@ -0,0 +1,31 @@
+package com.example.robotsim.core;
+
+/**
+ * The UserControlledRobotEntity class models a robot that, besides moving on its own,
+ * can be nudged around by the user one step at a time.
+ */
+public class UserControlledRobotEntity extends RobotEntity {
+
+    /**
+     * Constructs a new UserControlledRobotEntity with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public UserControlledRobotEntity(String name, double x, double y, double size) {
+        super(name, x, y, size);
+    }
+
+    /**
+     * Moves the robot by one step of its current speed in the given direction.
+     *
+     * @param stepX The horizontal step direction (-1, 0 or 1).
+     * @param stepY The vertical step direction (-1, 0 or 1).
+     */
+    public void nudge(int stepX, int stepY) {
+        double speed = getSpeed();
+        setPosition(getX() + stepX * speed, getY() + stepY * speed);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.robotsim.core;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * The WhiskerRobotEntity class models a robot that uses three whiskers (front, left and right)
+ * to detect obstacles. Each whisker is a ray cast from the robot's centre that turns with the robot's
+ * direction and reports how far away it touched something. When a whisker touches an obstacle or
+ * another robot, the robot changes its direction to avoid it and ignores further detections for one second.
+ */
+public class WhiskerRobotEntity extends RobotEntity {
+    private static final long DETECTION_RESET_MILLIS = 1000;  // Delay before the whiskers can detect again
+    private static final double WHISKER_LENGTH_FACTOR = 1.0;  // Whisker length from the centre, relative to the robot size
+
+    /**
+     * The whiskers of the robot.
+     */
+    public enum Whisker {
+        /** Whisker pointing in the robot's direction. */
+        FRONT(0),
+        /** Whisker pointing 90 degrees to the left of the robot's direction. */
+        LEFT(-90),
+        /** Whisker pointing 90 degrees to the right of the robot's direction. */
+        RIGHT(90);
+
+        private final double angle;  // Angle relative to the robot's direction, in degrees
+
+        /**
+         * Constructs a Whisker.
+         *
+         * @param angle The angle relative to the robot's direction, in degrees.
+         */
+        Whisker(double angle) {
+            this.angle = angle;
+        }
+
+        /**
+         * Returns the angle of the whisker relative to the robot's direction.
+         *
+         * @return The angle in degrees.
+         */
+        public double getAngle() {
+            return angle;
+        }
+    }
+
+    private static final Whisker[] WHISKERS = Whisker.values();  // Cached to avoid copying per tick
+
+    private final Cooldown detectionCooldown = new Cooldown();  // Running while detections are ignored
+    private final double[] hitDistances = new double[WHISKERS.length];  // Distance each whisker touched something at
+
+    /**
+     * Constructs a WhiskerRobotEntity with the specified name, position (x, y), and size.
+     *
+     * @param name The name of the robot.
+     * @param x The X-coordinate of the robot's position.
+     * @param y The Y-coordinate of the robot's position.
+     * @param size The size of the robot (both width and height).
+     */
+    public WhiskerRobotEntity(String name, double x, double y, double size) {
+        super(name, x, y, size);
+        Arrays.fill(hitDistances, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Moves the robot and counts down the detection cooldown.
+     *
+     * @param world The world the robot lives in.
+     */
+    @Override
+    protected void move(World world) {
+        detectionCooldown.advance();
+        updatePosition(world.getMotionScale());
+    }
+
+    /**
+     * Casts the whiskers from the robot's centre. If any of them touches something, the robot attempts to avoid it.
+     *
+     * @param world The world the robot lives in.
+     */
+    @Override
+    protected void sense(World world) {
+        double centreX = getX() + getWidth() / 2;
+        double centreY = getY() + getHeight() / 2;
+        double length = getWhiskerLength();
+        Predicate<Entity> interactable = this::isInteractable;
+        boolean detected = false;
+        for (Whisker whisker : WHISKERS) {
+            double distance = world.castRay(this, centreX, centreY, getDirection() + whisker.angle, length, interactable);
+            hitDistances[whisker.ordinal()] = distance;
+            detected |= distance <= length;
+        }
+        if (detected) {
+            avoidObstacle(world);
+        }
+    }
+
+    /**
+     * Returns the length of the whiskers, measured from the robot's centre.
+     *
+     * @return The whisker length.
+     */
+    public double getWhiskerLength() {
+        return getWidth() * WHISKER_LENGTH_FACTOR;
+    }
+
+    /**
+     * Returns how far from the robot's centre a whisker touched something when the robot last sensed.
+     *
+     * @param whisker The whisker.
+     * @return The hit distance, or {@link Double#POSITIVE_INFINITY} if the whisker touched nothing.
+     */
+    public double getHitDistance(Whisker whisker) {
+        return hitDistances[whisker.ordinal()];
+    }
+
+    /**
+     * Determines which entities the whisker robot can interact with.
+     * Other whisker robots are ignored.
+     *
+     * @param entity The entity to check for interaction.
+     * @return true if the entity is interactable, false otherwise.
+     */
+    private boolean isInteractable(Entity entity) {
+        return !(entity instanceof WhiskerRobotEntity);
+    }
+
+    /**
+     * Adjusts the robot's direction to steer away from a detected obstacle,
+     * unless an obstacle was detected within the last second.
+     *
+     * @param world The world, used to convert the cooldown into ticks.
+     */
+    public void avoidObstacle(World world) {
+        if (!detectionCooldown.isActive()) {
+            // Adjust the robot's direction to steer away from the obstacle
+            setDirection(getDirection() + getRandom().nextDouble() * 110 - 45);
+
+            // Ignore further detections until the cooldown is over
+            detectionCooldown.start(world.millisToTicks(DETECTION_RESET_MILLIS));
+        }
+    }
+
+    /**
+     * Returns whether the whiskers are currently in their post-detection state.
+     *
+     * @return true if an obstacle was detected within the last second, false otherwise.
+     */
+    public boolean isRecentlyDetectedObstacle() {
+        return detectionCooldown.isActive();
+    }
+
+    /**
+     * Whisker robots steer around obstacles themselves, so obstacle effects do not apply to them.
+     *
+     * @return false
+     */
+    @Override
+    public boolean interactsWithObstacles() {
+        return false;
+    }
+}
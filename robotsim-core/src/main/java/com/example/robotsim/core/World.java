@@ -0,0 +1,1096 @@
+package com.example.robotsim.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+/**
+ * The World class holds the complete simulation state: the arena size, all robots and obstacles,
+ * and any delayed effects still pending. It has no dependency on JavaFX, so it can be stepped
+ * headless; the user interface only mirrors its state into scene-graph nodes.
+ * <p>
+ * All randomness derives from a single master seed: each robot receives its own generator split
+ * from it when added. Adding the same robots in the same order therefore reproduces the same
+ * trajectories, which keeps runs comparable.
+ */
+public class World {
+
+    /** Default cell size of the spatial grid, close to the size of a typical robot. */
+    public static final double DEFAULT_CELL_SIZE = 100;
+
+    /** Tick length robot speeds are given for; longer ticks move robots proportionally further. */
+    public static final long REFERENCE_TICK_MILLIS = 50;
+
+    private static final int TIMER_WHEEL_BUCKETS = 256;  // One revolution covers 256 ticks of delay
+    private static final Predicate<Entity> NOT_REMOVED = entity -> !entity.isRemoved();  // Skips prey consumed since the rebuild
+
+    private final long tickMillis;  // Simulated time covered by one tick
+    private final double motionScale;  // Reference ticks of movement per tick
+    private final long seed;  // Master seed all robot generators are split from
+    private SplittableRandom masterRandom;  // Generator handing out per-robot generators
+    private double width;  // Width of the arena
+    private double height;  // Height of the arena
+    private final EntityRegistry registry = new EntityRegistry();  // All robots and obstacles, by id and by name
+    private final List<RobotEntity> robots = registry.getRobots();  // All robots, in registry order
+    private final List<ObstacleEntity> obstacles = registry.getObstacles();  // All obstacles, in registry order
+    private final List<WorldListener> listeners = new ArrayList<>();  // Listeners notified about entity changes
+    private SpatialGrid grid = new SpatialGrid(DEFAULT_CELL_SIZE);  // Broadphase for intersection queries
+    private final TimerWheel timerWheel = new TimerWheel(TIMER_WHEEL_BUCKETS);  // Pending delayed effects
+    private long tick = 0;  // Number of ticks simulated so far
+    private final int[] typeCounts = new int[EntityType.values().length];  // Number of entities of every type
+    private long obstacleHits = 0;  // Number of times a robot collided with an obstacle
+    private final List<ObstacleEntity> movedObstacles = new ArrayList<>();  // Obstacles to re-index on the next tick
+    private int activeRobots = 0;  // Number of robots stepped in the last tick
+    private int sleepingRobots = 0;  // Number of robots skipped in the last tick because they were asleep
+    private long sleepingRobotTicks = 0;  // Number of robot steps skipped since the world was last cleared
+    private final List<Contact> contacts = new ArrayList<>();  // Obstacles hit by the robot being stepped, reused
+    private final NearestNeighbourIndex preyIndex = new NearestNeighbourIndex();  // Prey of hunting predators
+    private boolean hunting = false;  // Whether predators steer towards the nearest prey
+    private TickProfiler profiler;  // Measures the phases of sampled ticks, null if profiling is off
+    private final long[] phaseNanos = new long[TickProfiler.Phase.values().length];  // Time spent per phase in the running tick
+    private boolean timing;  // Whether the phases of the running tick are timed
+    private long phaseStart;  // Start of the phase being timed
+
+    // Rectangle robots bounce off (e.g. an info panel overlaid on the arena)
+    private boolean hasReservedArea = false;
+    private double reservedMinX;
+    private double reservedMinY;
+    private double reservedMaxX;
+    private double reservedMaxY;
+
+    /**
+     * Constructs an empty World with a randomly chosen master seed.
+     *
+     * @param width      The width of the arena.
+     * @param height     The height of the arena.
+     * @param tickMillis The simulated time covered by one tick, in milliseconds.
+     */
+    public World(double width, double height, long tickMillis) {
+        this(width, height, tickMillis, new SplittableRandom().nextLong());
+    }
+
+    /**
+     * Constructs an empty World with the given master seed.
+     *
+     * @param width      The width of the arena.
+     * @param height     The height of the arena.
+     * @param tickMillis The simulated time covered by one tick, in milliseconds.
+     * @param seed       The master seed for all randomness in the world.
+     */
+    public World(double width, double height, long tickMillis, long seed) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick length must be positive: " + tickMillis);
+        }
+        this.width = width;
+        this.height = height;
+        this.tickMillis = tickMillis;
+        this.motionScale = (double) tickMillis / REFERENCE_TICK_MILLIS;
+        this.seed = seed;
+        this.masterRandom = new SplittableRandom(seed);
+    }
+
+    /**
+     * Advances the world by one tick. Due effects run first, then every robot is stepped
+     * in registry order: it moves and senses, triggers the obstacles it collides with along its move,
+     * and finally bounces off the walls and the reserved area. Robots removed earlier in the
+     * same tick are skipped, and so are sleeping robots: a robot that ends its step standing still
+     * sleeps until it is given a speed, e.g. by a delayed effect, or moved, e.g. dragged by the user
+     * or hit by a dragged obstacle. While predators hunt, the index of their prey is rebuilt before
+     * the robots are stepped. On the ticks sampled by the profiler, or while Flight Recorder records
+     * {@link TickEvent}s, the time spent in every phase is measured.
+     */
+    public void step() {
+        tick++;
+        TickEvent tickEvent = SimulationEvents.ENABLED ? new TickEvent() : null;
+        timing = profiler != null && profiler.isSampled(tick) || tickEvent != null && tickEvent.isEnabled();
+        if (timing) {
+            Arrays.fill(phaseNanos, 0);
+            if (tickEvent != null) {
+                tickEvent.begin();
+            }
+            phaseStart = System.nanoTime();
+        }
+        grid.resetCounters();
+        refreshGrid();
+        endPhase(TickProfiler.Phase.MOVEMENT);
+
+        PhaseEvent effectsEvent = SimulationEvents.ENABLED ? PhaseEvent.start(TickProfiler.Phase.EFFECTS) : null;
+        timerWheel.advance();  // Run the effects due on this tick
+        if (effectsEvent != null) {
+            effectsEvent.finish(this);
+        }
+        endPhase(TickProfiler.Phase.EFFECTS);
+
+        if (hunting && typeCounts[EntityType.PREDATOR_ROBOT.ordinal()] > 0) {
+            PhaseEvent indexEvent = SimulationEvents.ENABLED ? PhaseEvent.start(TickProfiler.Phase.PREY_INDEX) : null;
+            preyIndex.rebuild(robots, World::isPrey);
+            if (indexEvent != null) {
+                indexEvent.finish(this);
+            }
+        } else {
+            preyIndex.clear();
+        }
+        endPhase(TickProfiler.Phase.PREY_INDEX);
+
+        // Iterate over a snapshot so robots can be removed while the tick is running
+        int active = 0;
+        int sleeping = 0;
+        for (RobotEntity robot : robots.toArray(new RobotEntity[0])) {
+            if (robot.isRemoved()) {
+                continue;
+            }
+            if (robot.isSleeping()) {
+                sleeping++;
+                continue;
+            }
+            active++;
+            stepRobot(robot);
+        }
+        activeRobots = active;
+        sleepingRobots = sleeping;
+        sleepingRobotTicks += sleeping;
+
+        if (profiler != null) {
+            profiler.endTick(phaseNanos, timing, grid.getCandidatePairs());
+        }
+        if (tickEvent != null) {
+            commitTickEvent(tickEvent);
+        }
+    }
+
+    /**
+     * Adds the time since the end of the previous phase to the given phase, if the tick is timed.
+     *
+     * @param phase The phase that just ended.
+     */
+    private void endPhase(TickProfiler.Phase phase) {
+        if (timing) {
+            long now = System.nanoTime();
+            phaseNanos[phase.ordinal()] += now - phaseStart;
+            phaseStart = now;
+        }
+    }
+
+    /**
+     * Commits the event of the tick that just ended with its phase times and entity counts,
+     * if a recording is interested in it.
+     *
+     * @param event The event of the tick.
+     */
+    private void commitTickEvent(TickEvent event) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.tick = tick;
+            event.robotCount = robots.size();
+            event.obstacleCount = obstacles.size();
+            event.activeRobots = activeRobots;
+            event.sleepingRobots = sleepingRobots;
+            event.pendingEffects = timerWheel.getPendingCount();
+            event.collisionTests = grid.getCandidatePairs();
+            event.preyQueries = preyIndex.getQueries();
+            event.preyNodesVisited = preyIndex.getVisitedNodes();
+            event.effectsTime = phaseNanos[TickProfiler.Phase.EFFECTS.ordinal()];
+            event.preyIndexTime = phaseNanos[TickProfiler.Phase.PREY_INDEX.ordinal()];
+            event.movementTime = phaseNanos[TickProfiler.Phase.MOVEMENT.ordinal()];
+            event.sensingTime = phaseNanos[TickProfiler.Phase.SENSING.ordinal()];
+            event.obstacleCollisionTime = phaseNanos[TickProfiler.Phase.OBSTACLE_COLLISION.ordinal()];
+            event.commit();
+        }
+    }
+
+    /**
+     * Steps a single robot, handling its movement and its collisions with walls, the reserved area and obstacles.
+     * Collisions with walls and obstacles are swept over the whole move, so a robot moving further than an
+     * obstacle is wide in one tick still hits it. Obstacles are swept over the move as travelled, before the walls
+     * reflect it, so a robot that bounces within the tick still hits the obstacles between its start and the wall.
+     * A robot left standing still is put to sleep if it may sleep.
+     *
+     * @param robot the robot to step
+     */
+    private void stepRobot(RobotEntity robot) {
+        double startX = robot.getX();
+        double startY = robot.getY();
+        robot.move(this);
+        endPhase(TickProfiler.Phase.MOVEMENT);
+        robot.sense(this);
+        endPhase(TickProfiler.Phase.SENSING);
+        if (robot.isRemoved()) {
+            return;
+        }
+
+        // Detect collisions with obstacles; sensing robots steer around them instead
+        if (robot.interactsWithObstacles()) {
+            handleObstacleCollisions(robot, startX, startY);
+        }
+        endPhase(TickProfiler.Phase.OBSTACLE_COLLISION);
+
+        bounceOffWalls(robot);
+        grid.update(robot);  // Later robots must see the new position
+
+        // Handle reserved area collisions
+        if (hasReservedArea && robot.intersects(reservedMinX, reservedMinY,
+                reservedMaxX - reservedMinX, reservedMaxY - reservedMinY)) {
+            bounceOffReservedArea(robot);
+            grid.update(robot);
+        }
+        endPhase(TickProfiler.Phase.MOVEMENT);
+
+        if (robot.getSpeed() == 0 && robot.canSleep()) {
+            robot.setSleeping(true);
+        }
+    }
+
+    /**
+     * Bounces a robot off the arena walls it reached during its move. A robot that ended up past a wall
+     * is reflected back by the distance it overshot, as if it had bounced at the moment of impact.
+     *
+     * @param robot the robot to bounce
+     */
+    private void bounceOffWalls(RobotEntity robot) {
+        double maxX = width - robot.getWidth();
+        double maxY = height - robot.getHeight();
+        double x = robot.getX();
+        double y = robot.getY();
+        if (x <= 0 || x >= maxX) {
+            robot.bounceHorizontally();
+            x = Math.max(0, Math.min(x < 0 ? -x : x > maxX ? 2 * maxX - x : x, maxX));
+        }
+        if (y <= 0 || y >= maxY) {
+            robot.bounceVertically();
+            y = Math.max(0, Math.min(y < 0 ? -y : y > maxY ? 2 * maxY - y : y, maxY));
+        }
+        robot.setPosition(x, y);
+    }
+
+    /**
+     * Handles the interaction of a robot with obstacles in the arena.
+     * This is used for robots that do not avoid obstacles themselves.
+     *
+     * @param robot the robot to check for obstacle interactions
+     */
+    public void handleNormalRobotObstacleInteraction(RobotEntity robot) {
+        handleObstacleCollisions(robot, robot.getX(), robot.getY());
+    }
+
+    /**
+     * Applies the effects of the obstacles a robot hit while moving from the start position to its current one,
+     * in the order it reached them. Obstacles the robot overlaps at the end are hit as usual. An obstacle the
+     * robot passed through entirely is hit at the point of impact: the robot is put there for the collision,
+     * and stays there if the obstacle changed its speed or direction; otherwise it was let through.
+     *
+     * @param robot  the robot to check for obstacle interactions
+     * @param startX the X-coordinate of the robot before its move
+     * @param startY the Y-coordinate of the robot before its move
+     */
+    private void handleObstacleCollisions(RobotEntity robot, double startX, double startY) {
+        double endX = robot.getX();
+        double endY = robot.getY();
+        double dx = endX - startX;
+        double dy = endY - startY;
+        contacts.clear();
+        grid.forEachIntersecting(Math.min(startX, endX), Math.min(startY, endY), Math.abs(dx) + robot.getWidth(),
+                Math.abs(dy) + robot.getHeight(), robot, entity -> entity instanceof ObstacleEntity, entity -> {
+                    double time = timeOfImpact(startX, startY, dx, dy, robot.getWidth(), robot.getHeight(), entity);
+                    if (robot.intersects(entity) || time > 0) {
+                        contacts.add(new Contact((ObstacleEntity) entity, Math.max(0, time)));
+                    }
+                    return true;
+                });
+        if (contacts.size() > 1) {
+            contacts.sort(Comparator.comparingDouble(Contact::time));
+        }
+
+        for (Contact contact : contacts) {
+            obstacleHits++;
+            if (robot.intersects(contact.obstacle())) {
+                contact.obstacle().handleCollision(robot, this);  // Polymorphic behavior handles specific logic
+                continue;
+            }
+
+            // The robot passed through the obstacle within the tick; meet it where it was first touched
+            double direction = robot.getDirection();
+            double speed = robot.getSpeed();
+            robot.setPosition(startX + dx * contact.time(), startY + dy * contact.time());
+            contact.obstacle().handleCollision(robot, this);
+            if (robot.getDirection() != direction || robot.getSpeed() != speed) {
+                break;  // Stopped or deflected here, so the obstacles further along were never reached
+            }
+            robot.setPosition(endX, endY);
+        }
+        contacts.clear();
+    }
+
+    /**
+     * Computes how far an entity's bounding box is from the tip of a cone, if any part of it lies inside.
+     * The box is inside if its point nearest the tip is, or else if either edge of the cone crosses it;
+     * with a half angle of at most 90 degrees the cone is convex, so no other case remains.
+     *
+     * @param originX the X-coordinate of the cone's tip
+     * @param originY the Y-coordinate of the cone's tip
+     * @param dirX    the X-component of the cone's unit axis
+     * @param dirY    the Y-component of the cone's unit axis
+     * @param cosHalf the cosine of the cone's half angle
+     * @param range   the radius of the cone
+     * @param leftX   the X-component of the cone's left edge, as long as the range
+     * @param leftY   the Y-component of the cone's left edge
+     * @param rightX  the X-component of the cone's right edge
+     * @param rightY  the Y-component of the cone's right edge
+     * @param target  the entity to test
+     * @return the distance from the tip to the nearest point of the box inside the cone, or -1 if it is outside
+     */
+    static double coneDistance(double originX, double originY, double dirX, double dirY, double cosHalf, double range,
+                               double leftX, double leftY, double rightX, double rightY, Entity target) {
+        double offsetX = Math.max(target.getX(), Math.min(originX, target.getX() + target.getWidth())) - originX;
+        double offsetY = Math.max(target.getY(), Math.min(originY, target.getY() + target.getHeight())) - originY;
+        double nearest = Math.hypot(offsetX, offsetY);
+        if (nearest > range) {
+            return -1;
+        }
+        if (offsetX * dirX + offsetY * dirY >= cosHalf * nearest) {
+            return nearest;  // Also covers a tip inside the box
+        }
+
+        // The nearest point is off to one side, so the nearest point inside the cone lies on one of its edges
+        double left = timeOfImpact(originX, originY, leftX, leftY, 0, 0, target);
+        double right = timeOfImpact(originX, originY, rightX, rightY, 0, 0, target);
+        if (left < 0 && right < 0) {
+            return -1;
+        }
+        double time = left < 0 ? right : right < 0 ? left : Math.min(left, right);
+        return time * range;
+    }
+
+    /**
+     * Computes when a box moving in a straight line first touches an entity's bounding box.
+     *
+     * @param x      the X-coordinate of the box at the start of the move
+     * @param y      the Y-coordinate of the box at the start of the move
+     * @param dx     the horizontal distance moved
+     * @param dy     the vertical distance moved
+     * @param width  the width of the box
+     * @param height the height of the box
+     * @param target the entity to test against
+     * @return the fraction of the move at which the boxes first touch, between 0 and 1;
+     *         0 if they overlap at the start, or -1 if they never touch during the move
+     */
+    static double timeOfImpact(double x, double y, double dx, double dy, double width, double height, Entity target) {
+        // Sweep the top-left corner against the target grown by the size of the box
+        double enterX;
+        double exitX;
+        double minX = target.getX() - width;
+        double maxX = target.getX() + target.getWidth();
+        if (dx == 0) {
+            if (x < minX || x > maxX) {
+                return -1;
+            }
+            enterX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (minX - x) / dx;
+            double t2 = (maxX - x) / dx;
+            enterX = Math.min(t1, t2);
+            exitX = Math.max(t1, t2);
+        }
+
+        double enterY;
+        double exitY;
+        double minY = target.getY() - height;
+        double maxY = target.getY() + target.getHeight();
+        if (dy == 0) {
+            if (y < minY || y > maxY) {
+                return -1;
+            }
+            enterY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        } else {
+            double t1 = (minY - y) / dy;
+            double t2 = (maxY - y) / dy;
+            enterY = Math.min(t1, t2);
+            exitY = Math.max(t1, t2);
+        }
+
+        double enter = Math.max(enterX, enterY);
+        double exit = Math.min(exitX, exitY);
+        if (enter > exit || exit < 0 || enter > 1) {
+            return -1;
+        }
+        return Math.max(0, enter);
+    }
+
+    /**
+     * Brings the spatial grid up to date with the arena size and with entities moved
+     * outside the simulation, e.g. dragged by the user. Awake robots that stayed in their
+     * cells cost only a bounds check; sleeping robots have not moved, as moving wakes them.
+     * Obstacles form a static layer: only those moved since the last tick are re-indexed,
+     * and they wake the robots they were moved onto.
+     */
+    private void refreshGrid() {
+        grid.resize(width, height);
+        for (int i = 0; i < robots.size(); i++) {
+            RobotEntity robot = robots.get(i);
+            if (!robot.isSleeping()) {
+                grid.update(robot);
+            }
+        }
+        for (ObstacleEntity obstacle : movedObstacles) {
+            obstacle.moved = false;
+            if (obstacle.isRemoved()) {
+                continue;
+            }
+            grid.update(obstacle);
+            grid.forEachIntersecting(obstacle, entity -> entity instanceof RobotEntity, entity -> {
+                ((RobotEntity) entity).setSleeping(false);
+                return true;
+            });
+        }
+        movedObstacles.clear();
+    }
+
+    /**
+     * Records that an obstacle was moved, so it is re-indexed on the next tick. Called by the obstacle.
+     *
+     * @param obstacle The obstacle.
+     */
+    void obstacleMoved(ObstacleEntity obstacle) {
+        movedObstacles.add(obstacle);
+    }
+
+    /**
+     * Wakes every robot, e.g. because the arena changed under the sleeping ones.
+     */
+    private void wakeAll() {
+        for (int i = 0; i < robots.size(); i++) {
+            robots.get(i).setSleeping(false);
+        }
+    }
+
+    /**
+     * Makes a robot bounce off the reserved area and moves it slightly away from it.
+     *
+     * @param robot the robot to adjust after collision with the reserved area
+     */
+    private void bounceOffReservedArea(RobotEntity robot) {
+        double minX = robot.getX();
+        double minY = robot.getY();
+        double maxX = minX + robot.getWidth();
+        double maxY = minY + robot.getHeight();
+
+        if (maxX > reservedMinX && minX < reservedMinX) {
+            robot.bounceHorizontally();
+            robot.setPosition(minX - 5, minY);
+        } else if (minX < reservedMaxX && maxX > reservedMaxX) {
+            robot.bounceHorizontally();
+            robot.setPosition(minX + 5, minY);
+        } else if (maxY > reservedMinY && minY < reservedMinY) {
+            robot.bounceVertically();
+            robot.setPosition(minX, minY - 5);
+        } else if (minY < reservedMaxY && maxY > reservedMaxY) {
+            robot.bounceVertically();
+            robot.setPosition(minX, minY + 5);
+        }
+    }
+
+    /**
+     * Schedules an effect to run after the given amount of simulated time.
+     * Because the delay is measured in ticks, effects honour pausing and fast-forward.
+     *
+     * @param delayMillis The delay in simulated milliseconds.
+     * @param effect      The effect to run.
+     */
+    public void schedule(long delayMillis, Runnable effect) {
+        timerWheel.schedule(millisToTicks(delayMillis), effect);
+    }
+
+    /**
+     * Schedules an effect for an entity. If the same kind of effect is already pending for the entity,
+     * the pending effect is rescheduled instead, so repeated triggers never pile up duplicates.
+     *
+     * @param owner       The entity the effect belongs to.
+     * @param kind        The kind of effect.
+     * @param delayMillis The delay in simulated milliseconds.
+     * @param effect      The effect to run.
+     */
+    public void schedule(Entity owner, EffectKind kind, long delayMillis, Runnable effect) {
+        timerWheel.schedule(owner, kind, millisToTicks(delayMillis), effect);
+    }
+
+    /**
+     * Returns whether an effect of the given kind is pending for an entity.
+     *
+     * @param owner The entity the effect belongs to.
+     * @param kind  The kind of effect.
+     * @return true if such an effect is pending, false otherwise.
+     */
+    public boolean isEffectPending(Entity owner, EffectKind kind) {
+        return timerWheel.isPending(owner, kind);
+    }
+
+    /**
+     * Cancels a pending effect of the given kind for an entity.
+     *
+     * @param owner The entity the effect belongs to.
+     * @param kind  The kind of effect.
+     * @return true if a pending effect was cancelled, false otherwise.
+     */
+    public boolean cancelEffect(Entity owner, EffectKind kind) {
+        return timerWheel.cancel(owner, kind);
+    }
+
+    /**
+     * Converts simulated milliseconds into whole ticks, rounding up to at least one tick.
+     *
+     * @param delayMillis The delay in milliseconds.
+     * @return The delay in ticks.
+     */
+    public long millisToTicks(long delayMillis) {
+        return Math.max(1, (delayMillis + tickMillis - 1) / tickMillis);
+    }
+
+    /**
+     * Casts a ray from a point in a direction and returns the distance to the nearest entity it hits,
+     * e.g. for a whisker. Only the spatial grid cells along the ray are visited; the source itself is never hit.
+     *
+     * @param source      The entity casting the ray.
+     * @param originX     The X-coordinate of the ray's origin.
+     * @param originY     The Y-coordinate of the ray's origin.
+     * @param direction   The direction of the ray in degrees, measured like a robot's direction.
+     * @param maxDistance The length of the ray.
+     * @param filter      The filter entities must satisfy to be hit.
+     * @return The distance to the nearest hit, or {@link Double#POSITIVE_INFINITY} if nothing is hit within the length.
+     */
+    public double castRay(Entity source, double originX, double originY, double direction, double maxDistance,
+                          Predicate<Entity> filter) {
+        double radians = Math.toRadians(direction);
+        return grid.raycast(originX, originY, Math.cos(radians), Math.sin(radians), maxDistance, source, filter);
+    }
+
+    /**
+     * Returns the entities inside a cone, e.g. a sensor's field of view, nearest first. The cone is a circular
+     * sector from a point, reaching a range around a direction. Only the spatial grid cells under the sector's
+     * bounding box are visited, and an entity is inside if any part of its bounding box is; the source itself
+     * is never returned.
+     *
+     * @param source    The entity looking, or null.
+     * @param originX   The X-coordinate of the cone's tip.
+     * @param originY   The Y-coordinate of the cone's tip.
+     * @param direction The direction of the cone's axis in degrees, measured like a robot's direction.
+     * @param halfAngle The angle between the axis and either edge of the cone, in degrees, at most 90.
+     * @param range     The radius of the cone.
+     * @param filter    The filter entities must satisfy to be seen.
+     * @return A new list of the entities in the cone, sorted by the distance of their nearest visible point.
+     * @throws IllegalArgumentException If the half angle is not between 0 and 90 degrees, or the range is
+     *                                  negative or not finite.
+     */
+    public List<Sighting> findInCone(Entity source, double originX, double originY, double direction,
+                                     double halfAngle, double range, Predicate<Entity> filter) {
+        if (!(halfAngle > 0 && halfAngle <= 90)) {
+            throw new IllegalArgumentException("Cone half angle must be in (0, 90] degrees: " + halfAngle);
+        }
+        if (!(range >= 0) || Double.isInfinite(range)) {
+            throw new IllegalArgumentException("Cone range must be finite and non-negative: " + range);
+        }
+        double radians = Math.toRadians(direction);
+        double dirX = Math.cos(radians);
+        double dirY = Math.sin(radians);
+        double cosHalf = Math.cos(Math.toRadians(halfAngle));
+        double leftX = Math.cos(radians - Math.toRadians(halfAngle)) * range;  // Edges of the cone, as moves
+        double leftY = Math.sin(radians - Math.toRadians(halfAngle)) * range;
+        double rightX = Math.cos(radians + Math.toRadians(halfAngle)) * range;
+        double rightY = Math.sin(radians + Math.toRadians(halfAngle)) * range;
+
+        // Bound the tip, the ends of both edges, and the points of the arc furthest along each axis that it reaches
+        double minX = Math.min(0, Math.min(leftX, rightX));
+        double maxX = Math.max(0, Math.max(leftX, rightX));
+        double minY = Math.min(0, Math.min(leftY, rightY));
+        double maxY = Math.max(0, Math.max(leftY, rightY));
+        if (dirX >= cosHalf) maxX = range;
+        if (-dirX >= cosHalf) minX = -range;
+        if (dirY >= cosHalf) maxY = range;
+        if (-dirY >= cosHalf) minY = -range;
+
+        List<Sighting> result = new ArrayList<>();
+        grid.forEachIntersecting(originX + minX, originY + minY, maxX - minX, maxY - minY, source, filter, entity -> {
+            double distance = coneDistance(originX, originY, dirX, dirY, cosHalf, range,
+                    leftX, leftY, rightX, rightY, entity);
+            if (distance >= 0) {
+                result.add(new Sighting(entity, distance));
+            }
+            return true;
+        });
+        result.sort(Comparator.comparingDouble(Sighting::distance));
+        return result;
+    }
+
+    /**
+     * Returns the prey whose centre was nearest to a point at the start of the tick, skipping prey removed since.
+     * Prey are all robots but predators, and are only indexed while predators hunt.
+     *
+     * @param x The X-coordinate of the point.
+     * @param y The Y-coordinate of the point.
+     * @return The nearest prey, or {@code null} if there is none or predators do not hunt.
+     */
+    public Entity findNearestPrey(double x, double y) {
+        return preyIndex.findNearest(x, y, NOT_REMOVED);
+    }
+
+    /**
+     * Tells whether an entity is prey for hunting predators.
+     *
+     * @param entity The entity.
+     * @return true for every robot but predators, false otherwise.
+     */
+    private static boolean isPrey(Entity entity) {
+        return !(entity instanceof PredatorRobotEntity);
+    }
+
+    /**
+     * Returns the first entity intersecting the source entity that satisfies the filter.
+     * Only entities in the spatial grid cells around the source are tested; the source itself
+     * is never returned.
+     *
+     * @param source The entity to test against.
+     * @param filter The filter candidate entities must satisfy.
+     * @return The first intersecting entity found, or {@code null} if there is none.
+     */
+    public Entity findFirstIntersecting(Entity source, Predicate<Entity> filter) {
+        Entity[] found = new Entity[1];
+        grid.forEachIntersecting(source, filter, entity -> {
+            found[0] = entity;
+            return false;  // Stop at the first hit
+        });
+        return found[0];
+    }
+
+    /**
+     * Returns all entities intersecting the source entity that satisfy the filter.
+     *
+     * @param source The entity to test against.
+     * @param filter The filter candidate entities must satisfy.
+     * @return A new list of intersecting entities.
+     */
+    public List<Entity> findAllIntersecting(Entity source, Predicate<Entity> filter) {
+        List<Entity> result = new ArrayList<>();
+        grid.forEachIntersecting(source, filter, entity -> {
+            result.add(entity);
+            return true;
+        });
+        return result;
+    }
+
+    /**
+     * Adds a robot to the world. The robot receives a generator split from the master seed,
+     * and its direction and speed are re-rolled from it.
+     *
+     * @param robot The robot to add.
+     */
+    public void addRobot(RobotEntity robot) {
+        insertRobot(robot);
+        for (WorldListener listener : listeners) {
+            listener.entityAdded(robot);
+        }
+    }
+
+    /**
+     * Adds an obstacle to the world.
+     *
+     * @param obstacle The obstacle to add.
+     */
+    public void addObstacle(ObstacleEntity obstacle) {
+        insertObstacle(obstacle);
+        for (WorldListener listener : listeners) {
+            listener.entityAdded(obstacle);
+        }
+    }
+
+    /**
+     * Adds a batch of robots and obstacles in the given order and notifies the listeners once
+     * for the whole batch, e.g. after loading an arena file.
+     *
+     * @param entities The robots and obstacles to add.
+     * @throws IllegalArgumentException If an entity is neither a robot nor an obstacle.
+     */
+    public void addAll(List<? extends Entity> entities) {
+        for (Entity entity : entities) {
+            if (entity instanceof RobotEntity robot) {
+                insertRobot(robot);
+            } else if (entity instanceof ObstacleEntity obstacle) {
+                insertObstacle(obstacle);
+            } else {
+                throw new IllegalArgumentException("Unknown entity class: " + entity.getClass().getName());
+            }
+        }
+        for (WorldListener listener : listeners) {
+            listener.entitiesAdded(entities);
+        }
+    }
+
+    /**
+     * Registers a robot in the world without notifying the listeners.
+     *
+     * @param robot The robot to register.
+     */
+    private void insertRobot(RobotEntity robot) {
+        registry.register(robot);
+        robot.setRandom(masterRandom.split());
+        robot.setRemoved(false);
+        robot.setSleeping(false);
+        grid.insert(robot);
+        typeCounts[EntityType.of(robot).ordinal()]++;
+    }
+
+    /**
+     * Registers an obstacle in the world without notifying the listeners.
+     *
+     * @param obstacle The obstacle to register.
+     */
+    private void insertObstacle(ObstacleEntity obstacle) {
+        registry.register(obstacle);
+        obstacle.setRemoved(false);
+        obstacle.world = this;
+        obstacle.moved = false;
+        grid.insert(obstacle);
+        typeCounts[EntityType.of(obstacle).ordinal()]++;
+    }
+
+    /**
+     * Removes a robot or an obstacle from the world and notifies the listeners. The removal takes constant time;
+     * the last robot or obstacle takes the place of the removed one in the registry order.
+     * Removing an entity that is not part of the world has no effect.
+     *
+     * @param entity The entity to remove.
+     */
+    public void remove(Entity entity) {
+        if (registry.unregister(entity)) {
+            entity.setRemoved(true);
+            if (entity instanceof ObstacleEntity obstacle) {
+                obstacle.world = null;
+            }
+            grid.remove(entity);
+            typeCounts[EntityType.of(entity).ordinal()]--;
+            for (WorldListener listener : listeners) {
+                listener.entityRemoved(entity);
+            }
+        }
+    }
+
+    /**
+     * Removes all robots, obstacles and pending effects without notifying listeners,
+     * and restarts the master generator so a freshly built arena replays identically.
+     */
+    public void clear() {
+        masterRandom = new SplittableRandom(seed);
+        tick = 0;
+        robots.forEach(robot -> robot.setRemoved(true));
+        obstacles.forEach(obstacle -> {
+            obstacle.setRemoved(true);
+            obstacle.world = null;
+            obstacle.moved = false;
+        });
+        registry.clear();
+        grid.clear();
+        timerWheel.clear();
+        Arrays.fill(typeCounts, 0);
+        obstacleHits = 0;
+        movedObstacles.clear();
+        activeRobots = 0;
+        sleepingRobots = 0;
+        sleepingRobotTicks = 0;
+        preyIndex.clear();
+    }
+
+    /**
+     * Replaces the spatial grid with one using the given cell size, re-registering every entity.
+     * Compare {@link SpatialGrid#getCandidatePairs()} with {@link SpatialGrid#getHits()} to tune it.
+     *
+     * @param cellSize The new cell size.
+     */
+    public void setCellSize(double cellSize) {
+        grid.clear();
+        grid = new SpatialGrid(cellSize);
+        grid.resize(width, height);
+        robots.forEach(grid::insert);
+        obstacles.forEach(grid::insert);
+    }
+
+    /**
+     * Sets whether predators hunt, steering towards the nearest prey instead of wandering.
+     *
+     * @param hunting true to let predators hunt.
+     */
+    public void setHunting(boolean hunting) {
+        this.hunting = hunting;
+    }
+
+    /**
+     * Returns whether predators hunt.
+     *
+     * @return true if predators steer towards the nearest prey, false otherwise.
+     */
+    public boolean isHunting() {
+        return hunting;
+    }
+
+    /**
+     * Returns the index of the prey of hunting predators, rebuilt every tick while they hunt.
+     * Its counters hold the cost of the nearest-prey queries of the current tick.
+     *
+     * @return The prey index.
+     */
+    public NearestNeighbourIndex getPreyIndex() {
+        return preyIndex;
+    }
+
+    /**
+     * Sets the profiler measuring the phases of sampled ticks.
+     *
+     * @param profiler The profiler, or null to stop profiling.
+     */
+    public void setProfiler(TickProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Returns the profiler measuring the phases of sampled ticks.
+     *
+     * @return The profiler, or null if profiling is off.
+     */
+    public TickProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the number of entities of a type in the world. Kept up to date on every change,
+     * so it is cheap enough to be polled, e.g. by monitoring.
+     *
+     * @param type The entity type.
+     * @return The number of robots or obstacles of the type.
+     */
+    public int getCount(EntityType type) {
+        return typeCounts[type.ordinal()];
+    }
+
+    /**
+     * Returns the spatial grid used for intersection queries, e.g. to read its candidate and hit counters.
+     *
+     * @return The spatial grid.
+     */
+    public SpatialGrid getSpatialGrid() {
+        return grid;
+    }
+
+    /**
+     * Returns the timer wheel holding the pending delayed effects, e.g. to read its counters.
+     *
+     * @return The timer wheel.
+     */
+    public TimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
+    /**
+     * Registers a listener notified about added and removed entities.
+     *
+     * @param listener The listener to add.
+     */
+    public void addListener(WorldListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Sets the size of the arena.
+     *
+     * @param width  The new width.
+     * @param height The new height.
+     */
+    public void setSize(double width, double height) {
+        if (width != this.width || height != this.height) {
+            wakeAll();  // Sleeping robots may now be outside the walls
+        }
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Sets a rectangle that robots bounce off, such as an info panel overlaid on the arena.
+     *
+     * @param minX The X-coordinate of the rectangle's top-left corner.
+     * @param minY The Y-coordinate of the rectangle's top-left corner.
+     * @param maxX The X-coordinate of the rectangle's bottom-right corner.
+     * @param maxY The Y-coordinate of the rectangle's bottom-right corner.
+     */
+    public void setReservedArea(double minX, double minY, double maxX, double maxY) {
+        if (!hasReservedArea || minX != reservedMinX || minY != reservedMinY
+                || maxX != reservedMaxX || maxY != reservedMaxY) {
+            wakeAll();  // Sleeping robots may now overlap the area
+        }
+        this.hasReservedArea = true;
+        this.reservedMinX = minX;
+        this.reservedMinY = minY;
+        this.reservedMaxX = maxX;
+        this.reservedMaxY = maxY;
+    }
+
+    /**
+     * Returns the robots in the world, in registry order: insertion order, except that a removed robot's
+     * place is taken by the last one.
+     *
+     * @return An unmodifiable view of the robots.
+     */
+    public List<RobotEntity> getRobots() {
+        return robots;
+    }
+
+    /**
+     * Returns the obstacles in the world, in registry order: insertion order, except that a removed obstacle's
+     * place is taken by the last one.
+     *
+     * @return An unmodifiable view of the obstacles.
+     */
+    public List<ObstacleEntity> getObstacles() {
+        return obstacles;
+    }
+
+    /**
+     * Returns the robot or obstacle with an id.
+     *
+     * @param id The id, as returned by {@link Entity#getId()}.
+     * @return The entity, or {@code null} if it has been removed or the id is unknown.
+     */
+    public Entity getEntity(long id) {
+        return registry.get(id);
+    }
+
+    /**
+     * Returns the earliest added robot with a name, ignoring case.
+     *
+     * @param name The name.
+     * @return The robot, or {@code null} if there is none.
+     */
+    public RobotEntity findRobot(String name) {
+        return registry.findRobot(name);
+    }
+
+    /**
+     * Returns the earliest added obstacle with a name, ignoring case.
+     *
+     * @param name The name.
+     * @return The obstacle, or {@code null} if there is none.
+     */
+    public ObstacleEntity findObstacle(String name) {
+        return registry.findObstacle(name);
+    }
+
+    /**
+     * Returns the width of the arena.
+     *
+     * @return The width.
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the height of the arena.
+     *
+     * @return The height.
+     */
+    public double getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the simulated time covered by one tick.
+     *
+     * @return The tick length in milliseconds.
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Returns the number of times a robot collided with an obstacle, counted once per robot,
+     * obstacle and tick, since the world was last cleared.
+     *
+     * @return The obstacle hit count.
+     */
+    public long getObstacleHitCount() {
+        return obstacleHits;
+    }
+
+    /**
+     * Returns the number of robots stepped in the last tick.
+     *
+     * @return The active robot count.
+     */
+    public int getActiveRobotCount() {
+        return activeRobots;
+    }
+
+    /**
+     * Returns the number of robots skipped in the last tick because they were asleep.
+     *
+     * @return The sleeping robot count.
+     */
+    public int getSleepingRobotCount() {
+        return sleepingRobots;
+    }
+
+    /**
+     * Returns the number of robot steps skipped because the robot was asleep, summed over all ticks
+     * since the world was last cleared.
+     *
+     * @return The skipped robot step count.
+     */
+    public long getSleepingRobotTicks() {
+        return sleepingRobotTicks;
+    }
+
+    /**
+     * Returns how many reference ticks of movement one tick covers, i.e. the tick length divided by
+     * {@link #REFERENCE_TICK_MILLIS}. Robots multiply their speed by it when moving.
+     *
+     * @return The motion scale, 1 for the reference tick length.
+     */
+    public double getMotionScale() {
+        return motionScale;
+    }
+
+    /**
+     * Returns the master seed all randomness in the world derives from.
+     *
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Returns the number of ticks simulated so far.
+     *
+     * @return The current tick.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * An entity found inside a cone.
+     *
+     * @param entity   The entity.
+     * @param distance The distance from the tip of the cone to the nearest point of the entity inside it.
+     */
+    public record Sighting(Entity entity, double distance) {
+    }
+
+    /**
+     * An obstacle a robot hit during its move.
+     *
+     * @param obstacle The obstacle.
+     * @param time     The fraction of the move at which the robot first touched it.
+     */
+    private record Contact(ObstacleEntity obstacle, double time) {
+    }
+}
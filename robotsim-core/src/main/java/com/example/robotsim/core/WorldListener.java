@@ -0,0 +1,39 @@
+package com.example.robotsim.core;
+
+import java.util.List;
+
+/**
+ * Listener notified about changes to the set of entities in a {@link World}.
+ * Views use it to keep their scene graph in sync with the model.
+ */
+public interface WorldListener {
+
+    /**
+     * Called after an entity was added to the world.
+     *
+     * @param entity The added entity.
+     */
+    default void entityAdded(Entity entity) {
+    }
+
+    /**
+     * Called after a batch of entities was added to the world at once, see {@link World#addAll(List)}.
+     * By default {@link #entityAdded(Entity)} is called for each of them; listeners that can handle
+     * the whole batch more cheaply should override this.
+     *
+     * @param entities The added entities.
+     */
+    default void entitiesAdded(List<? extends Entity> entities) {
+        for (Entity entity : entities) {
+            entityAdded(entity);
+        }
+    }
+
+    /**
+     * Called after an entity was removed from the world, e.g. because a predator consumed it.
+     *
+     * @param entity The removed entity.
+     */
+    default void entityRemoved(Entity entity) {
+    }
+}
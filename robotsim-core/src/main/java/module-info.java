@@ -0,0 +1,6 @@
+module com.example.robotsim.core {
+    requires transitive java.management;
+    requires transitive jdk.jfr;
+
+    exports com.example.robotsim.core;
+}